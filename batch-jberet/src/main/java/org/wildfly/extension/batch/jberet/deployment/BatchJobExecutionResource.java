@@ -10,6 +10,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import jakarta.batch.operations.BatchRuntimeException;
+import jakarta.batch.runtime.JobExecution;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -103,7 +105,13 @@ public class BatchJobExecutionResource implements Resource {
     @Override
     public boolean hasChildren(final String childType) {
         if (BatchJobExecutionResourceDefinition.EXECUTION.equals(childType)) {
-            return !getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION).isEmpty();
+            synchronized (children) {
+                if (!children.isEmpty()) {
+                    return true;
+                }
+            }
+            // Every job instance has at least one execution, avoid loading the ids of all the executions
+            return jobOperator.allowMissingJob(() -> jobOperator.getJobInstanceCount(jobName), 0) > 0;
         }
         return delegate.hasChildren(childType);
     }
@@ -198,10 +206,27 @@ public class BatchJobExecutionResource implements Resource {
             if (children.contains(executionName)) {
                 return true;
             }
-            // Load a cache of the names
-            refreshChildren();
-            return children.contains(executionName);
         }
+        // Resolve the single execution on demand, rather than loading the ids of all the executions of the job
+        final long executionId;
+        try {
+            executionId = Long.parseLong(executionName);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        final JobExecution execution;
+        try {
+            execution = jobOperator.getJobExecution(executionId);
+        } catch (BatchRuntimeException e) {
+            return false;
+        }
+        if (execution == null || !jobName.equals(execution.getJobName())) {
+            return false;
+        }
+        synchronized (children) {
+            children.add(executionName);
+        }
+        return true;
     }
 
     /**
@@ -5,13 +5,25 @@
 
 package org.wildfly.extension.batch.jberet.deployment;
 
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.JobInstance;
+
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleListAttributeDefinition;
+import org.jboss.as.controller.SimpleOperationDefinition;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -41,6 +53,40 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
             .setStorageRuntime()
             .build();
 
+    private static final SimpleAttributeDefinition START = SimpleAttributeDefinitionBuilder.create("start", ModelType.INT)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.ZERO)
+            .setValidator(new IntRangeValidator(0, true))
+            .build();
+
+    private static final SimpleAttributeDefinition COUNT = SimpleAttributeDefinitionBuilder.create("count", ModelType.INT)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
+    private static final SimpleAttributeDefinition BATCH_STATUS = SimpleAttributeDefinitionBuilder.create("batch-status", ModelType.STRING)
+            .setRequired(false)
+            .setValidator(EnumValidator.create(BatchStatus.class))
+            .build();
+
+    private static final SimpleAttributeDefinition CREATED_AFTER = SimpleAttributeDefinitionBuilder.create("created-after", ModelType.STRING)
+            .setRequired(false)
+            .build();
+
+    private static final SimpleAttributeDefinition CREATED_BEFORE = SimpleAttributeDefinitionBuilder.create("created-before", ModelType.STRING)
+            .setRequired(false)
+            .build();
+
+    private static final SimpleOperationDefinition LIST_EXECUTIONS = new SimpleOperationDefinitionBuilder("list-executions",
+            BatchResourceDescriptionResolver.getResourceDescriptionResolver("deployment", "job"))
+            .setParameters(START, COUNT, BATCH_STATUS, CREATED_AFTER, CREATED_BEFORE)
+            .setReplyType(ModelType.LIST)
+            .setReplyValueType(ModelType.OBJECT)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
     public BatchJobResourceDefinition() {
         super(new Parameters(PathElement.pathElement(JOB), BatchResourceDescriptionResolver.getResourceDescriptionResolver("deployment", "job")).setRuntime());
     }
@@ -70,4 +116,111 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
         });
     }
 
+    @Override
+    public void registerOperations(final ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+
+        resourceRegistration.registerOperationHandler(LIST_EXECUTIONS, new JobOperationStepHandler(false) {
+            @Override
+            protected void execute(final OperationContext context, final ModelNode operation, final WildFlyJobOperator jobOperator) throws OperationFailedException {
+                final String jobName = context.getCurrentAddressValue();
+                final int start = START.resolveModelAttribute(context, operation).asInt();
+                final int count = COUNT.resolveModelAttribute(context, operation).asInt();
+                final ModelNode batchStatus = BATCH_STATUS.resolveModelAttribute(context, operation);
+                final Date createdAfter = resolveDate(context, operation, CREATED_AFTER);
+                final Date createdBefore = resolveDate(context, operation, CREATED_BEFORE);
+                context.getResult().set(listExecutions(jobOperator, jobName, start, count,
+                        batchStatus.isDefined() ? BatchStatus.valueOf(batchStatus.asString()) : null, createdAfter, createdBefore));
+            }
+        });
+    }
+
+    /**
+     * Lists a page of the executions of a job that match the filters. The executions are ordered by job instance, most
+     * recent job instance first. The job instances are read a page at a time until the page of executions is filled,
+     * rather than reading the ids of all the executions of the job.
+     *
+     * @param jobOperator   the job operator
+     * @param jobName       the name of the job
+     * @param start         the number of matching executions to skip
+     * @param count         the maximum number of executions to list
+     * @param batchStatus   the status of the listed executions, or {@code null} for any status
+     * @param createdAfter  the time at or after which the listed executions were created, or {@code null}
+     * @param createdBefore the time before which the listed executions were created, or {@code null}
+     *
+     * @return a list describing the executions
+     */
+    static ModelNode listExecutions(final WildFlyJobOperator jobOperator, final String jobName, final int start, final int count,
+                                    final BatchStatus batchStatus, final Date createdAfter, final Date createdBefore) {
+        final ModelNode result = new ModelNode().setEmptyList();
+        int skipped = 0;
+        int listed = 0;
+        int instanceIndex = 0;
+        while (listed < count) {
+            final int first = instanceIndex;
+            final List<JobInstance> instances = jobOperator.allowMissingJob(() -> jobOperator.getJobInstances(jobName, first, count), Collections.emptyList());
+            for (JobInstance instance : instances) {
+                if (listed == count) {
+                    break;
+                }
+                for (JobExecution execution : jobOperator.getJobExecutions(instance)) {
+                    if (listed == count || !matches(execution, batchStatus, createdAfter, createdBefore)) {
+                        continue;
+                    }
+                    if (skipped < start) {
+                        skipped++;
+                        continue;
+                    }
+                    addExecution(result.add(), instance, execution);
+                    listed++;
+                }
+            }
+            if (instances.size() < count) {
+                break;
+            }
+            instanceIndex += instances.size();
+        }
+        return result;
+    }
+
+    private static boolean matches(final JobExecution execution, final BatchStatus batchStatus, final Date createdAfter, final Date createdBefore) {
+        if (batchStatus != null && batchStatus != execution.getBatchStatus()) {
+            return false;
+        }
+        if (createdAfter == null && createdBefore == null) {
+            return true;
+        }
+        final Date createTime = execution.getCreateTime();
+        return createTime != null && (createdAfter == null || !createTime.before(createdAfter)) && (createdBefore == null || createTime.before(createdBefore));
+    }
+
+    private static void addExecution(final ModelNode node, final JobInstance instance, final JobExecution execution) {
+        node.get("execution-id").set(execution.getExecutionId());
+        node.get(BatchJobExecutionResourceDefinition.INSTANCE_ID.getName()).set(instance.getInstanceId());
+        if (execution.getBatchStatus() != null) {
+            node.get(BatchJobExecutionResourceDefinition.BATCH_STATUS.getName()).set(execution.getBatchStatus().toString());
+        }
+        if (execution.getExitStatus() != null) {
+            node.get(BatchJobExecutionResourceDefinition.EXIT_STATUS.getName()).set(execution.getExitStatus());
+        }
+        if (execution.getCreateTime() != null) {
+            node.get(BatchJobExecutionResourceDefinition.CREATE_TIME.getName()).set(BatchJobExecutionResourceDefinition.formatDate(execution.getCreateTime()));
+        }
+        if (execution.getEndTime() != null) {
+            node.get(BatchJobExecutionResourceDefinition.END_TIME.getName()).set(BatchJobExecutionResourceDefinition.formatDate(execution.getEndTime()));
+        }
+    }
+
+    private static Date resolveDate(final OperationContext context, final ModelNode operation, final SimpleAttributeDefinition attribute) throws OperationFailedException {
+        final ModelNode value = attribute.resolveModelAttribute(context, operation);
+        if (!value.isDefined()) {
+            return null;
+        }
+        try {
+            return BatchJobExecutionResourceDefinition.parseDate(value.asString());
+        } catch (DateTimeParseException e) {
+            throw JobOperationStepHandler.createOperationFailure(e);
+        }
+    }
+
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import java.util.List;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.PlaceholderResource;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BatchJobExecutionResourceTestCase {
+
+    private static PathElement execution(final Object executionId) {
+        return PathElement.pathElement(BatchJobExecutionResourceDefinition.EXECUTION, String.valueOf(executionId));
+    }
+
+    @Test
+    public void testHasChildResolvesSingleExecution() {
+        final TestJobOperator jobOperator = new TestJobOperator("test-job");
+        final List<JobExecution> executions = jobOperator.addInstance(BatchStatus.FAILED, BatchStatus.COMPLETED);
+        final TestJobOperator otherJobOperator = new TestJobOperator("other-job");
+        otherJobOperator.addInstance(BatchStatus.COMPLETED);
+
+        // Reading the ids of all the executions of the job fails with the test operator
+        final BatchJobExecutionResource resource = new BatchJobExecutionResource(jobOperator.create(), "test-job");
+        Assert.assertTrue(resource.hasChild(execution(executions.get(1).getExecutionId())));
+        Assert.assertSame(PlaceholderResource.INSTANCE, resource.getChild(execution(executions.get(0).getExecutionId())));
+        Assert.assertFalse(resource.hasChild(execution(42)));
+        Assert.assertFalse(resource.hasChild(execution("not-an-id")));
+        Assert.assertNull(resource.getChild(execution(42)));
+        Assert.assertTrue(resource.hasChildren(BatchJobExecutionResourceDefinition.EXECUTION));
+
+        // The execution of another job is not a child of the job
+        final BatchJobExecutionResource otherResource = new BatchJobExecutionResource(otherJobOperator.create(), "test-job");
+        Assert.assertFalse(otherResource.hasChild(execution(1)));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BatchJobResourceDefinitionTestCase {
+
+    private static final String JOB_NAME = "test-job";
+
+    private static List<Long> executionIds(final ModelNode executions) {
+        final List<Long> result = new ArrayList<>();
+        for (ModelNode execution : executions.asList()) {
+            result.add(execution.get("execution-id").asLong());
+        }
+        return result;
+    }
+
+    @Test
+    public void testListExecutionsPagesOverExecutions() {
+        final TestJobOperator jobOperator = new TestJobOperator(JOB_NAME);
+        for (int i = 0; i < 5; i++) {
+            jobOperator.addInstance(BatchStatus.FAILED, BatchStatus.COMPLETED);
+        }
+
+        final ModelNode executions = BatchJobResourceDefinition.listExecutions(jobOperator.create(), JOB_NAME, 3, 4, null, null, null);
+        Assert.assertEquals(List.of(4L, 5L, 6L, 7L), executionIds(executions));
+        final ModelNode execution = executions.get(0);
+        Assert.assertEquals(2L, execution.get("instance-id").asLong());
+        Assert.assertEquals("COMPLETED", execution.get("batch-status").asString());
+        // The page is filled from the first page of job instances
+        Assert.assertEquals(List.of("0:4"), jobOperator.getInstancePages());
+
+        Assert.assertEquals(List.of(9L, 10L), executionIds(BatchJobResourceDefinition.listExecutions(jobOperator.create(), JOB_NAME, 8, 4, null, null, null)));
+        Assert.assertTrue(BatchJobResourceDefinition.listExecutions(jobOperator.create(), JOB_NAME, 10, 4, null, null, null).asList().isEmpty());
+        Assert.assertTrue(BatchJobResourceDefinition.listExecutions(jobOperator.create(), "unknown-job", 0, 4, null, null, null).asList().isEmpty());
+    }
+
+    @Test
+    public void testListExecutionsFilters() {
+        final TestJobOperator jobOperator = new TestJobOperator(JOB_NAME);
+        for (int i = 0; i < 6; i++) {
+            jobOperator.addInstance(BatchStatus.FAILED, BatchStatus.FAILED, BatchStatus.COMPLETED);
+        }
+
+        // Further pages of job instances are read until the page of matching executions is filled
+        Assert.assertEquals(List.of(6L, 9L, 12L), executionIds(BatchJobResourceDefinition.listExecutions(jobOperator.create(), JOB_NAME, 1, 3, BatchStatus.COMPLETED, null, null)));
+        Assert.assertEquals(List.of("0:3", "3:3"), jobOperator.getInstancePages());
+
+        // The creation time of execution n is n seconds
+        final Date createdAfter = new Date(5000);
+        final Date createdBefore = new Date(11000);
+        Assert.assertEquals(List.of(5L, 6L, 7L, 8L, 9L, 10L), executionIds(BatchJobResourceDefinition.listExecutions(jobOperator.create(), JOB_NAME, 0, 100, null, createdAfter, createdBefore)));
+        Assert.assertEquals(List.of(5L, 7L, 8L, 10L), executionIds(BatchJobResourceDefinition.listExecutions(jobOperator.create(), JOB_NAME, 0, 100, BatchStatus.FAILED, createdAfter, createdBefore)));
+    }
+}
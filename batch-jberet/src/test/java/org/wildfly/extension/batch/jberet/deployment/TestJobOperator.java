@@ -0,0 +1,187 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import jakarta.batch.operations.NoSuchJobException;
+import jakarta.batch.operations.NoSuchJobExecutionException;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.JobInstance;
+
+/**
+ * An in-memory {@link WildFlyJobOperator} for a single job, which records the pages of job instances that are read.
+ * Any other method than those needed to navigate the executions of the job fails, e.g. reading the ids of all the
+ * executions of the job.
+ */
+class TestJobOperator implements InvocationHandler {
+
+    private final String jobName;
+    // The job instances, most recent first
+    private final Map<JobInstance, List<JobExecution>> instances = new LinkedHashMap<>();
+    private final List<String> instancePages = new ArrayList<>();
+    private long nextExecutionId = 1;
+
+    TestJobOperator(final String jobName) {
+        this.jobName = jobName;
+    }
+
+    /**
+     * Adds a job instance older than the instances added before.
+     *
+     * @param statuses the statuses of the executions of the instance
+     *
+     * @return the executions of the instance
+     */
+    List<JobExecution> addInstance(final BatchStatus... statuses) {
+        final long instanceId = instances.size() + 1;
+        final JobInstance instance = new TestJobInstance(jobName, instanceId);
+        final List<JobExecution> executions = new ArrayList<>();
+        for (BatchStatus status : statuses) {
+            final long executionId = nextExecutionId++;
+            executions.add(new TestJobExecution(jobName, executionId, status, new Date(executionId * 1000)));
+        }
+        instances.put(instance, executions);
+        return executions;
+    }
+
+    /**
+     * Returns the pages of job instances read, as {@code start:count}.
+     */
+    List<String> getInstancePages() {
+        return instancePages;
+    }
+
+    WildFlyJobOperator create() {
+        return (WildFlyJobOperator) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {WildFlyJobOperator.class}, this);
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (method.isDefault()) {
+            return InvocationHandler.invokeDefault(proxy, method, args);
+        }
+        switch (method.getName()) {
+            case "getJobInstanceCount":
+                checkJobName(args[0]);
+                return instances.size();
+            case "getJobInstances": {
+                checkJobName(args[0]);
+                final int start = (Integer) args[1];
+                final int count = (Integer) args[2];
+                instancePages.add(start + ":" + count);
+                final List<JobInstance> result = new ArrayList<>(instances.keySet());
+                return result.subList(Math.min(start, result.size()), Math.min(start + count, result.size()));
+            }
+            case "getJobExecutions":
+                return instances.get(args[0]);
+            case "getJobExecution":
+                for (List<JobExecution> executions : instances.values()) {
+                    for (JobExecution execution : executions) {
+                        if (execution.getExecutionId() == (Long) args[0]) {
+                            return execution;
+                        }
+                    }
+                }
+                throw new NoSuchJobExecutionException(String.valueOf(args[0]));
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+    private void checkJobName(final Object name) {
+        if (!jobName.equals(name)) {
+            throw new NoSuchJobException(String.valueOf(name));
+        }
+    }
+
+    private static class TestJobInstance implements JobInstance {
+        private final String jobName;
+        private final long instanceId;
+
+        TestJobInstance(final String jobName, final long instanceId) {
+            this.jobName = jobName;
+            this.instanceId = instanceId;
+        }
+
+        @Override
+        public long getInstanceId() {
+            return instanceId;
+        }
+
+        @Override
+        public String getJobName() {
+            return jobName;
+        }
+    }
+
+    private static class TestJobExecution implements JobExecution {
+        private final String jobName;
+        private final long executionId;
+        private final BatchStatus batchStatus;
+        private final Date createTime;
+
+        TestJobExecution(final String jobName, final long executionId, final BatchStatus batchStatus, final Date createTime) {
+            this.jobName = jobName;
+            this.executionId = executionId;
+            this.batchStatus = batchStatus;
+            this.createTime = createTime;
+        }
+
+        @Override
+        public long getExecutionId() {
+            return executionId;
+        }
+
+        @Override
+        public String getJobName() {
+            return jobName;
+        }
+
+        @Override
+        public BatchStatus getBatchStatus() {
+            return batchStatus;
+        }
+
+        @Override
+        public Date getStartTime() {
+            return createTime;
+        }
+
+        @Override
+        public Date getEndTime() {
+            return null;
+        }
+
+        @Override
+        public String getExitStatus() {
+            return batchStatus.toString();
+        }
+
+        @Override
+        public Date getCreateTime() {
+            return createTime;
+        }
+
+        @Override
+        public Date getLastUpdatedTime() {
+            return createTime;
+        }
+
+        @Override
+        public Properties getJobParameters() {
+            return new Properties();
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
 import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.junit.Assert;
@@ -87,6 +88,17 @@ public class EeLegacySubsystemTestCase extends AbstractSubsystemBaseTest {
         // should not be used
     }
 
+    @Test
+    public void testSubsystem60() throws Exception {
+        // the virtual attribute was introduced by the 7.0 schema, and 6.0 resources use platform threads
+        KernelServices services = standardSubsystemTest("subsystem_6_0.xml", false);
+        ModelNode subsystem = services.readWholeModel().require(SUBSYSTEM).require(EeExtension.SUBSYSTEM_NAME);
+        for (String type : new String[] { EESubsystemModel.MANAGED_THREAD_FACTORY, EESubsystemModel.MANAGED_EXECUTOR_SERVICE, EESubsystemModel.MANAGED_SCHEDULED_EXECUTOR_SERVICE }) {
+            ModelNode resource = subsystem.require(type).require(type + "-name");
+            Assert.assertFalse(type, resource.hasDefined(ManagedExecutorServiceResourceDefinition.VIRTUAL));
+        }
+    }
+
     @Override
     protected String getSubsystemXml() throws IOException {
         throw new UnsupportedOperationException();
@@ -8,6 +8,7 @@ import org.glassfish.concurro.AbstractManagedExecutorService;
 
 import java.util.Collection;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
 
 /**
  * Executor runtime stats obtained from a thread pool executor.
@@ -17,15 +18,18 @@ class ConcurroManagedExecutorRuntimeStatsImpl implements ManagedExecutorRuntimeS
 
     private final AbstractManagedExecutorService abstractManagedExecutorService;
     private final ThreadPoolExecutor threadPoolExecutor;
+    private final Supplier<Collection<ConcurroManagedThreadFactoryImpl.VirtualThreadTask>> hungVirtualThreadTasks;
 
     ConcurroManagedExecutorRuntimeStatsImpl(ConcurroManagedExecutorServiceImpl executorService) {
         this.abstractManagedExecutorService = executorService;
         this.threadPoolExecutor = executorService.getThreadPoolExecutor();
+        this.hungVirtualThreadTasks = executorService::getHungVirtualThreadTasks;
     }
 
     ConcurroManagedExecutorRuntimeStatsImpl(ConcurroManagedScheduledExecutorServiceImpl executorService) {
         this.abstractManagedExecutorService = executorService;
         this.threadPoolExecutor = executorService.getThreadPoolExecutor();
+        this.hungVirtualThreadTasks = executorService::getHungVirtualThreadTasks;
     }
 
     @Override
@@ -46,7 +50,7 @@ class ConcurroManagedExecutorRuntimeStatsImpl implements ManagedExecutorRuntimeS
     @Override
     public int getHungThreadsCount() {
         final Collection hungThreads = abstractManagedExecutorService.getHungThreads();
-        return hungThreads != null ? hungThreads.size() : 0;
+        return (hungThreads != null ? hungThreads.size() : 0) + hungVirtualThreadTasks.get().size();
     }
 
     @Override
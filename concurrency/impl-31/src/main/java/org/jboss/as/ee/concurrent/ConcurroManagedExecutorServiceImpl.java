@@ -31,10 +31,16 @@ public class ConcurroManagedExecutorServiceImpl extends org.glassfish.concurro.M
     private final ProcessStateNotifier processStateNotifier;
     private final ManagedExecutorRuntimeStats runtimeStats;
 
+    /**
+     * the time in milliseconds after which a task running in a virtual thread is considered hung, 0 if such tasks never hang
+     */
+    private final long virtualThreadsHungTaskThreshold;
+
     public ConcurroManagedExecutorServiceImpl(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, BlockingQueue<Runnable> queue, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier) {
         super(name, (ConcurroManagedThreadFactoryImpl) managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, (ContextServiceImpl) contextService, convertRejectPolicy(rejectPolicy), queue);
         this.controlPoint = controlPoint;
         this.processStateNotifier = processStateNotifier;
+        this.virtualThreadsHungTaskThreshold = longRunningTasks ? 0L : hungTaskThreshold;
         this.runtimeStats = new ConcurroManagedExecutorRuntimeStatsImpl(this);
     }
 
@@ -42,6 +48,7 @@ public class ConcurroManagedExecutorServiceImpl extends org.glassfish.concurro.M
         super(name, (ConcurroManagedThreadFactoryImpl) managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueCapacity, (ContextServiceImpl) contextService, convertRejectPolicy(rejectPolicy));
         this.controlPoint = controlPoint;
         this.processStateNotifier = processStateNotifier;
+        this.virtualThreadsHungTaskThreshold = longRunningTasks ? 0L : hungTaskThreshold;
         this.runtimeStats = new ConcurroManagedExecutorRuntimeStatsImpl(this);
     }
 
@@ -111,6 +118,14 @@ public class ConcurroManagedExecutorServiceImpl extends org.glassfish.concurro.M
         return runtimeStats;
     }
 
+    /**
+     *
+     * @return the tasks running in virtual threads, which are hung
+     */
+    Collection<ConcurroManagedThreadFactoryImpl.VirtualThreadTask> getHungVirtualThreadTasks() {
+        return ((ConcurroManagedThreadFactoryImpl) getManagedThreadFactory()).getHungVirtualThreadTasks(virtualThreadsHungTaskThreshold);
+    }
+
     @Override
     public void terminateHungTasks() {
         final String executorName = getClass().getSimpleName() + ":" + getName();
@@ -132,5 +147,17 @@ public class ConcurroManagedExecutorServiceImpl extends org.glassfish.concurro.M
                 }
             }
         }
+        for (ConcurroManagedThreadFactoryImpl.VirtualThreadTask t : getHungVirtualThreadTasks()) {
+            final String taskIdentityName = t.getTaskIdentityName();
+            try {
+                if (t.cancelTask()) {
+                    EeLogger.ROOT_LOGGER.hungTaskCancelled(executorName, taskIdentityName);
+                } else {
+                    EeLogger.ROOT_LOGGER.hungTaskNotCancelled(executorName, taskIdentityName);
+                }
+            } catch (Throwable throwable) {
+                EeLogger.ROOT_LOGGER.huntTaskTerminationFailure(throwable, executorName, taskIdentityName);
+            }
+        }
     }
 }
@@ -31,10 +31,16 @@ public class ConcurroManagedScheduledExecutorServiceImpl extends org.glassfish.c
     private final ProcessStateNotifier processStateNotifier;
     private final ManagedExecutorRuntimeStats runtimeStats;
 
+    /**
+     * the time in milliseconds after which a task running in a virtual thread is considered hung, 0 if such tasks never hang
+     */
+    private final long virtualThreadsHungTaskThreshold;
+
     public ConcurroManagedScheduledExecutorServiceImpl(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier) {
         super(name, (ConcurroManagedThreadFactoryImpl) managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, (ContextServiceImpl) contextService, ConcurroManagedExecutorServiceImpl.convertRejectPolicy(rejectPolicy));
         this.controlPoint = controlPoint;
         this.processStateNotifier = processStateNotifier;
+        this.virtualThreadsHungTaskThreshold = longRunningTasks ? 0L : hungTaskThreshold;
         this.runtimeStats = new ConcurroManagedExecutorRuntimeStatsImpl(this);
     }
 
@@ -137,6 +143,14 @@ public class ConcurroManagedScheduledExecutorServiceImpl extends org.glassfish.c
         }
     }
 
+    /**
+     *
+     * @return the tasks running in virtual threads, which are hung
+     */
+    Collection<ConcurroManagedThreadFactoryImpl.VirtualThreadTask> getHungVirtualThreadTasks() {
+        return ((ConcurroManagedThreadFactoryImpl) getManagedThreadFactory()).getHungVirtualThreadTasks(virtualThreadsHungTaskThreshold);
+    }
+
     @Override
     public void terminateHungTasks() {
         final String executorName = getClass().getSimpleName() + ":" + getName();
@@ -158,5 +172,17 @@ public class ConcurroManagedScheduledExecutorServiceImpl extends org.glassfish.c
                 }
             }
         }
+        for (ConcurroManagedThreadFactoryImpl.VirtualThreadTask t : getHungVirtualThreadTasks()) {
+            final String taskIdentityName = t.getTaskIdentityName();
+            try {
+                if (t.cancelTask()) {
+                    EeLogger.ROOT_LOGGER.hungTaskCancelled(executorName, taskIdentityName);
+                } else {
+                    EeLogger.ROOT_LOGGER.hungTaskNotCancelled(executorName, taskIdentityName);
+                }
+            } catch (Throwable throwable) {
+                EeLogger.ROOT_LOGGER.huntTaskTerminationFailure(throwable, executorName, taskIdentityName);
+            }
+        }
     }
 }
@@ -9,10 +9,19 @@ import org.glassfish.concurro.AbstractManagedThread;
 import org.glassfish.concurro.ContextServiceImpl;
 import org.glassfish.concurro.internal.ManagedFutureTask;
 import org.glassfish.concurro.spi.ContextHandle;
+import org.jboss.as.ee.concurrent.handle.ResetContextHandle;
+import org.jboss.as.ee.concurrent.handle.SetupContextHandle;
+import org.jboss.as.ee.logging.EeLogger;
 import org.wildfly.security.auth.server.SecurityIdentity;
 
 import jakarta.enterprise.concurrent.ManagedThreadFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+
 /**
  * {@link ManagedThreadFactory} implementation ensuring {@link SecurityIdentity} propagation into new threads.
  * @author <a href="mailto:jkalina@redhat.com">Jan Kalina</a>
@@ -25,9 +34,33 @@ public class ConcurroManagedThreadFactoryImpl extends org.glassfish.concurro.Man
      */
     private final int priority;
 
+    /**
+     * the context service to propagate into new virtual threads
+     */
+    private final WildFlyContextService virtualThreadsContextService;
+
+    /**
+     * the factory of virtual threads, null if the factory creates platform threads
+     */
+    private final ThreadFactory virtualThreadFactory;
+
+    /**
+     * the virtual threads started, and not yet terminated
+     */
+    private final Map<Thread, VirtualThreadTask> virtualThreads = new ConcurrentHashMap<>();
+
     public ConcurroManagedThreadFactoryImpl(String name, WildFlyContextService contextService, int priority) {
+        this(name, contextService, priority, false);
+    }
+
+    public ConcurroManagedThreadFactoryImpl(String name, WildFlyContextService contextService, int priority, boolean virtual) {
         super(name, (ContextServiceImpl) contextService, priority);
         this.priority = priority;
+        this.virtualThreadsContextService = contextService;
+        this.virtualThreadFactory = virtual ? VirtualThreads.newThreadFactory(name + "-Thread-") : null;
+        if (virtual && virtualThreadFactory == null) {
+            EeLogger.ROOT_LOGGER.virtualThreadsNotAvailable(name);
+        }
     }
 
     /**
@@ -38,6 +71,44 @@ public class ConcurroManagedThreadFactoryImpl extends org.glassfish.concurro.Man
         return priority;
     }
 
+    @Override
+    public boolean isVirtual() {
+        return virtualThreadFactory != null;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        if (virtualThreadFactory == null) {
+            return super.newThread(r);
+        }
+        // virtual threads can't be a subclass of AbstractManagedThread, thus propagate the context and track tasks with a wrapper
+        SetupContextHandle contextHandleForSetup = null;
+        if (virtualThreadsContextService != null) {
+            final ConcurrentContext concurrentContext = ConcurrentContext.current();
+            if (concurrentContext != null) {
+                contextHandleForSetup = concurrentContext.saveContext(virtualThreadsContextService, null);
+            } else {
+                EeLogger.ROOT_LOGGER.debug("ee concurrency context not found in invocation context");
+            }
+            // app thread, do identity wrap
+            r = SecurityIdentityUtils.doIdentityWrap(r);
+        }
+        final VirtualThreadTask virtualThreadTask = new VirtualThreadTask(r, contextHandleForSetup);
+        final Thread t = virtualThreadFactory.newThread(virtualThreadTask);
+        // reset thread classloader to prevent leaks
+        t.setContextClassLoader(null);
+        // the thread is tracked once started, so that threads which are never started are not retained
+        return t;
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        for (Thread t : virtualThreads.keySet()) {
+            t.interrupt();
+        }
+    }
+
     protected AbstractManagedThread createThread(Runnable r, final ContextHandle contextHandleForSetup) {
         if (contextHandleForSetup != null) {
             // app thread, do identity wrap
@@ -52,6 +123,11 @@ public class ConcurroManagedThreadFactoryImpl extends org.glassfish.concurro.Man
 
     @Override
     public void taskStarting(Thread t, ManagedFutureTask task) {
+        final VirtualThreadTask virtualThreadTask = virtualThreadFactory != null ? virtualThreads.get(t) : null;
+        if (virtualThreadTask != null) {
+            virtualThreadTask.taskStarting(task);
+            return;
+        }
         super.taskStarting(t, task);
         if (t instanceof ManagedThread) {
             ((ManagedThread)t).task = task;
@@ -60,12 +136,35 @@ public class ConcurroManagedThreadFactoryImpl extends org.glassfish.concurro.Man
 
     @Override
     public void taskDone(Thread t) {
+        final VirtualThreadTask virtualThreadTask = virtualThreadFactory != null ? virtualThreads.get(t) : null;
+        if (virtualThreadTask != null) {
+            virtualThreadTask.taskDone();
+            return;
+        }
         super.taskDone(t);
         if (t instanceof ManagedThread) {
             ((ManagedThread)t).task = null;
         }
     }
 
+    /**
+     * Retrieves the virtual threads running a hung task.
+     * @param hungTaskThreshold the time in milliseconds after which a running task is considered hung, or 0 if tasks never hang
+     * @return the virtual threads' tasks, which are hung
+     */
+    Collection<VirtualThreadTask> getHungVirtualThreadTasks(long hungTaskThreshold) {
+        final Collection<VirtualThreadTask> hungTasks = new ArrayList<>();
+        if (hungTaskThreshold > 0 && !virtualThreads.isEmpty()) {
+            final long now = System.currentTimeMillis();
+            for (VirtualThreadTask virtualThreadTask : virtualThreads.values()) {
+                if (virtualThreadTask.isTaskHung(now, hungTaskThreshold)) {
+                    hungTasks.add(virtualThreadTask);
+                }
+            }
+        }
+        return hungTasks;
+    }
+
     /**
      * Managed thread extension, to allow canceling the task running in the thread.
      * @author emmartins
@@ -92,4 +191,68 @@ public class ConcurroManagedThreadFactoryImpl extends org.glassfish.concurro.Man
             return false;
         }
     }
+
+    /**
+     * The task of a virtual thread, which propagates the factory's context, and tracks the executor task running in the thread, to allow detecting and canceling it if hung.
+     */
+    class VirtualThreadTask implements Runnable {
+        private final Runnable target;
+        private final SetupContextHandle contextHandleForSetup;
+        private volatile ManagedFutureTask task = null;
+        private volatile long taskStartTime = 0L;
+
+        VirtualThreadTask(Runnable target, SetupContextHandle contextHandleForSetup) {
+            this.target = target;
+            this.contextHandleForSetup = contextHandleForSetup;
+        }
+
+        @Override
+        public void run() {
+            virtualThreads.put(Thread.currentThread(), this);
+            try {
+                final ResetContextHandle contextHandleForReset = contextHandleForSetup != null ? contextHandleForSetup.setup() : null;
+                try {
+                    target.run();
+                } finally {
+                    if (contextHandleForReset != null) {
+                        contextHandleForReset.reset();
+                    }
+                }
+            } finally {
+                virtualThreads.remove(Thread.currentThread());
+            }
+        }
+
+        void taskStarting(ManagedFutureTask task) {
+            this.taskStartTime = System.currentTimeMillis();
+            this.task = task;
+        }
+
+        void taskDone() {
+            this.task = null;
+            this.taskStartTime = 0L;
+        }
+
+        boolean isTaskHung(long now, long hungTaskThreshold) {
+            final long taskStartTime = this.taskStartTime;
+            return task != null && taskStartTime > 0L && now - taskStartTime > hungTaskThreshold;
+        }
+
+        String getTaskIdentityName() {
+            final ManagedFutureTask task = this.task;
+            return task != null ? task.getTaskIdentityName() : "null";
+        }
+
+        /**
+         * Cancel the task running in the thread.
+         * @return
+         */
+        boolean cancelTask() {
+            final ManagedFutureTask task = this.task;
+            if (task != null) {
+                return task.cancel(true);
+            }
+            return false;
+        }
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ee.concurrent;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to the virtual threads API, which is looked up when first used since it requires Java 21, and the module is compiled for an older release.
+ */
+final class VirtualThreads {
+
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle NAME;
+    private static final MethodHandle FACTORY;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle factory = null;
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual")));
+            name = lookup.findVirtual(builderClass, "name", MethodType.methodType(builderClass, String.class, long.class));
+            factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+            // on Java 19 and 20 virtual threads are a preview feature, which throws UnsupportedOperationException unless preview features are enabled
+            ofVirtual.invoke();
+        } catch (Throwable t) {
+            // virtual threads not supported by the runtime
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Creates a factory of virtual threads.
+     * @param namePrefix the prefix of the name of the created threads, which is followed by a sequence number
+     * @return the thread factory, or null if the runtime does not support virtual threads
+     */
+    static ThreadFactory newThreadFactory(String namePrefix) {
+        if (OF_VIRTUAL == null) {
+            return null;
+        }
+        try {
+            return (ThreadFactory) FACTORY.invoke(NAME.invoke(OF_VIRTUAL.invoke(), namePrefix, 1L));
+        } catch (UnsupportedOperationException e) {
+            // preview feature not enabled
+            return null;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+}
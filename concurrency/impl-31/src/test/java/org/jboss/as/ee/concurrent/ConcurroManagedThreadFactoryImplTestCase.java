@@ -0,0 +1,46 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ee.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * Tests the virtual threads of {@link ConcurroManagedThreadFactoryImpl}.
+ */
+public class ConcurroManagedThreadFactoryImplTestCase {
+
+    @Test
+    public void testVirtualThread() throws Exception {
+        final ConcurroManagedThreadFactoryImpl factory = new ConcurroManagedThreadFactoryImpl("test", null, Thread.NORM_PRIORITY, true);
+        try {
+            // requires a runtime with virtual threads
+            assumeTrue(factory.isVirtual());
+            final AtomicReference<Thread> runningThread = new AtomicReference<>();
+            final CountDownLatch done = new CountDownLatch(1);
+            final Thread thread = factory.newThread(() -> {
+                runningThread.set(Thread.currentThread());
+                done.countDown();
+            });
+            assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+            assertTrue(thread.getName().startsWith("test-Thread-"));
+            thread.start();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+            assertEquals(thread, runningThread.get());
+            assertFalse(thread.isAlive());
+        } finally {
+            factory.stop();
+        }
+    }
+}
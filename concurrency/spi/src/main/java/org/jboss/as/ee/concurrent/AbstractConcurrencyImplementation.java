@@ -24,6 +24,7 @@ import org.jboss.as.ee.subsystem.ConcurrentEESubsystemParser20;
 import org.jboss.as.ee.subsystem.ConcurrentEESubsystemParser40;
 import org.jboss.as.ee.subsystem.ConcurrentEESubsystemParser50;
 import org.jboss.as.ee.subsystem.ConcurrentEESubsystemParser60;
+import org.jboss.as.ee.subsystem.ConcurrentEESubsystemParser70;
 import org.jboss.as.ee.subsystem.ConcurrentEESubsystemXMLPersister;
 import org.jboss.as.ee.subsystem.ContextServiceResourceDefinition;
 import org.jboss.as.ee.subsystem.EeExtension;
@@ -92,6 +93,10 @@ public abstract class AbstractConcurrencyImplementation implements ConcurrencyIm
         ConcurrentEESubsystemParser60.parseConcurrent(reader, operations, subsystemPathAddress);
     }
     @Override
+    public void parseConcurrentElement70(XMLExtendedStreamReader reader, List<ModelNode> operations, PathAddress subsystemPathAddress) throws XMLStreamException {
+        ConcurrentEESubsystemParser70.parseConcurrent(reader, operations, subsystemPathAddress);
+    }
+    @Override
     public void writeConcurrentElement(XMLExtendedStreamWriter writer, ModelNode eeSubSystem) throws XMLStreamException {
         ConcurrentEESubsystemXMLPersister.writeConcurrentElement(writer, eeSubSystem);
     }
@@ -27,11 +27,11 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.Thread.currentThread;
 
@@ -80,7 +80,12 @@ public class ConcurrentContext {
     }
 
     private final Map<String, ContextHandleFactory> factoryMap = new HashMap<>();
-    private List<ContextHandleFactory> factoryOrderedList;
+    private volatile List<ContextHandleFactory> factoryOrderedList;
+
+    /**
+     * the snapshots of the context saved for each context service, when there are no context object properties
+     */
+    private final Map<ContextService, ContextSnapshot> snapshots = new ConcurrentHashMap<>();
 
     private volatile ServiceName serviceName;
 
@@ -129,33 +134,107 @@ public class ConcurrentContext {
      * @return
      */
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
+        final List<ContextHandleFactory> factories = factoryOrderedList;
+        if (contextObjectProperties == null || contextObjectProperties.isEmpty()) {
+            ContextSnapshot snapshot = snapshots.get(contextService);
+            if (snapshot == null || snapshot.factories != factories) {
+                // first save for the context service, or the factories changed since
+                snapshot = new ContextSnapshot(this, factories, contextService);
+                snapshots.put(contextService, snapshot);
+            }
+            return snapshot.saveContext(contextService);
+        }
+        final List<SetupContextHandle> handles = new ArrayList<>(factories.size());
+        for (ContextHandleFactory factory : factories) {
+            final SetupContextHandle handle = saveContext(factory, contextService, contextObjectProperties);
+            if (handle != null) {
+                handles.add(handle);
+            }
+        }
+        return new ChainedSetupContextHandle(this, handles);
+    }
+
+    /**
+     * Saves the current invocation context of the specified factory.
+     * @return the saved handle, or {@code null} if the factory's context is left unchanged
+     */
+    private static SetupContextHandle saveContext(ContextHandleFactory factory, ContextService contextService, Map<String, String> contextObjectProperties) {
         final ContextServiceTypesConfiguration contextServiceTypesConfiguration = ((WildFlyContextService)contextService).getContextServiceTypesConfiguration();
-        final List<SetupContextHandle> handles = new ArrayList<>(factoryOrderedList.size());
-        for (ContextHandleFactory factory : factoryOrderedList) {
-            // TODO *FOLLOW UP* migrate all factories on other subsystems to use the new EE10ContextHandleFactory API, and once all done replace the legacy ContextHandleFactory API with the new one, no need to keep both
-            if (factory instanceof EE10ContextHandleFactory) {
-                final EE10ContextHandleFactory ee10ContextHandleFactory = (EE10ContextHandleFactory) factory;
-                final String contextType = ee10ContextHandleFactory.getContextType();
-                final SetupContextHandle setupContextHandle;
-                if (contextServiceTypesConfiguration.isCleared(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.clearedContext(contextService, contextObjectProperties);
-                } else if (contextServiceTypesConfiguration.isPropagated(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.propagatedContext(contextService, contextObjectProperties);
-                } else if (contextServiceTypesConfiguration.isUnchanged(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.unchangedContext(contextService, contextObjectProperties);
+        // TODO *FOLLOW UP* migrate all factories on other subsystems to use the new EE10ContextHandleFactory API, and once all done replace the legacy ContextHandleFactory API with the new one, no need to keep both
+        if (factory instanceof EE10ContextHandleFactory) {
+            final EE10ContextHandleFactory ee10ContextHandleFactory = (EE10ContextHandleFactory) factory;
+            final String contextType = ee10ContextHandleFactory.getContextType();
+            if (contextServiceTypesConfiguration.isCleared(contextType)) {
+                return ee10ContextHandleFactory.clearedContext(contextService, contextObjectProperties);
+            } else if (contextServiceTypesConfiguration.isPropagated(contextType)) {
+                return ee10ContextHandleFactory.propagatedContext(contextService, contextObjectProperties);
+            } else if (contextServiceTypesConfiguration.isUnchanged(contextType)) {
+                return ee10ContextHandleFactory.unchangedContext(contextService, contextObjectProperties);
+            } else {
+                return null;
+            }
+        } else {
+            if (contextServiceTypesConfiguration.isPropagated(ContextServiceDefinition.APPLICATION)) {
+                return factory.saveContext(contextService, contextObjectProperties);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The context of a context service, saved once for the factories whose handles do not depend on the invocation context.
+     * If all the factories are invocation independent, the whole chained handle is shared by all the tasks of the context
+     * service, otherwise only the remaining factories save the context of each task.
+     */
+    private static class ContextSnapshot {
+
+        private final ConcurrentContext concurrentContext;
+        private final List<ContextHandleFactory> factories;
+        /**
+         * the handles saved by the invocation independent factories, indexed as the factories
+         */
+        private final SetupContextHandle[] handles;
+        private final boolean[] invocationIndependent;
+        /**
+         * the shared chained handle, if all factories are invocation independent
+         */
+        private final ChainedSetupContextHandle sharedHandle;
+
+        private ContextSnapshot(ConcurrentContext concurrentContext, List<ContextHandleFactory> factories, ContextService contextService) {
+            this.concurrentContext = concurrentContext;
+            this.factories = factories;
+            this.handles = new SetupContextHandle[factories.size()];
+            this.invocationIndependent = new boolean[factories.size()];
+            final List<SetupContextHandle> sharedHandles = new ArrayList<>(factories.size());
+            boolean shared = true;
+            for (int i = 0; i < handles.length; i++) {
+                final ContextHandleFactory factory = factories.get(i);
+                if (factory.isInvocationIndependent()) {
+                    invocationIndependent[i] = true;
+                    handles[i] = ConcurrentContext.saveContext(factory, contextService, null);
+                    if (handles[i] != null) {
+                        sharedHandles.add(handles[i]);
+                    }
                 } else {
-                    setupContextHandle = null;
+                    shared = false;
                 }
-                if (setupContextHandle != null) {
-                    handles.add(setupContextHandle);
-                }
-            } else {
-                if (contextServiceTypesConfiguration.isPropagated(ContextServiceDefinition.APPLICATION)) {
-                    handles.add(factory.saveContext(contextService, contextObjectProperties));
+            }
+            this.sharedHandle = shared ? new ChainedSetupContextHandle(concurrentContext, sharedHandles) : null;
+        }
+
+        private SetupContextHandle saveContext(ContextService contextService) {
+            if (sharedHandle != null) {
+                return sharedHandle;
+            }
+            final List<SetupContextHandle> chain = new ArrayList<>(handles.length);
+            for (int i = 0; i < handles.length; i++) {
+                final SetupContextHandle handle = invocationIndependent[i] ? handles[i] : ConcurrentContext.saveContext(factories.get(i), contextService, null);
+                if (handle != null) {
+                    chain.add(handle);
                 }
             }
+            return new ChainedSetupContextHandle(concurrentContext, chain);
         }
-        return new ChainedSetupContextHandle(this, handles);
     }
 
     /**
@@ -177,12 +256,12 @@ public class ConcurrentContext {
             if (concurrentContext.getServiceName() == null) {
                 throw EeLogger.ROOT_LOGGER.serviceNotStarted();
             }
-            final LinkedList<ResetContextHandle> resetHandles = new LinkedList<>();
+            final ResetContextHandle[] resetHandles = new ResetContextHandle[setupHandles.size()];
             final ResetContextHandle resetContextHandle = new ChainedResetContextHandle(resetHandles);
             try {
                 ConcurrentContext.pushCurrent(concurrentContext);
-                for (SetupContextHandle handle : setupHandles) {
-                    resetHandles.addFirst(handle.setup());
+                for (int i = 0; i < resetHandles.length; i++) {
+                    resetHandles[i] = setupHandles.get(i).setup();
                 }
             } catch (Error | RuntimeException e) {
                 resetContextHandle.reset();
@@ -279,16 +358,21 @@ public class ConcurrentContext {
     private static class ChainedResetContextHandle implements ResetContextHandle {
 
         private static final long serialVersionUID = 8329909590327062062L;
-        private transient List<ResetContextHandle> resetHandles;
+        private transient ResetContextHandle[] resetHandles;
 
-        private ChainedResetContextHandle(List<ResetContextHandle> resetHandles) {
+        private ChainedResetContextHandle(ResetContextHandle[] resetHandles) {
             this.resetHandles = resetHandles;
         }
 
         @Override
         public void reset() {
             if(resetHandles != null) {
-                for (ResetContextHandle handle : resetHandles) {
+                // reset in the reverse order of the setup, skipping the handles not setup due to a failure
+                for (int i = resetHandles.length - 1; i >= 0; i--) {
+                    final ResetContextHandle handle = resetHandles[i];
+                    if (handle == null) {
+                        continue;
+                    }
                     try {
                         handle.reset();
                     } catch (Throwable e) {
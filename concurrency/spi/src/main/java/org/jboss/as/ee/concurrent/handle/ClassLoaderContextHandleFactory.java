@@ -23,10 +23,14 @@ public class ClassLoaderContextHandleFactory implements EE10ContextHandleFactory
 
     public static final String NAME = "CLASSLOADER";
 
+    private static final ClassLoaderSetupContextHandle CLEARED_CONTEXT_HANDLE = new ClassLoaderSetupContextHandle(null);
+
     private final ClassLoader classLoader;
+    private final ClassLoaderSetupContextHandle propagatedContextHandle;
 
     public ClassLoaderContextHandleFactory(ClassLoader classLoader) {
         this.classLoader = classLoader;
+        this.propagatedContextHandle = new ClassLoaderSetupContextHandle(classLoader);
     }
 
     @Override
@@ -36,12 +40,12 @@ public class ClassLoaderContextHandleFactory implements EE10ContextHandleFactory
 
     @Override
     public SetupContextHandle propagatedContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        return new ClassLoaderSetupContextHandle(classLoader);
+        return propagatedContextHandle;
     }
 
     @Override
     public SetupContextHandle clearedContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        return new ClassLoaderSetupContextHandle(null);
+        return CLEARED_CONTEXT_HANDLE;
     }
 
     @Override
@@ -54,6 +58,11 @@ public class ClassLoaderContextHandleFactory implements EE10ContextHandleFactory
         return 100;
     }
 
+    @Override
+    public boolean isInvocationIndependent() {
+        return true;
+    }
+
     @Override
     public void writeSetupContextHandle(SetupContextHandle contextHandle, ObjectOutputStream out) throws IOException {
         out.writeBoolean(((ClassLoaderSetupContextHandle)contextHandle).classLoader != null);
@@ -61,7 +70,7 @@ public class ClassLoaderContextHandleFactory implements EE10ContextHandleFactory
 
     @Override
     public SetupContextHandle readSetupContextHandle(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        return new ClassLoaderSetupContextHandle(in.readBoolean() ? classLoader : null);
+        return in.readBoolean() ? propagatedContextHandle : CLEARED_CONTEXT_HANDLE;
     }
 
     static class ClassLoaderSetupContextHandle implements SetupContextHandle {
@@ -57,4 +57,14 @@ public interface ContextHandleFactory {
      */
     SetupContextHandle readSetupContextHandle(ObjectInputStream in) throws IOException, ClassNotFoundException;
 
+    /**
+     * Whether the handles saved by this factory do not depend on the invocation context of the submitting thread, but
+     * only on the context service, in which case a handle may be saved once and shared by all the tasks the context
+     * service contextualizes without context object properties.
+     * @return {@code true} if the saved handles may be shared, {@code false} otherwise
+     */
+    default boolean isInvocationIndependent() {
+        return false;
+    }
+
 }
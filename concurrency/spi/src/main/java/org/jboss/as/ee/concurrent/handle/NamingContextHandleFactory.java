@@ -29,10 +29,12 @@ public class NamingContextHandleFactory implements EE10ContextHandleFactory {
 
     private final NamespaceContextSelector namespaceContextSelector;
     private final ServiceName duServiceName;
+    private final NamingContextHandle propagatedContextHandle;
 
     public NamingContextHandleFactory(NamespaceContextSelector namespaceContextSelector, ServiceName duServiceName) {
         this.namespaceContextSelector = namespaceContextSelector;
         this.duServiceName = duServiceName;
+        this.propagatedContextHandle = new NamingContextHandle(namespaceContextSelector, duServiceName);
     }
 
     @Override
@@ -47,7 +49,7 @@ public class NamingContextHandleFactory implements EE10ContextHandleFactory {
 
     @Override
     public SetupContextHandle propagatedContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        return new NamingContextHandle(namespaceContextSelector,duServiceName);
+        return propagatedContextHandle;
     }
 
     @Override
@@ -60,6 +62,11 @@ public class NamingContextHandleFactory implements EE10ContextHandleFactory {
         return 200;
     }
 
+    @Override
+    public boolean isInvocationIndependent() {
+        return true;
+    }
+
     @Override
     public void writeSetupContextHandle(SetupContextHandle contextHandle, ObjectOutputStream out) throws IOException {
         out.writeBoolean(contextHandle != CLEARED_CONTEXT_HANDLE);
@@ -67,7 +74,7 @@ public class NamingContextHandleFactory implements EE10ContextHandleFactory {
 
     @Override
     public SetupContextHandle readSetupContextHandle(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        return in.readBoolean() ? new NamingContextHandle(namespaceContextSelector,duServiceName) : CLEARED_CONTEXT_HANDLE;
+        return in.readBoolean() ? propagatedContextHandle : CLEARED_CONTEXT_HANDLE;
     }
 
     private static class NamingContextHandle implements SetupContextHandle, ResetContextHandle {
@@ -28,10 +28,12 @@ public class OtherEESetupActionsContextHandleFactory implements EE10ContextHandl
 
     private final List<SetupAction> setupActions;
     private final SetupContextHandle clearedContextHandle;
+    private final SetupContextHandle propagatedContextHandle;
 
     public OtherEESetupActionsContextHandleFactory(List<SetupAction> setupActions) {
         this.setupActions = setupActions;
         this.clearedContextHandle = new ClearedSetupContextHandle(setupActions);
+        this.propagatedContextHandle = new PropagatedSetupContextHandle(setupActions);
     }
 
     @Override
@@ -46,7 +48,7 @@ public class OtherEESetupActionsContextHandleFactory implements EE10ContextHandl
 
     @Override
     public SetupContextHandle propagatedContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        return new PropagatedSetupContextHandle(setupActions);
+        return propagatedContextHandle;
     }
 
     @Override
@@ -59,6 +61,11 @@ public class OtherEESetupActionsContextHandleFactory implements EE10ContextHandl
         return 400;
     }
 
+    @Override
+    public boolean isInvocationIndependent() {
+        return true;
+    }
+
     @Override
     public void writeSetupContextHandle(SetupContextHandle contextHandle, ObjectOutputStream out) throws IOException {
         out.writeBoolean(contextHandle != clearedContextHandle);
@@ -66,7 +73,7 @@ public class OtherEESetupActionsContextHandleFactory implements EE10ContextHandl
 
     @Override
     public SetupContextHandle readSetupContextHandle(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        return in.readBoolean() ? new PropagatedSetupContextHandle(setupActions) : clearedContextHandle;
+        return in.readBoolean() ? propagatedContextHandle : clearedContextHandle;
     }
 
     private static class PropagatedSetupContextHandle implements SetupContextHandle {
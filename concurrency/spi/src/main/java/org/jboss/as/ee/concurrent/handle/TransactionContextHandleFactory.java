@@ -68,6 +68,11 @@ public class TransactionContextHandleFactory implements EE10ContextHandleFactory
         return 10;
     }
 
+    @Override
+    public boolean isInvocationIndependent() {
+        return true;
+    }
+
     @Override
     public void writeSetupContextHandle(SetupContextHandle contextHandle, ObjectOutputStream out) throws IOException {
     }
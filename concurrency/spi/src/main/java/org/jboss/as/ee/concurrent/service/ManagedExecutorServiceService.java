@@ -6,6 +6,7 @@
 package org.jboss.as.ee.concurrent.service;
 
 import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -50,6 +51,7 @@ public class ManagedExecutorServiceService extends EEConcurrentAbstractService<M
     private final DelegatingSupplier<WildFlyContextService> contextServiceSupplier = new DelegatingSupplier<>();
     private final WildFlyManagedExecutorService.RejectPolicy rejectPolicy;
     private final Integer threadPriority;
+    private final boolean virtual;
     private final Supplier<ProcessStateNotifier> processStateNotifierSupplier;
     private final Supplier<RequestController> requestControllerSupplier;
     private ControlPoint controlPoint;
@@ -76,13 +78,14 @@ public class ManagedExecutorServiceService extends EEConcurrentAbstractService<M
      * @param queueCapacity
      * @param rejectPolicy
      * @param threadPriority
+     * @param virtual
      */
     public ManagedExecutorServiceService(final Consumer<ManagedExecutorServiceAdapter> consumer,
                                          final Supplier<WildFlyContextService> contextServiceSupplier,
                                          final Supplier<WildFlyManagedThreadFactory> managedThreadFactorySupplier,
                                          final Supplier<ProcessStateNotifier> processStateNotifierSupplier,
                                          final Supplier<RequestController> requestControllerSupplier,
-                                         String name, String jndiName, long hungTaskThreshold, long hungTaskTerminationPeriod, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, Integer threadPriority, final Supplier<ManagedExecutorHungTasksPeriodicTerminationService> hungTasksPeriodicTerminationService) {
+                                         String name, String jndiName, long hungTaskThreshold, long hungTaskTerminationPeriod, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, Integer threadPriority, boolean virtual, final Supplier<ManagedExecutorHungTasksPeriodicTerminationService> hungTasksPeriodicTerminationService) {
         super(jndiName);
         this.consumer = consumer;
         this.contextServiceSupplier.set(contextServiceSupplier);
@@ -101,6 +104,7 @@ public class ManagedExecutorServiceService extends EEConcurrentAbstractService<M
         this.queueCapacity = queueCapacity;
         this.rejectPolicy = rejectPolicy;
         this.threadPriority = threadPriority;
+        this.virtual = virtual;
         this.hungTasksPeriodicTerminationService = hungTasksPeriodicTerminationService;
     }
 
@@ -113,12 +117,18 @@ public class ManagedExecutorServiceService extends EEConcurrentAbstractService<M
             WildFlyManagedThreadFactory managedThreadFactory = managedThreadFactorySupplier != null ? managedThreadFactorySupplier.get() : null;
             priority = managedThreadFactory != null ? managedThreadFactory.getPriority() : Thread.NORM_PRIORITY;
         }
-        WildFlyManagedThreadFactory managedThreadFactory = ConcurrencyImplementation.INSTANCE.newManagedThreadFactory("EE-ManagedExecutorService-"+name, null, priority);
+        WildFlyManagedThreadFactory managedThreadFactory = ConcurrencyImplementation.INSTANCE.newManagedThreadFactory("EE-ManagedExecutorService-"+name, null, priority, virtual);
         if (requestControllerSupplier != null) {
             final RequestController requestController = requestControllerSupplier.get();
             controlPoint = requestController != null ? requestController.getControlPoint(name, "managed-executor-service") : null;
         }
-        executorService = new ManagedExecutorServiceAdapter(ConcurrencyImplementation.INSTANCE.newManagedExecutorService(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueCapacity, contextServiceSupplier != null ? contextServiceSupplier.get() : null, rejectPolicy, controlPoint, processStateNotifierSupplier.get()));
+        final WildFlyContextService contextService = contextServiceSupplier != null ? contextServiceSupplier.get() : null;
+        if (managedThreadFactory.isVirtual()) {
+            // virtual threads are cheap, instead of waiting in a queue a task not taken by an idle thread gets a new one
+            executorService = new ManagedExecutorServiceAdapter(ConcurrencyImplementation.INSTANCE.newManagedExecutorService(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, Integer.MAX_VALUE, keepAliveTime, keepAliveTimeUnit, threadLifeTime, contextService, rejectPolicy, new SynchronousQueue<>(), controlPoint, processStateNotifierSupplier.get()));
+        } else {
+            executorService = new ManagedExecutorServiceAdapter(ConcurrencyImplementation.INSTANCE.newManagedExecutorService(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueCapacity, contextService, rejectPolicy, controlPoint, processStateNotifierSupplier.get()));
+        }
         if (hungTaskThreshold > 0 && hungTaskTerminationPeriod > 0) {
             hungTasksPeriodicTerminationFuture = hungTasksPeriodicTerminationService.get().startHungTaskPeriodicTermination(executorService.getExecutorService(), hungTaskTerminationPeriod);
         }
@@ -45,6 +45,12 @@ public class AdminObjectReferenceFactoryService implements Service<ManagedRefere
         return reference;
     }
 
+    @Override
+    public boolean isImmutable() {
+        // the reference only changes when the service restarts, which unbinds it
+        return true;
+    }
+
     public Injector<Object> getAdminObjectInjector() {
         return adminObjectValue;
     }
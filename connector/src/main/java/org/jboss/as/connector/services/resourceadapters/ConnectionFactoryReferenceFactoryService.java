@@ -54,6 +54,12 @@ public class ConnectionFactoryReferenceFactoryService implements Service<Managed
         return reference;
     }
 
+    @Override
+    public boolean isImmutable() {
+        // the reference only changes when the service restarts, which unbinds it
+        return true;
+    }
+
     public Injector<Object> getConnectionFactoryInjector() {
         return connectionFactoryValue;
     }
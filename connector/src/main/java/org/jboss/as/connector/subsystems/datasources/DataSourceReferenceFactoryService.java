@@ -47,6 +47,12 @@ public class DataSourceReferenceFactoryService implements Service<ManagedReferen
         return reference;
     }
 
+    @Override
+    public boolean isImmutable() {
+        // the reference only changes when the service restarts, which unbinds it
+        return true;
+    }
+
     public Injector<DataSource> getDataSourceInjector() {
         return dataSourceValue; // TODO: Should we use unique references
     }
@@ -29,8 +29,17 @@ import java.util.Map;
  */
 public class ComponentClientInstance implements Serializable {
 
+    // the value computed for the class before the context information snapshot was added
+    private static final long serialVersionUID = -297606477285173884L;
+
+    private static final Object[] NO_CONTEXT_INFORMATION = new Object[0];
+
     private final Map<Object, Object> contextInformation = new HashMap<Object, Object>();
     private volatile boolean constructionComplete = false;
+    // key/value pairs of the context information, flattened once construction is complete so that
+    // preparing the context of each invocation does not need to iterate over the map; not serialized,
+    // a deserialized instance iterates over the map instead
+    private transient volatile Object[] contextInformationSnapshot;
 
     public Object getViewInstanceData(final Object key) {
         return contextInformation.get(key);
@@ -44,13 +53,31 @@ public class ComponentClientInstance implements Serializable {
     }
 
     void prepareInterceptorContext(InterceptorContext interceptorContext){
-        for(Map.Entry<Object, Object> entry : contextInformation.entrySet()) {
-            interceptorContext.putPrivateData(entry.getKey(), entry.getValue());
+        final Object[] snapshot = contextInformationSnapshot;
+        if (snapshot != null) {
+            for (int i = 0; i < snapshot.length; i += 2) {
+                interceptorContext.putPrivateData(snapshot[i], snapshot[i + 1]);
+            }
+        } else {
+            for(Map.Entry<Object, Object> entry : contextInformation.entrySet()) {
+                interceptorContext.putPrivateData(entry.getKey(), entry.getValue());
+            }
         }
     }
 
     void constructionComplete() {
         constructionComplete = true;
+        if (contextInformation.isEmpty()) {
+            contextInformationSnapshot = NO_CONTEXT_INFORMATION;
+        } else {
+            final Object[] snapshot = new Object[contextInformation.size() * 2];
+            int i = 0;
+            for (Map.Entry<Object, Object> entry : contextInformation.entrySet()) {
+                snapshot[i++] = entry.getKey();
+                snapshot[i++] = entry.getValue();
+            }
+            contextInformationSnapshot = snapshot;
+        }
     }
 
 }
@@ -35,6 +35,7 @@ import org.jboss.as.ee.component.ViewConfiguration;
 import org.jboss.as.ee.component.ViewService;
 import org.jboss.as.ee.logging.EeLogger;
 import org.jboss.as.ee.metadata.MetadataCompleteMarker;
+import org.jboss.as.ee.naming.NamingLookupCache;
 import org.jboss.as.naming.ManagedReferenceFactory;
 import org.jboss.as.naming.ServiceBasedNamingStore;
 import org.jboss.as.naming.deployment.ContextNames;
@@ -161,7 +162,7 @@ public final class ComponentInstallProcessor implements DeploymentUnitProcessor
         final ServiceName contextServiceName;
         //set up the naming context if necessary
         if (configuration.getComponentDescription().getNamingMode() == ComponentNamingMode.CREATE) {
-            final NamingStoreService contextService = new NamingStoreService(true);
+            final NamingStoreService contextService = new NamingStoreService(true, NamingLookupCache.isEnabled(deploymentUnit));
             serviceTarget.addService(configuration.getComponentDescription().getContextServiceName(), contextService).install();
         }
 
@@ -9,6 +9,7 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.ProcessStateNotifier;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ee.logging.EeLogger;
 import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.dmr.ModelNode;
 import org.jboss.staxmapper.XMLExtendedStreamReader;
@@ -96,6 +97,15 @@ public interface ConcurrencyImplementation {
      */
     void parseConcurrentElement60(XMLExtendedStreamReader reader, List<ModelNode> operations, PathAddress subsystemPathAddress) throws XMLStreamException;
 
+    /**
+     * Parses <concurrent/> XML element for EE subsystem schema 7.0
+     * @param reader the stream reader
+     * @param operations the list to add operations
+     * @param subsystemPathAddress the subsystem path address
+     * @throws XMLStreamException if an error occurs
+     */
+    void parseConcurrentElement70(XMLExtendedStreamReader reader, List<ModelNode> operations, PathAddress subsystemPathAddress) throws XMLStreamException;
+
     /**
      * Writes <concurrent/> XML element.
      * @param writer the stream writer
@@ -119,6 +129,20 @@ public interface ConcurrencyImplementation {
      */
     WildFlyManagedThreadFactory newManagedThreadFactory(String name, WildFlyContextService contextService, int priority);
 
+    /**
+     * @param name the instance name
+     * @param contextService the context service to use
+     * @param priority the thread factory priority, ignored by virtual threads
+     * @param virtual if the thread factory should create virtual threads
+     * @return a new WildFlyManagedThreadFactory instance with the specified params. If virtual threads are requested but not supported, the returned instance creates platform threads.
+     */
+    default WildFlyManagedThreadFactory newManagedThreadFactory(String name, WildFlyContextService contextService, int priority, boolean virtual) {
+        if (virtual) {
+            EeLogger.ROOT_LOGGER.virtualThreadsNotAvailable(name);
+        }
+        return newManagedThreadFactory(name, contextService, priority);
+    }
+
     /**
      *
      * @param name the instance name
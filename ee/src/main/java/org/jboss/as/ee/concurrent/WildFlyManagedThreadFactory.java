@@ -13,4 +13,12 @@ import jakarta.enterprise.concurrent.ManagedThreadFactory;
 public interface WildFlyManagedThreadFactory extends ManagedThreadFactory {
     void stop();
     int getPriority();
+
+    /**
+     *
+     * @return true if the factory creates virtual threads, false if it creates platform threads
+     */
+    default boolean isVirtual() {
+        return false;
+    }
 }
@@ -1233,4 +1233,13 @@ public interface EeLogger extends BasicLogger {
 
     @Message(id = 143, value = "Lifecycle operation not supported")
     IllegalStateException lifecycleOperationNotSupported();
+
+    /**
+     * Logs a warning message indicating virtual threads are not available, and platform threads are used instead.
+     *
+     * @param name the name of the thread factory
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 144, value = "Virtual threads are not available for %s, platform threads will be used instead")
+    void virtualThreadsNotAvailable(String name);
 }
@@ -41,7 +41,7 @@ public class ApplicationContextProcessor implements DeploymentUnitProcessor {
         EEModuleDescription moduleDescription = deploymentUnit.getAttachment(org.jboss.as.ee.component.Attachments.EE_MODULE_DESCRIPTION);
         final ServiceTarget serviceTarget = phaseContext.getServiceTarget();
         final ServiceName applicationContextServiceName = ContextNames.contextServiceNameOfApplication(moduleDescription.getApplicationName());
-        final NamingStoreService contextService = new NamingStoreService(true);
+        final NamingStoreService contextService = new NamingStoreService(true, NamingLookupCache.isEnabled(deploymentUnit));
         serviceTarget.addService(applicationContextServiceName, contextService).install();
         final ServiceName appNameServiceName = applicationContextServiceName.append("AppName");
         final BinderService applicationNameBinder = new BinderService("AppName");
@@ -50,7 +50,7 @@ public class ModuleContextProcessor implements DeploymentUnitProcessor {
 
         final ServiceName appContextServiceName = ContextNames.contextServiceNameOfApplication(moduleDescription.getApplicationName());
         final ServiceName moduleContextServiceName = ContextNames.contextServiceNameOfModule(moduleDescription.getApplicationName(), moduleDescription.getModuleName());
-        final NamingStoreService contextService = new NamingStoreService(true);
+        final NamingStoreService contextService = new NamingStoreService(true, NamingLookupCache.isEnabled(deploymentUnit));
         serviceTarget.addService(moduleContextServiceName, contextService).install();
 
         final ServiceName moduleNameServiceName = moduleContextServiceName.append("ModuleName");
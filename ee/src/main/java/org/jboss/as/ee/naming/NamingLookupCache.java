@@ -0,0 +1,45 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.naming;
+
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+
+import org.jboss.as.naming.ServiceBasedNamingStore;
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.module.ResourceRoot;
+
+/**
+ * Resolves whether the java:app, java:module and java:comp naming stores of a deployment cache the instances of their
+ * immutable bindings. A deployment overrides the server wide {@code jboss.naming.lookupCache} system property with the
+ * {@value #MANIFEST_ATTRIBUTE} attribute of the manifest of its top level archive.
+ */
+public final class NamingLookupCache {
+
+    public static final String MANIFEST_ATTRIBUTE = "WildFly-Naming-Lookup-Cache";
+
+    private NamingLookupCache() {
+    }
+
+    /**
+     * @param deploymentUnit a deployment or sub deployment
+     * @return whether the naming stores of the deployment cache their lookups
+     */
+    public static boolean isEnabled(final DeploymentUnit deploymentUnit) {
+        final DeploymentUnit topLevel = deploymentUnit.getParent() == null ? deploymentUnit : deploymentUnit.getParent();
+        final ResourceRoot root = topLevel.getAttachment(Attachments.DEPLOYMENT_ROOT);
+        final Manifest manifest = root != null ? root.getAttachment(Attachments.MANIFEST) : null;
+        if (manifest != null) {
+            final Attributes main = manifest.getMainAttributes();
+            final String value = main != null ? main.getValue(MANIFEST_ATTRIBUTE) : null;
+            if (value != null && !value.trim().isEmpty()) {
+                return Boolean.parseBoolean(value.trim());
+            }
+        }
+        return ServiceBasedNamingStore.DEFAULT_LOOKUP_CACHE;
+    }
+}
@@ -113,11 +113,19 @@ public class EeLegacySubsystemTestCase extends AbstractSubsystemBaseTest {
         assertFalse(globalModules.require(1).require(SERVICES).asBoolean());
 
         assertFalse(subsystem.require(ANNOTATION_PROPERTY_REPLACEMENT).asBoolean());
-        assertTrue(subsystem.require(EAR_SUBDEPLOYMENTS_ISOLATED).asBoolean());
         assertTrue(subsystem.require(JBOSS_DESCRIPTOR_PROPERTY_REPLACEMENT).asBoolean());
         assertFalse(subsystem.require(SPEC_DESCRIPTOR_PROPERTY_REPLACEMENT).asBoolean());
     }
 
+    @Test
+    public void testSubsystem60() throws Exception {
+        KernelServices services = standardSubsystemTest("subsystem_6_0.xml", false);
+        ModelNode subsystem = services.readWholeModel().require(SUBSYSTEM).require(EeExtension.SUBSYSTEM_NAME);
+        ModelNode globalDirectory = subsystem.require(EESubsystemModel.GLOBAL_DIRECTORY).require("my-app-libs");
+
+        assertEquals("jboss.server.base.dir", globalDirectory.require(GlobalDirectoryResourceDefinition.RELATIVE_TO.getName()).asString());
+    }
+
     @Override
     protected String getSubsystemXml() throws IOException {
         return readResource("subsystem_1_2.xml");
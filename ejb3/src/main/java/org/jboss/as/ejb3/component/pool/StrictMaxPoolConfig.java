@@ -6,7 +6,10 @@
 package org.jboss.as.ejb3.component.pool;
 
 import org.jboss.as.ejb3.pool.Pool;
+import org.jboss.as.ejb3.pool.PoolScheduler;
 import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+import org.jboss.as.ejb3.pool.strictmax.HandoffStrictMaxPool;
+import org.jboss.as.ejb3.pool.strictmax.ShardedStrictMaxPool;
 import org.jboss.as.ejb3.pool.strictmax.StrictMaxPool;
 
 import java.util.concurrent.TimeUnit;
@@ -22,6 +25,15 @@ public class StrictMaxPoolConfig extends PoolConfig {
 
     public static final TimeUnit DEFAULT_TIMEOUT_UNIT = TimeUnit.MINUTES;
 
+    public static final boolean DEFAULT_SHARDED = false;
+
+    public static final int DEFAULT_MIN_POOL_SIZE = 0;
+
+    /**
+     * Callers wait for an instance without any limit on their number
+     */
+    public static final int UNBOUNDED_WAITERS = -1;
+
 
     private volatile int maxPoolSize;
 
@@ -29,16 +41,49 @@ public class StrictMaxPoolConfig extends PoolConfig {
 
     private volatile long timeout;
 
+    private volatile boolean sharded;
+
+    private volatile int minPoolSize;
+
+    /**
+     * The idle timeout in milliseconds, 0 if idle instances are never evicted
+     */
+    private volatile long idleTimeout;
+
+    /**
+     * The maximum number of callers waiting for an instance, or {@link #UNBOUNDED_WAITERS}
+     */
+    private volatile int maxWaiters;
+
+    /**
+     * The scheduler of the maintenance of the pools created from this configuration, while the configuration is started
+     */
+    private volatile PoolScheduler scheduler;
+
     public StrictMaxPoolConfig(final String poolName, int maxSize, long timeout, TimeUnit timeUnit) {
+        this(poolName, maxSize, timeout, timeUnit, DEFAULT_SHARDED, DEFAULT_MIN_POOL_SIZE, 0L, UNBOUNDED_WAITERS);
+    }
+
+    public StrictMaxPoolConfig(final String poolName, int maxSize, long timeout, TimeUnit timeUnit, boolean sharded, int minSize, long idleTimeout, int maxWaiters) {
         super(poolName);
         this.maxPoolSize = maxSize;
         this.timeout = timeout;
         this.timeoutUnit = timeUnit;
+        this.sharded = sharded;
+        this.minPoolSize = minSize;
+        this.idleTimeout = idleTimeout;
+        this.maxWaiters = maxWaiters;
     }
 
     @Override
     public <T> Pool<T> createPool(final StatelessObjectFactory<T> statelessObjectFactory) {
-        return new StrictMaxPool<T>(statelessObjectFactory, this.maxPoolSize, this.timeout, this.timeoutUnit);
+        if (this.maxWaiters != UNBOUNDED_WAITERS) {
+            return new HandoffStrictMaxPool<T>(statelessObjectFactory, this.maxPoolSize, this.maxWaiters, this.timeout, this.timeoutUnit, this.minPoolSize, this.idleTimeout, this.scheduler);
+        }
+        if (this.sharded) {
+            return new ShardedStrictMaxPool<T>(statelessObjectFactory, this.maxPoolSize, this.timeout, this.timeoutUnit, this.minPoolSize, this.idleTimeout, this.scheduler);
+        }
+        return new StrictMaxPool<T>(statelessObjectFactory, this.maxPoolSize, this.timeout, this.timeoutUnit, this.minPoolSize, this.idleTimeout, this.scheduler);
     }
 
     public int getMaxPoolSize() {
@@ -65,6 +110,46 @@ public class StrictMaxPoolConfig extends PoolConfig {
         this.timeout = timeout;
     }
 
+    public boolean isSharded() {
+        return sharded;
+    }
+
+    public void setSharded(boolean sharded) {
+        this.sharded = sharded;
+    }
+
+    public int getMinPoolSize() {
+        return minPoolSize;
+    }
+
+    public void setMinPoolSize(int minPoolSize) {
+        this.minPoolSize = minPoolSize;
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public int getMaxWaiters() {
+        return maxWaiters;
+    }
+
+    public void setMaxWaiters(int maxWaiters) {
+        this.maxWaiters = maxWaiters;
+    }
+
+    public PoolScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public void setScheduler(PoolScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
     @Override
     public String toString() {
         return "StrictMaxPoolConfig{" +
@@ -72,6 +157,10 @@ public class StrictMaxPoolConfig extends PoolConfig {
                 ", maxPoolSize=" + maxPoolSize +
                 ", timeoutUnit=" + timeoutUnit +
                 ", timeout=" + timeout +
+                ", sharded=" + sharded +
+                ", minPoolSize=" + minPoolSize +
+                ", idleTimeout=" + idleTimeout +
+                ", maxWaiters=" + maxWaiters +
                 '}';
     }
 }
@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.PoolScheduler;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -32,23 +33,28 @@ public class StrictMaxPoolConfigService implements Service<StrictMaxPoolConfig>
     private volatile Derive derive;
 
 
-    public StrictMaxPoolConfigService(final Consumer<StrictMaxPoolConfig> configConsumer, final Supplier<Integer> maxThreadsSupplier, final String poolName, int declaredMaxSize, Derive derive, long timeout, TimeUnit timeUnit) {
+    public StrictMaxPoolConfigService(final Consumer<StrictMaxPoolConfig> configConsumer, final Supplier<Integer> maxThreadsSupplier, final String poolName, int declaredMaxSize, Derive derive, long timeout, TimeUnit timeUnit, boolean sharded, int minSize, long idleTimeout, int maxWaiters) {
         this.configConsumer = configConsumer;
         this.maxThreadsSupplier = maxThreadsSupplier;
         this.declaredMaxSize = declaredMaxSize;
         this.derive = derive;
-        this.poolConfig = new StrictMaxPoolConfig(poolName, declaredMaxSize, timeout, timeUnit);
+        this.poolConfig = new StrictMaxPoolConfig(poolName, declaredMaxSize, timeout, timeUnit, sharded, minSize, idleTimeout, maxWaiters);
     }
 
     @Override
     public void start(final StartContext context) throws StartException {
         setDerive(derive);
+        poolConfig.setScheduler(new PoolScheduler(poolConfig.getPoolName()));
         configConsumer.accept(poolConfig);
     }
 
     @Override
     public void stop(final StopContext context) {
         configConsumer.accept(null);
+        // the pools created from this configuration were stopped with their components, which depend on this service
+        PoolScheduler scheduler = poolConfig.getScheduler();
+        poolConfig.setScheduler(null);
+        scheduler.shutdown();
     }
 
     @Override
@@ -102,4 +108,20 @@ public class StrictMaxPoolConfigService implements Service<StrictMaxPoolConfig>
     public void setTimeoutUnit(TimeUnit timeUnit) {
         poolConfig.setTimeoutUnit(timeUnit);
     }
+
+    public void setSharded(boolean sharded) {
+        poolConfig.setSharded(sharded);
+    }
+
+    public void setMinPoolSize(int minSize) {
+        poolConfig.setMinPoolSize(minSize);
+    }
+
+    public void setIdleTimeout(long idleTimeout) {
+        poolConfig.setIdleTimeout(idleTimeout);
+    }
+
+    public void setMaxWaiters(int maxWaiters) {
+        poolConfig.setMaxWaiters(maxWaiters);
+    }
 }
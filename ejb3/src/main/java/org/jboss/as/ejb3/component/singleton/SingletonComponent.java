@@ -26,6 +26,7 @@ import org.jboss.invocation.Interceptor;
 import org.jboss.msc.service.ServiceContainer;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
 
@@ -36,6 +37,13 @@ import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
  */
 public class SingletonComponent extends SessionBeanComponent {
 
+    /**
+     * Whether singletons use a {@link StripedEJBReadWriteLock}, whose read lock scales with the number of concurrent
+     * readers of {@link LockType#READ} methods, instead of a {@link EJBReadWriteLock}.
+     */
+    private static final boolean STRIPED_READ_LOCK = Boolean.parseBoolean(
+            WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.singleton.stripedReadLock", "false"));
+
     private volatile SingletonComponentInstance singletonComponentInstance;
 
     private final boolean initOnStartup;
@@ -57,9 +65,9 @@ public class SingletonComponent extends SessionBeanComponent {
     private final Object creationLock = new Object();
 
     /**
-     * A spec compliant {@link EJBReadWriteLock}
+     * A spec compliant {@link EJBReadWriteLock} or {@link StripedEJBReadWriteLock}
      */
-    private final ReadWriteLock readWriteLock = new EJBReadWriteLock();
+    private final ReadWriteLock readWriteLock = STRIPED_READ_LOCK ? new StripedEJBReadWriteLock() : new EJBReadWriteLock();
 
     /**
      * Construct a new instance.
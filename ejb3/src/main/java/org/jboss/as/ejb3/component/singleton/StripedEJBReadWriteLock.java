@@ -0,0 +1,364 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.singleton;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * A {@link ReadWriteLock} with the semantics of {@link EJBReadWriteLock}, whose read lock scales with the number of
+ * concurrent readers.
+ * <p>
+ * Readers are counted in padded per-thread stripes instead of one shared state word, so readers of different stripes
+ * do not contend with each other as long as no writer is active. A writer first excludes other writers, then announces
+ * itself, which makes new readers back off, and waits until the stripes are drained. Once a writer is waiting,
+ * only threads that already hold the read lock can acquire it again, so writers are not starved.
+ * <p>
+ * Like {@link EJBReadWriteLock}, both locks are reentrant, the thread holding the write lock can acquire the read lock,
+ * and a thread holding a read lock that requests the write lock gets a {@link jakarta.ejb.IllegalLoopbackException}.
+ * The read holds of a thread are tracked in a holder that stays attached to the thread, instead of a boxed count
+ * that is set and removed on every call.
+ */
+public class StripedEJBReadWriteLock implements ReadWriteLock {
+
+    /**
+     * Number of {@code long} slots between two stripes, so that each stripe has its own cache line
+     */
+    private static final int PADDING = 16;
+    private static final int STRIPES = Math.min(64, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1) << 1));
+
+    /**
+     * Number of readers of each stripe
+     */
+    private final AtomicLongArray readers = new AtomicLongArray(STRIPES * PADDING);
+
+    /**
+     * Held by the writer, excludes other writers and blocks the readers while a writer is active
+     */
+    private final ReentrantLock writerLock = new ReentrantLock();
+
+    /**
+     * The thread that holds, or waits for, the write lock
+     */
+    private volatile Thread writer;
+
+    /**
+     * Number of write holds, only accessed by the {@link #writer}
+     */
+    private int writeHolds;
+
+    private final ThreadLocal<ReadHolds> readHolds = ThreadLocal.withInitial(ReadHolds::new);
+
+    private final Lock readLock = new ReadLock();
+    private final Lock writeLock = new WriteLock();
+
+    @Override
+    public Lock readLock() {
+        return readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return writeLock;
+    }
+
+    /**
+     * Acquires the read lock.
+     *
+     * @param wait whether to wait for an active writer
+     * @param timed whether to wait at most {@code nanos}
+     * @param interruptible whether to throw an {@link InterruptedException} if interrupted while waiting
+     * @return true if the lock was acquired
+     */
+    private boolean acquireRead(final boolean wait, final boolean timed, final long nanos, final boolean interruptible) throws InterruptedException {
+        final ReadHolds holds = readHolds.get();
+        if (writer == Thread.currentThread()) {
+            // the writer does not wait for its own reads
+            holds.count++;
+            holds.writerCount++;
+            return true;
+        }
+        final int index = holds.stripe * PADDING;
+        if (holds.count > 0) {
+            // a waiting writer waits for this thread, so a reentrant read must not wait for the writer
+            readers.getAndIncrement(index);
+            holds.count++;
+            return true;
+        }
+        final long deadline = timed ? System.nanoTime() + nanos : 0L;
+        while (true) {
+            readers.getAndIncrement(index);
+            final Thread currentWriter = writer;
+            if (currentWriter == null) {
+                holds.count++;
+                return true;
+            }
+            // a writer holds or waits for the lock, back off until it releases the writer lock
+            readers.getAndDecrement(index);
+            LockSupport.unpark(currentWriter);
+            if (!wait) {
+                return false;
+            }
+            if (timed) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L || !writerLock.tryLock(remaining, TimeUnit.NANOSECONDS)) {
+                    return false;
+                }
+            } else if (interruptible) {
+                writerLock.lockInterruptibly();
+            } else {
+                writerLock.lock();
+            }
+            writerLock.unlock();
+        }
+    }
+
+    private void releaseRead() {
+        final ReadHolds holds = readHolds.get();
+        if (holds.count == 0) {
+            throw new IllegalMonitorStateException();
+        }
+        holds.count--;
+        if (holds.writerCount > 0) {
+            holds.writerCount--;
+            return;
+        }
+        readers.getAndDecrement(holds.stripe * PADDING);
+        final Thread currentWriter = writer;
+        if (currentWriter != null) {
+            LockSupport.unpark(currentWriter);
+        }
+    }
+
+    /**
+     * Acquires the write lock.
+     *
+     * @param wait whether to wait for other writers and the readers
+     * @param timed whether to wait at most {@code nanos}
+     * @param interruptible whether to throw an {@link InterruptedException} if interrupted while waiting
+     * @return true if the lock was acquired
+     */
+    private boolean acquireWrite(final boolean wait, final boolean timed, final long nanos, final boolean interruptible) throws InterruptedException {
+        checkLoopback();
+        final Thread current = Thread.currentThread();
+        if (writer == current) {
+            writeHolds++;
+            return true;
+        }
+        final long deadline = timed ? System.nanoTime() + nanos : 0L;
+        if (!wait) {
+            if (!writerLock.tryLock()) {
+                return false;
+            }
+        } else if (timed) {
+            if (!writerLock.tryLock(nanos, TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        } else if (interruptible) {
+            writerLock.lockInterruptibly();
+        } else {
+            writerLock.lock();
+        }
+        writer = current;
+        writeHolds = 1;
+        boolean interrupted = false;
+        while (hasReaders()) {
+            if (!wait) {
+                abortWrite();
+                return false;
+            }
+            if (timed) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    abortWrite();
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+            } else {
+                LockSupport.park(this);
+            }
+            if (Thread.interrupted()) {
+                if (interruptible || timed) {
+                    abortWrite();
+                    throw new InterruptedException();
+                }
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            current.interrupt();
+        }
+        return true;
+    }
+
+    private void releaseWrite() {
+        if (writer != Thread.currentThread()) {
+            throw new IllegalMonitorStateException();
+        }
+        if (--writeHolds == 0) {
+            final ReadHolds holds = readHolds.get();
+            if (holds.writerCount > 0) {
+                // the read holds acquired while writing are still held, count them like the other readers
+                readers.getAndAdd(holds.stripe * PADDING, holds.writerCount);
+                holds.writerCount = 0;
+            }
+            writer = null;
+            writerLock.unlock();
+        }
+    }
+
+    private void abortWrite() {
+        writer = null;
+        writeHolds = 0;
+        writerLock.unlock();
+    }
+
+    private boolean hasReaders() {
+        for (int i = 0; i < STRIPES; i++) {
+            if (readers.get(i * PADDING) != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ensures that the current thread doesn't hold any read locks. If
+     * the thread holds any read locks, this method throws a {@link jakarta.ejb.IllegalLoopbackException}.
+     */
+    private void checkLoopback() {
+        if (readHolds.get().count > 0) {
+            throw EjbLogger.ROOT_LOGGER.failToUpgradeToWriteLock();
+        }
+    }
+
+    /**
+     * The read holds of a thread
+     */
+    private static final class ReadHolds {
+        /**
+         * The stripe the thread counts its read holds in
+         */
+        final int stripe = mix(System.identityHashCode(Thread.currentThread())) & (STRIPES - 1);
+        /**
+         * Number of read holds
+         */
+        int count;
+        /**
+         * Number of read holds acquired while holding the write lock, not counted in the stripe
+         */
+        int writerCount;
+
+        private static int mix(final int hash) {
+            final int h = hash * 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    private class ReadLock implements Lock {
+
+        @Override
+        public void lock() {
+            try {
+                acquireRead(true, false, 0L, false);
+            } catch (InterruptedException e) {
+                // not interruptible
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            acquireRead(true, false, 0L, true);
+        }
+
+        @Override
+        public boolean tryLock() {
+            try {
+                return acquireRead(false, false, 0L, false);
+            } catch (InterruptedException e) {
+                // does not wait
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            return acquireRead(true, true, unit.toNanos(time), true);
+        }
+
+        @Override
+        public void unlock() {
+            releaseRead();
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class WriteLock implements Lock {
+
+        @Override
+        public void lock() {
+            try {
+                acquireWrite(true, false, 0L, false);
+            } catch (InterruptedException e) {
+                // not interruptible
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            acquireWrite(true, false, 0L, true);
+        }
+
+        @Override
+        public boolean tryLock() {
+            try {
+                return acquireWrite(false, false, 0L, false);
+            } catch (InterruptedException e) {
+                // does not wait
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            return acquireWrite(true, true, unit.toNanos(time), true);
+        }
+
+        @Override
+        public void unlock() {
+            releaseWrite();
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -3255,4 +3255,29 @@ public interface EjbLogger extends BasicLogger {
 
     @Message(id = 536, value = "Unsupported EJB receiver protocol %s")
     IllegalArgumentException unsupportedEJBReceiverProtocol(String uriScheme);
+
+    @LogMessage(level = WARN)
+    @Message(id = 537, value = "Failed to pre-create or evict idle instances of pool %s")
+    void failedToMaintainPool(Object pool, @Cause Throwable cause);
+
+    @Message(id = 538, value = "Failed to acquire a permit, %d callers are already waiting for a bean instance")
+    EJBException tooManyPoolWaiters(int waiters);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 539, value = "Timer task %s failed")
+    void timerTaskFailed(Object task, @Cause Throwable cause);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 540, value = "Could not add the binary timer info column to the timer table, timer info is stored as text")
+    void couldNotAddBinaryTimerInfoColumn(@Cause SQLException e);
+
+    @LogMessage(level = WARN)
+    @Message(id = 541, value = "Timer journal %s is corrupted at offset %d, the records from this offset are discarded")
+    void timerJournalTruncated(File file, int offset);
+
+    @Message(id = 542, value = "Timer journal %s cannot grow beyond %d bytes")
+    IOException timerJournalTooLarge(File file, int maxSize);
+
+    @Message(id = 543, value = "%s is not a timer journal")
+    IOException invalidTimerJournal(File file);
 }
@@ -4,10 +4,23 @@
  */
 package org.jboss.as.ejb3.pool;
 
+import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.wildfly.security.manager.WildFlySecurityManager;
+
 /**
  * The base of all pool implementations.
+ * <p/>
+ * A pool may be configured with a minimum size and an idle timeout. Instances up to the minimum size are created in the
+ * background once the pool is started. Every idle timeout, the instances exceeding both the minimum size and the
+ * highest number of instances concurrently in use since the previous run were not needed during a whole idle timeout,
+ * and are evicted.
  *
  * @author <a href="mailto:bill@jboss.org">Bill Burke</a>
  * @author <a href="mailto:carlo.dewolf@jboss.com">Carlo de Wolf</a>
@@ -18,11 +31,51 @@ public abstract class AbstractPool<T> implements Pool<T> {
     private final StatelessObjectFactory<T> factory;
     private final AtomicInteger createCount = new AtomicInteger(0);
     private final AtomicInteger removeCount = new AtomicInteger(0);
+    private final AtomicInteger evictCount = new AtomicInteger(0);
+    private final AtomicInteger rejectedCount = new AtomicInteger(0);
+    private final WaitTimeHistogram waitTimes = new WaitTimeHistogram();
+    /**
+     * The number of instances created when the pool is started and never evicted.
+     */
+    private final int minSize;
+    /**
+     * The idle timeout in milliseconds, or 0 if idle instances are never evicted.
+     */
+    private final long idleTimeout;
+    /**
+     * The highest number of instances concurrently in use since the last eviction run.
+     */
+    private final AtomicInteger peakInUse = new AtomicInteger(0);
+    /**
+     * Serializes the maintenance runs with {@link #stopMaintenance()}.
+     */
+    private final Object maintenanceLock = new Object();
+    private final PoolScheduler scheduler;
+    private ScheduledFuture<?> maintenance;
+    /**
+     * The context class loader of the thread which started the pool, used by the maintenance runs.
+     */
+    private ClassLoader loader;
+    private boolean stopped;
 
     protected AbstractPool(StatelessObjectFactory<T> factory) {
+        this(factory, 0, 0L, null);
+    }
+
+    /**
+     * @param factory the factory of the pooled instances
+     * @param minSize the number of instances to create when the pool starts
+     * @param idleTimeout the idle timeout in milliseconds, or 0 if idle instances should never be evicted
+     * @param scheduler the scheduler of the maintenance runs, only required with a minimum size or an idle timeout
+     */
+    protected AbstractPool(StatelessObjectFactory<T> factory, int minSize, long idleTimeout, PoolScheduler scheduler) {
         assert factory != null : "factory is null";
+        assert scheduler != null || (minSize <= 0 && idleTimeout <= 0L) : "scheduler is null";
 
         this.factory = factory;
+        this.minSize = Math.max(0, minSize);
+        this.idleTimeout = Math.max(0L, idleTimeout);
+        this.scheduler = scheduler;
     }
 
     public int getCreateCount() {
@@ -33,8 +86,51 @@ public abstract class AbstractPool<T> implements Pool<T> {
         return removeCount.get();
     }
 
+    public int getEvictCount() {
+        return evictCount.get();
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getWaitTimePercentile(double percentile) {
+        return waitTimes.getPercentile(percentile);
+    }
+
     public abstract void setMaxSize(int maxSize);
 
+    /**
+     * Takes a free instance out of the pool.
+     *
+     * @return a free instance, or null if there is none
+     */
+    protected abstract T pollFree();
+
+    /**
+     * Puts a free instance into the pool, without affecting the number of instances in use.
+     *
+     * @param bean the instance
+     */
+    protected abstract void offerFree(T bean);
+
+    /**
+     * @return the number of instances currently handed out by the pool
+     */
+    protected abstract int getInUseCount();
+
+    /**
+     * Takes the permit to hand out an instance, without waiting and without overtaking callers already waiting.
+     *
+     * @return true if a permit was taken, false if the pool is exhausted
+     */
+    protected abstract boolean tryAcquirePermit();
+
+    /**
+     * Returns a permit taken by {@link #tryAcquirePermit()} for which no instance was handed out.
+     */
+    protected abstract void releasePermit();
+
     protected T create() {
         T bean = factory.create();
 
@@ -65,4 +161,137 @@ public abstract class AbstractPool<T> implements Pool<T> {
             removeCount.incrementAndGet();
         }
     }
+
+    /**
+     * Removes an instance which was idle for the whole idle timeout and tracks the evict count.
+     *
+     * @param bean
+     */
+    protected void evict(T bean) {
+        try {
+            doRemove(bean);
+        } finally {
+            evictCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records the time a caller waited for an instance.
+     *
+     * @param nanos the wait time in nanoseconds, 0 if an instance was immediately available
+     */
+    protected void recordWaitTime(long nanos) {
+        waitTimes.record(nanos);
+    }
+
+    /**
+     * Tracks a caller that was refused an instance without waiting.
+     */
+    protected void recordRejection() {
+        rejectedCount.incrementAndGet();
+    }
+
+    /**
+     * Records the number of instances in use after an instance was acquired, to size the pool according to the
+     * observed concurrency.
+     *
+     * @param inUse the number of instances in use
+     */
+    protected void recordInUse(int inUse) {
+        if (this.idleTimeout > 0L && inUse > this.peakInUse.get()) {
+            this.peakInUse.accumulateAndGet(inUse, Math::max);
+        }
+    }
+
+    /**
+     * Records the number of instances in use after an instance was acquired, for pools whose {@link #getInUseCount()}
+     * is too costly to compute on every acquisition when no idle timeout is configured.
+     */
+    protected void recordInUse() {
+        if (this.idleTimeout > 0L) {
+            this.recordInUse(this.getInUseCount());
+        }
+    }
+
+    /**
+     * Schedules the creation of the minimum number of instances and the periodic eviction of idle instances, if
+     * configured.
+     */
+    protected void startMaintenance() {
+        if (this.minSize > 0 || this.idleTimeout > 0L) {
+            synchronized (this.maintenanceLock) {
+                this.stopped = false;
+                this.loader = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+                this.maintenance = this.scheduler.schedule(this::maintain, this.idleTimeout, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Cancels the maintenance of the pool, and waits for a maintenance run in progress to complete, so that no instance
+     * is added to the pool afterwards.
+     */
+    protected void stopMaintenance() {
+        synchronized (this.maintenanceLock) {
+            this.stopped = true;
+            if (this.maintenance != null) {
+                this.maintenance.cancel(false);
+                this.maintenance = null;
+            }
+            this.loader = null;
+        }
+    }
+
+    private void maintain() {
+        synchronized (this.maintenanceLock) {
+            if (this.stopped) {
+                return;
+            }
+            ClassLoader current = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(this.loader);
+            try {
+                // pre-create instances up to the minimum size, acquiring them like any caller so that the pool never exceeds its maximum size
+                List<T> acquired = new ArrayList<>();
+                try {
+                    while ((this.getCreateCount() - this.getRemoveCount() < this.minSize) && this.tryAcquirePermit()) {
+                        T bean = this.pollFree();
+                        try {
+                            if (bean == null) {
+                                bean = this.create();
+                            }
+                        } finally {
+                            if (bean == null) {
+                                this.releasePermit();
+                            }
+                        }
+                        acquired.add(bean);
+                    }
+                } finally {
+                    for (T bean : acquired) {
+                        this.release(bean);
+                    }
+                }
+                if (this.idleTimeout > 0L) {
+                    // instances beyond the highest concurrency observed during the last period were not needed for a whole idle timeout
+                    int target = Math.max(this.minSize, this.peakInUse.getAndSet(this.getInUseCount()));
+                    int evicted = 0;
+                    for (int surplus = this.getCreateCount() - this.getRemoveCount() - target; surplus > 0; surplus--) {
+                        T bean = this.pollFree();
+                        if (bean == null) {
+                            break;
+                        }
+                        this.evict(bean);
+                        evicted++;
+                    }
+                    if (evicted > 0 && ROOT_LOGGER.isTraceEnabled()) {
+                        ROOT_LOGGER.tracef("Evicted %d idle instances of %s", evicted, this);
+                    }
+                }
+            } catch (RuntimeException e) {
+                ROOT_LOGGER.failedToMaintainPool(this, e);
+            } finally {
+                WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(current);
+            }
+        }
+    }
 }
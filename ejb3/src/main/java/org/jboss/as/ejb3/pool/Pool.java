@@ -36,6 +36,25 @@ public interface Pool<T> {
 
     int getCurrentSize();
 
+    /**
+     * @return the number of instances evicted because they were idle
+     */
+    int getEvictCount();
+
+    /**
+     * @return the number of callers that were refused an instance without waiting, because too many callers were
+     * already waiting
+     */
+    int getRejectedCount();
+
+    /**
+     * Returns the time below which the given fraction of instance acquisitions completed.
+     *
+     * @param percentile the fraction, between 0 and 1
+     * @return the wait time in nanoseconds
+     */
+    long getWaitTimePercentile(double percentile);
+
     int getMaxSize();
 
     int getRemoveCount();
@@ -0,0 +1,72 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the background maintenance of the bean instance pools created from one pool configuration, i.e. pre-creating and
+ * evicting idle instances, on a single daemon thread. The thread is only created once a pool needs maintenance, and is
+ * terminated by {@link #shutdown()} when the pool configuration is stopped.
+ */
+public final class PoolScheduler {
+
+    private final String name;
+    private ScheduledThreadPoolExecutor executor;
+    private boolean shutdown;
+
+    /**
+     * @param name the name of the pool configuration, used to name the maintenance thread
+     */
+    public PoolScheduler(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Schedules a maintenance task, which runs as soon as possible and then with the given delay between the end of
+     * one run and the start of the next.
+     *
+     * @param task the task
+     * @param delay the delay between runs, or a non-positive value to run the task only once
+     * @param unit the unit of the delay
+     * @return the future of the task, used to cancel it
+     * @throws RejectedExecutionException if the scheduler was shut down
+     */
+    public synchronized ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        if (this.shutdown) {
+            throw new RejectedExecutionException();
+        }
+        if (this.executor == null) {
+            this.executor = this.createExecutor();
+        }
+        return (delay > 0L) ? this.executor.scheduleWithFixedDelay(task, 0L, delay, unit) : this.executor.schedule(task, 0L, unit);
+    }
+
+    /**
+     * Cancels the remaining maintenance tasks and terminates the maintenance thread.
+     */
+    public synchronized void shutdown() {
+        this.shutdown = true;
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+            this.executor = null;
+        }
+    }
+
+    private ScheduledThreadPoolExecutor createExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, "ejb-pool-maintenance-" + this.name);
+            thread.setDaemon(true);
+            // do not retain the class loader of the deployment whose pool happened to create the thread
+            thread.setContextClassLoader(null);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of the time spent waiting to acquire a bean instance, with one bucket per power of two nanoseconds.
+ * Recording is lock-free and percentiles are approximated by the upper bound of the bucket they fall into.
+ */
+public class WaitTimeHistogram {
+
+    private static final int BUCKETS = Long.SIZE;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    public WaitTimeHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a wait.
+     *
+     * @param nanos the wait time in nanoseconds, 0 if the caller did not wait
+     */
+    public void record(long nanos) {
+        // bucket i > 0 holds waits in [2^(i-1), 2^i)
+        this.buckets[(nanos <= 0L) ? 0 : BUCKETS - Long.numberOfLeadingZeros(nanos)].increment();
+    }
+
+    /**
+     * Returns the wait time below which the given fraction of the recorded waits fall.
+     *
+     * @param percentile the fraction, between 0 and 1
+     * @return the wait time in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.buckets[i].sum();
+            total += counts[i];
+        }
+        long threshold = (long) Math.ceil(total * Math.min(Math.max(percentile, 0d), 1d));
+        long cumulated = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulated += counts[i];
+            if (cumulated >= threshold && cumulated > 0L) {
+                return (i == 0) ? 0L : (i == BUCKETS - 1) ? Long.MAX_VALUE : (1L << i) - 1L;
+            }
+        }
+        return 0L;
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.AbstractPool;
+import org.jboss.as.ejb3.pool.PoolScheduler;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+
+/**
+ * A pool with a maximum size whose callers wait in a bounded FIFO queue once the pool is exhausted.
+ * <p/>
+ * A released instance is handed over directly to the caller that has waited longest, instead of being put back into the
+ * pool for whichever thread happens to acquire it first. Once the configured number of callers are waiting, further
+ * callers are rejected immediately instead of adding to the latency of an overloaded bean. Waiting callers are parked
+ * without holding any monitor, so that waiting virtual threads do not pin their carrier thread.
+ */
+public class HandoffStrictMaxPool<T> extends AbstractPool<T> {
+
+    /**
+     * A caller waiting for an instance. Its fields are written while holding the pool lock.
+     */
+    private static class Waiter<T> {
+        final Thread thread = Thread.currentThread();
+        volatile boolean granted;
+        /**
+         * The instance handed over, or null if the caller was only granted the permit to create one.
+         */
+        volatile T instance;
+    }
+
+    /**
+     * The maximum number of instances allowed in the pool
+     */
+    private final int maxSize;
+    /**
+     * The maximum number of callers waiting for an instance.
+     */
+    private final int maxWaiters;
+    /**
+     * The time to wait for an instance once the pool is exhausted.
+     */
+    private final long timeout;
+    private final TimeUnit timeUnit;
+    private final ReentrantLock lock = new ReentrantLock();
+    /**
+     * The pool data structure, guarded by lock.
+     */
+    private final Deque<T> pool = new ArrayDeque<>();
+    /**
+     * The waiting callers in arrival order, guarded by lock.
+     */
+    private final Deque<Waiter<T>> waiters = new ArrayDeque<>();
+    /**
+     * The number of instances currently handed out, written while holding lock.
+     */
+    private volatile int inUse;
+
+    public HandoffStrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, int maxWaiters, long timeout, TimeUnit timeUnit) {
+        this(factory, maxSize, maxWaiters, timeout, timeUnit, 0, 0L, null);
+    }
+
+    /**
+     * @param maxWaiters the maximum number of callers waiting for an instance, 0 to reject any caller once the pool is exhausted
+     * @param minSize the number of instances to create when the pool starts, at most maxSize
+     * @param idleTimeout the idle timeout in milliseconds, or 0 if idle instances should never be evicted
+     * @param scheduler the scheduler of the maintenance runs, only required with a minimum size or an idle timeout
+     */
+    public HandoffStrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, int maxWaiters, long timeout, TimeUnit timeUnit, int minSize, long idleTimeout, PoolScheduler scheduler) {
+        super(factory, Math.min(minSize, maxSize), idleTimeout, scheduler);
+        this.maxSize = maxSize;
+        this.maxWaiters = maxWaiters;
+        this.timeout = timeout;
+        this.timeUnit = timeUnit;
+    }
+
+    public void discard(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Discard instance %s#%s", this, ctx);
+        }
+
+        this.releasePermit();
+
+        // Let the super do any other remove stuff
+        super.doRemove(ctx);
+    }
+
+    public int getCurrentSize() {
+        return getCreateCount() - getRemoveCount();
+    }
+
+    public int getAvailableCount() {
+        return this.maxSize - this.inUse;
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        throw EjbLogger.ROOT_LOGGER.methodNotImplemented();
+    }
+
+    /**
+     * Get an instance without identity.
+     * Can be used by finders,create-methods, and activation
+     *
+     * @return Context /w instance
+     */
+    public T get() {
+        T bean = null;
+        Waiter<T> waiter = null;
+        this.lock.lock();
+        try {
+            if (this.waiters.isEmpty() && (this.inUse < this.maxSize)) {
+                this.inUse++;
+                bean = this.pool.pollFirst();
+            } else if (this.waiters.size() >= this.maxWaiters) {
+                this.recordRejection();
+                throw EjbLogger.ROOT_LOGGER.tooManyPoolWaiters(this.waiters.size());
+            } else {
+                waiter = new Waiter<>();
+                this.waiters.addLast(waiter);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        if (waiter == null) {
+            this.recordWaitTime(0L);
+        } else {
+            long start = System.nanoTime();
+            try {
+                bean = this.await(waiter, start);
+            } finally {
+                this.recordWaitTime(System.nanoTime() - start);
+            }
+        }
+        this.recordInUse(this.inUse);
+
+        if (bean != null) {
+            //we found a bean instance in the pool, return it
+            return bean;
+        }
+
+        try {
+            // Pool is empty, create an instance
+            bean = create();
+        } finally {
+            if (bean == null) {
+                this.releasePermit();
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Return an instance after invocation, handing it over to the longest waiting caller if any.
+     *
+     * @param obj
+     */
+    public void release(T obj) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("%s/%s Free instance: %s", this.inUse, this.maxSize, this);
+        }
+
+        Waiter<T> waiter;
+        this.lock.lock();
+        try {
+            waiter = this.waiters.pollFirst();
+            if (waiter != null) {
+                waiter.instance = obj;
+                waiter.granted = true;
+            } else {
+                // most recently used instances first, which leaves the others idle for eviction
+                this.pool.addFirst(obj);
+                this.inUse--;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        if (waiter != null) {
+            LockSupport.unpark(waiter.thread);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void remove(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Removing instance: %s#%s", this, ctx);
+        }
+
+        this.releasePermit();
+        // let the super do the other remove stuff
+        super.doRemove(ctx);
+    }
+
+    public void start() {
+        this.startMaintenance();
+    }
+
+    public void stop() {
+        this.stopMaintenance();
+        for (T obj = this.pollFree(); obj != null; obj = this.pollFree()) {
+            destroy(obj);
+        }
+    }
+
+    @Override
+    protected T pollFree() {
+        this.lock.lock();
+        try {
+            return this.pool.pollLast();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    protected void offerFree(T bean) {
+        this.lock.lock();
+        try {
+            this.pool.addLast(bean);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    protected int getInUseCount() {
+        return this.inUse;
+    }
+
+    private T await(Waiter<T> waiter, long start) {
+        long deadline = start + this.timeUnit.toNanos(this.timeout);
+        boolean interrupted = false;
+        while (!waiter.granted) {
+            long remaining = deadline - System.nanoTime();
+            if ((remaining <= 0L) || interrupted) {
+                this.lock.lock();
+                try {
+                    // the permit may have been handed over meanwhile, in which case the caller must take it
+                    if (!waiter.granted) {
+                        this.waiters.remove(waiter);
+                        throw interrupted ? EjbLogger.ROOT_LOGGER.acquireSemaphoreInterrupted() : EjbLogger.ROOT_LOGGER.failedToAcquirePermit(this.timeout, this.timeUnit);
+                    }
+                } finally {
+                    this.lock.unlock();
+                }
+                break;
+            }
+            LockSupport.parkNanos(this, remaining);
+            interrupted = Thread.interrupted();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return waiter.instance;
+    }
+
+    @Override
+    protected boolean tryAcquirePermit() {
+        this.lock.lock();
+        try {
+            if (this.waiters.isEmpty() && (this.inUse < this.maxSize)) {
+                this.inUse++;
+                return true;
+            }
+            return false;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Hands the permit of an instance which is gone over to the longest waiting caller, if any.
+     */
+    @Override
+    protected void releasePermit() {
+        Waiter<T> waiter;
+        this.lock.lock();
+        try {
+            waiter = this.waiters.pollFirst();
+            if (waiter != null) {
+                waiter.granted = true;
+            } else {
+                this.inUse--;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        if (waiter != null) {
+            LockSupport.unpark(waiter.thread);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.AbstractPool;
+import org.jboss.as.ejb3.pool.PoolScheduler;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+
+/**
+ * A pool with a maximum size whose permits and free instances are spread over several shards.
+ * <p/>
+ * Unlike {@link StrictMaxPool}, a caller does not go through a shared semaphore and a single queue. The maximum size is
+ * split into a permit budget per shard, and a caller takes a permit from a randomly chosen shard with a CAS, moving on
+ * to another shard on contention or when the shard has no permit left. A permit is returned to a randomly chosen shard,
+ * so permits migrate between shards while their total never exceeds the maximum size. Only callers that find every
+ * shard exhausted block on a lock. Free instances are kept per shard in the same way, and a caller that finds its
+ * shard empty steals from the other shards before creating a new instance.
+ */
+public class ShardedStrictMaxPool<T> extends AbstractPool<T> {
+
+    /**
+     * The permits and free instances of a shard.
+     */
+    private static class Shard<T> {
+        /**
+         * The number of instances this shard may still hand out.
+         */
+        final AtomicInteger permits;
+        final Queue<T> free = new ConcurrentLinkedQueue<>();
+
+        Shard(int permits) {
+            this.permits = new AtomicInteger(permits);
+        }
+    }
+
+    /**
+     * The maximum number of instances allowed in the pool
+     */
+    private final int maxSize;
+    /**
+     * The time to wait for an instance once the pool is exhausted.
+     */
+    private final long timeout;
+    private final TimeUnit timeUnit;
+    /**
+     * The shards, whose number is a power of two.
+     */
+    private final Shard<T>[] shards;
+    private final int mask;
+    /**
+     * The number of threads waiting for an instance to be released. It is only written once every shard is exhausted,
+     * so reading it when a permit is returned does not contend with the other callers.
+     */
+    private final AtomicInteger waiters = new AtomicInteger(0);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = this.lock.newCondition();
+
+    public ShardedStrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit) {
+        this(factory, maxSize, timeout, timeUnit, 0, 0L, null);
+    }
+
+    /**
+     * @param minSize the number of instances to create when the pool starts, at most maxSize
+     * @param idleTimeout the idle timeout in milliseconds, or 0 if idle instances should never be evicted
+     * @param scheduler the scheduler of the maintenance runs, only required with a minimum size or an idle timeout
+     */
+    public ShardedStrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit, int minSize, long idleTimeout, PoolScheduler scheduler) {
+        this(factory, maxSize, timeout, timeUnit, minSize, idleTimeout, scheduler, Runtime.getRuntime().availableProcessors());
+    }
+
+    @SuppressWarnings("unchecked")
+    ShardedStrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit, int minSize, long idleTimeout, PoolScheduler scheduler, int concurrency) {
+        super(factory, Math.min(minSize, maxSize), idleTimeout, scheduler);
+        this.maxSize = maxSize;
+        this.timeout = timeout;
+        this.timeUnit = timeUnit;
+        // round the number of shards down to a power of two, so that every shard starts with at least one permit
+        int count = Integer.highestOneBit(Math.max(1, Math.min(concurrency, maxSize)));
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            this.shards[i] = new Shard<>((maxSize / count) + ((i < (maxSize % count)) ? 1 : 0));
+        }
+        this.mask = count - 1;
+    }
+
+    public void discard(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Discard instance %s#%s", this, ctx);
+        }
+
+        this.releasePermit();
+
+        // Let the super do any other remove stuff
+        super.doRemove(ctx);
+    }
+
+    public int getCurrentSize() {
+        return getCreateCount() - getRemoveCount();
+    }
+
+    public int getAvailableCount() {
+        int available = 0;
+        for (Shard<T> shard : this.shards) {
+            available += shard.permits.get();
+        }
+        return available;
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        throw EjbLogger.ROOT_LOGGER.methodNotImplemented();
+    }
+
+    /**
+     * Get an instance without identity.
+     * Can be used by finders,create-methods, and activation
+     *
+     * @return Context /w instance
+     */
+    public T get() {
+        if (this.tryAcquirePermit()) {
+            this.recordWaitTime(0L);
+        } else {
+            long start = System.nanoTime();
+            try {
+                this.acquirePermit();
+            } finally {
+                this.recordWaitTime(System.nanoTime() - start);
+            }
+        }
+        this.recordInUse();
+
+        return this.getInstance();
+    }
+
+    /**
+     * Return an instance after invocation.
+     *
+     * @param obj
+     */
+    public void release(T obj) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("%s/%s Free instance: %s", this.getInUseCount(), this.maxSize, this);
+        }
+
+        if (this.getCurrentSize() > this.maxSize) {
+            // a concurrent steal missed a free instance and another one was created meanwhile, don't keep the surplus
+            this.releasePermit();
+            super.doRemove(obj);
+            return;
+        }
+
+        this.offerFree(obj);
+
+        this.releasePermit();
+    }
+
+    @Override
+    @Deprecated
+    public void remove(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Removing instance: %s#%s", this, ctx);
+        }
+
+        this.releasePermit();
+        // let the super do the other remove stuff
+        super.doRemove(ctx);
+    }
+
+    public void start() {
+        this.startMaintenance();
+    }
+
+    public void stop() {
+        this.stopMaintenance();
+        for (Shard<T> shard : this.shards) {
+            for (T obj = shard.free.poll(); obj != null; obj = shard.free.poll()) {
+                destroy(obj);
+            }
+        }
+    }
+
+    @Override
+    protected T pollFree() {
+        int home = randomShard();
+        for (int i = 0; i < this.shards.length; i++) {
+            T bean = this.shards[(home + i) & this.mask].free.poll();
+            if (bean != null) {
+                return bean;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected void offerFree(T bean) {
+        this.shards[randomShard()].free.add(bean);
+    }
+
+    @Override
+    protected int getInUseCount() {
+        return this.maxSize - this.getAvailableCount();
+    }
+
+    private T getInstance() {
+        T bean = this.pollFree();
+
+        if (bean != null) {
+            //we found a bean instance in the pool, return it
+            return bean;
+        }
+
+        try {
+            // Pool is empty, create an instance
+            bean = create();
+        } finally {
+            if (bean == null) {
+                this.releasePermit();
+            }
+        }
+        return bean;
+    }
+
+    private int randomShard() {
+        return ThreadLocalRandom.current().nextInt() & this.mask;
+    }
+
+    /**
+     * Takes a permit from a random shard, moving on to the next shard when a shard is exhausted or contended.
+     */
+    @Override
+    protected boolean tryAcquirePermit() {
+        int home = randomShard();
+        for (int i = 0; i < this.shards.length; i++) {
+            AtomicInteger permits = this.shards[(home + i) & this.mask].permits;
+            int current = permits.get();
+            if ((current > 0) && permits.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+        // a shard may have been skipped because of contention, only give up once a full pass found no permit
+        for (int i = 0; i < this.shards.length; i++) {
+            AtomicInteger permits = this.shards[(home + i) & this.mask].permits;
+            for (int current = permits.get(); current > 0; current = permits.get()) {
+                if (permits.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void acquirePermit() {
+        long remaining = this.timeUnit.toNanos(this.timeout);
+        // register as waiter before checking again, so that a concurrent release either frees a permit we will see or signals us
+        this.waiters.incrementAndGet();
+        this.lock.lock();
+        try {
+            while (!this.tryAcquirePermit()) {
+                if (remaining <= 0L) {
+                    throw EjbLogger.ROOT_LOGGER.failedToAcquirePermit(this.timeout, this.timeUnit);
+                }
+                remaining = this.released.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            throw EjbLogger.ROOT_LOGGER.acquireSemaphoreInterrupted();
+        } finally {
+            this.lock.unlock();
+            this.waiters.decrementAndGet();
+        }
+    }
+
+    @Override
+    protected void releasePermit() {
+        this.shards[randomShard()].permits.incrementAndGet();
+        if (this.waiters.get() > 0) {
+            this.lock.lock();
+            try {
+                this.released.signal();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
 
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.pool.AbstractPool;
+import org.jboss.as.ejb3.pool.PoolScheduler;
 import org.jboss.as.ejb3.pool.StatelessObjectFactory;
 
 import java.util.Queue;
@@ -45,7 +46,16 @@ public class StrictMaxPool<T> extends AbstractPool<T> {
     private final Queue<T> pool = new ConcurrentLinkedQueue<T>();
 
     public StrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit) {
-        super(factory);
+        this(factory, maxSize, timeout, timeUnit, 0, 0L, null);
+    }
+
+    /**
+     * @param minSize the number of instances to create when the pool starts, at most maxSize
+     * @param idleTimeout the idle timeout in milliseconds, or 0 if idle instances should never be evicted
+     * @param scheduler the scheduler of the maintenance runs, only required with a minimum size or an idle timeout
+     */
+    public StrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit, int minSize, long idleTimeout, PoolScheduler scheduler) {
+        super(factory, Math.min(minSize, maxSize), idleTimeout, scheduler);
         this.maxSize = maxSize;
         this.semaphore = new Semaphore(maxSize, false);
         this.timeout = timeout;
@@ -87,14 +97,23 @@ public class StrictMaxPool<T> extends AbstractPool<T> {
      * @return Context /w instance
      */
     public T get() {
-        try {
-            boolean acquired = semaphore.tryAcquire(timeout, timeUnit);
-            if (!acquired)
-                throw EjbLogger.ROOT_LOGGER.failedToAcquirePermit(timeout, timeUnit);
-        } catch (InterruptedException e) {
-            throw EjbLogger.ROOT_LOGGER.acquireSemaphoreInterrupted();
+        if (semaphore.tryAcquire()) {
+            recordWaitTime(0L);
+        } else {
+            long start = System.nanoTime();
+            try {
+                boolean acquired = semaphore.tryAcquire(timeout, timeUnit);
+                if (!acquired)
+                    throw EjbLogger.ROOT_LOGGER.failedToAcquirePermit(timeout, timeUnit);
+            } catch (InterruptedException e) {
+                throw EjbLogger.ROOT_LOGGER.acquireSemaphoreInterrupted();
+            } finally {
+                recordWaitTime(System.nanoTime() - start);
+            }
         }
 
+        recordInUse(maxSize - semaphore.availablePermits());
+
         T bean = pool.poll();
 
         if( bean !=null) {
@@ -113,6 +132,31 @@ public class StrictMaxPool<T> extends AbstractPool<T> {
         return bean;
     }
 
+    @Override
+    protected T pollFree() {
+        return pool.poll();
+    }
+
+    @Override
+    protected void offerFree(T bean) {
+        pool.add(bean);
+    }
+
+    @Override
+    protected int getInUseCount() {
+        return maxSize - semaphore.availablePermits();
+    }
+
+    @Override
+    protected boolean tryAcquirePermit() {
+        return semaphore.tryAcquire();
+    }
+
+    @Override
+    protected void releasePermit() {
+        semaphore.release();
+    }
+
     /**
      * Return an instance after invocation.
      * <p/>
@@ -145,11 +189,11 @@ public class StrictMaxPool<T> extends AbstractPool<T> {
     }
 
     public void start() {
-        // TODO Auto-generated method stub
-
+        startMaintenance();
     }
 
     public void stop() {
+        stopMaintenance();
         for (T obj = pool.poll(); obj != null; obj = pool.poll()) {
             destroy(obj);
         }
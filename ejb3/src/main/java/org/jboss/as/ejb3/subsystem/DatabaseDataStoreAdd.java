@@ -5,7 +5,6 @@
 
 package org.jboss.as.ejb3.subsystem;
 
-import java.util.Timer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -14,6 +13,7 @@ import org.jboss.as.controller.CapabilityServiceBuilder;
 import org.jboss.as.controller.CapabilityServiceTarget;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.ejb3.timerservice.TimerWheel;
 import org.jboss.as.ejb3.timerservice.persistence.database.DatabaseTimerPersistence;
 import org.jboss.as.naming.ManagedReferenceFactory;
 import org.jboss.as.naming.deployment.ContextNames;
@@ -55,7 +55,7 @@ public class DatabaseDataStoreAdd extends AbstractAddStepHandler {
         final Consumer<DatabaseTimerPersistence> consumer = builder.provides(TimerPersistenceResourceDefinition.CAPABILITY);
         final Supplier<ManagedReferenceFactory> dataSourceSupplier = builder.requires(ContextNames.bindInfoFor(jndiName).getBinderServiceName());
         final Supplier<ModuleLoader> moduleLoaderSupplier = builder.requires(Services.JBOSS_SERVICE_MODULE_LOADER);
-        final Supplier<Timer> timerSupplier = builder.requires(TimerServiceResourceDefinition.TIMER_SERVICE_DESCRIPTOR);
+        final Supplier<TimerWheel> timerSupplier = builder.requires(TimerServiceResourceDefinition.TIMER_SERVICE_DESCRIPTOR);
         final DatabaseTimerPersistence databaseTimerPersistence = new DatabaseTimerPersistence(consumer, dataSourceSupplier, moduleLoaderSupplier, timerSupplier, database, partition, nodeName, refreshInterval, allowExecution);
         builder.setInstance(databaseTimerPersistence);
         builder.install();
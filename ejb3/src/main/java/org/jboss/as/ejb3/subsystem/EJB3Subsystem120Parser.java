@@ -0,0 +1,58 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.subsystem;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Parser for ejb3:12.0 namespace.
+ *
+ * Changes: adds the sharded, min-pool-size, idle-timeout and max-waiters attributes to strict-max-pool,
+ * and the journal attribute to file-data-store.
+ *
+ * TODO Parameterize a single parser class by schema version.  Inheritence is a poor model for versioning.
+ */
+public class EJB3Subsystem120Parser extends EJB3Subsystem110Parser {
+
+    @Override
+    protected EJB3SubsystemNamespace getExpectedNamespace() {
+        return EJB3SubsystemNamespace.EJB3_12_0;
+    }
+
+    @Override
+    protected void parseStrictMaxPoolAttribute(final XMLExtendedStreamReader reader, int index, EJB3SubsystemXMLAttribute attribute, String value, ModelNode operation) throws XMLStreamException {
+        switch (attribute) {
+            case SHARDED:
+                StrictMaxPoolResourceDefinition.SHARDED.parseAndSetParameter(value, operation, reader);
+                break;
+            case MIN_POOL_SIZE:
+                StrictMaxPoolResourceDefinition.MIN_POOL_SIZE.parseAndSetParameter(value, operation, reader);
+                break;
+            case IDLE_TIMEOUT:
+                StrictMaxPoolResourceDefinition.IDLE_TIMEOUT.parseAndSetParameter(value, operation, reader);
+                break;
+            case MAX_WAITERS:
+                StrictMaxPoolResourceDefinition.MAX_WAITERS.parseAndSetParameter(value, operation, reader);
+                break;
+            default:
+                super.parseStrictMaxPoolAttribute(reader, index, attribute, value, operation);
+        }
+    }
+
+    @Override
+    protected void parseFileDataStoreAttribute(final XMLExtendedStreamReader reader, int index, EJB3SubsystemXMLAttribute attribute, String value, ModelNode operation) throws XMLStreamException {
+        switch (attribute) {
+            case JOURNAL:
+                FileDataStoreResourceDefinition.JOURNAL.parseAndSetParameter(value, operation, reader);
+                break;
+            default:
+                super.parseFileDataStoreAttribute(reader, index, attribute, value, operation);
+        }
+    }
+}
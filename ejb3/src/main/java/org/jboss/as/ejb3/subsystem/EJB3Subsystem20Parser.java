@@ -186,6 +186,7 @@ public class EJB3Subsystem20Parser extends EJB3Subsystem14Parser {
         String dataStorePath = null;
         String dataStorePathRelativeTo = null;
         String name = null;
+        final ModelNode fileDataStoreAdd = new ModelNode();
         final EnumSet<EJB3SubsystemXMLAttribute> required = EnumSet.of(EJB3SubsystemXMLAttribute.NAME, EJB3SubsystemXMLAttribute.PATH);
         final int count = reader.getAttributeCount();
         for (int i = 0; i < count; i++) {
@@ -213,7 +214,7 @@ public class EJB3Subsystem20Parser extends EJB3Subsystem14Parser {
                     dataStorePathRelativeTo = parse(FileDataStoreResourceDefinition.RELATIVE_TO, value, reader).asString();
                     break;
                 default:
-                    throw unexpectedAttribute(reader, i);
+                    this.parseFileDataStoreAttribute(reader, i, attribute, value, fileDataStoreAdd);
             }
         }
         if (!required.isEmpty()) {
@@ -223,7 +224,6 @@ public class EJB3Subsystem20Parser extends EJB3Subsystem14Parser {
         address.add(SUBSYSTEM, EJB3Extension.SUBSYSTEM_NAME);
         address.add(SERVICE, TIMER_SERVICE);
         address.add(FILE_DATA_STORE, name);
-        final ModelNode fileDataStoreAdd = new ModelNode();
         fileDataStoreAdd.get(OP).set(ADD);
         fileDataStoreAdd.get(ADDRESS).set(address);
         fileDataStoreAdd.get(PATH).set(dataStorePath);
@@ -234,6 +234,19 @@ public class EJB3Subsystem20Parser extends EJB3Subsystem14Parser {
         requireNoContent(reader);
     }
 
+    /**
+     * Parses a file-data-store attribute introduced by a later namespace.
+     *
+     * @param reader the stream of XML elements read from the configuration
+     * @param index the index of the attribute
+     * @param attribute the attribute
+     * @param value the attribute value
+     * @param operation the add operation of the file data store
+     * @throws XMLStreamException if the attribute is not supported by this namespace
+     */
+    protected void parseFileDataStoreAttribute(final XMLExtendedStreamReader reader, int index, EJB3SubsystemXMLAttribute attribute, String value, ModelNode operation) throws XMLStreamException {
+        throw unexpectedAttribute(reader, index);
+    }
 
     protected void parseDatabaseDataStore(final XMLExtendedStreamReader reader, final List<ModelNode> operations) throws XMLStreamException {
         String name = null;
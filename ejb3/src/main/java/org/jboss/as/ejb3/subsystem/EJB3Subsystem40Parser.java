@@ -211,7 +211,7 @@ public class EJB3Subsystem40Parser extends EJB3Subsystem30Parser {
                     StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT_UNIT.parseAndSetParameter(value, operation, reader);
                     break;
                 default:
-                    throw unexpectedAttribute(reader, i);
+                    this.parseStrictMaxPoolAttribute(reader, i, attribute, value, operation);
             }
         }
         requireNoContent(reader);
@@ -225,6 +225,20 @@ public class EJB3Subsystem40Parser extends EJB3Subsystem30Parser {
         operations.add(operation);
     }
 
+    /**
+     * Parses a strict-max-pool attribute introduced by a later namespace.
+     *
+     * @param reader the stream of XML elements read from the configuration
+     * @param index the index of the attribute
+     * @param attribute the attribute
+     * @param value the attribute value
+     * @param operation the add operation of the pool
+     * @throws XMLStreamException if the attribute is not supported by this namespace
+     */
+    protected void parseStrictMaxPoolAttribute(final XMLExtendedStreamReader reader, int index, EJB3SubsystemXMLAttribute attribute, String value, ModelNode operation) throws XMLStreamException {
+        throw unexpectedAttribute(reader, index);
+    }
+
     private XMLStreamException mutuallyExclusiveAttributes(XMLExtendedStreamReader reader) {
         return EjbLogger.ROOT_LOGGER.mutuallyExclusiveAttributes(reader.getLocation(), MAX_POOL_SIZE, DERIVE_SIZE);
     }
@@ -57,6 +57,9 @@ public interface EJB3SubsystemModel {
     String MAX_POOL_SIZE = "max-pool-size";
     String DERIVE_SIZE = "derive-size";
     String DERIVED_SIZE = "derived-size";
+    String SHARDED = "sharded";
+    String MIN_POOL_SIZE = "min-pool-size";
+    String MAX_WAITERS = "max-waiters";
 
     String STRICT_MAX_BEAN_INSTANCE_POOL = "strict-max-bean-instance-pool";
 
@@ -65,6 +68,7 @@ public interface EJB3SubsystemModel {
 
     String RELATIVE_TO = "relative-to";
     String PATH = "path";
+    String JOURNAL = "journal";
 
     String DEFAULT_SINGLETON_BEAN_ACCESS_TIMEOUT = "default-singleton-bean-access-timeout";
     String DEFAULT_STATEFUL_BEAN_ACCESS_TIMEOUT = "default-stateful-bean-access-timeout";
@@ -104,7 +108,7 @@ public interface EJB3SubsystemModel {
     String MDB_DELIVERY_GROUP_ACTIVE = "active";
 
     @Deprecated String FILE_PASSIVATION_STORE = "file-passivation-store";
-    @Deprecated String IDLE_TIMEOUT = "idle-timeout";
+    String IDLE_TIMEOUT = "idle-timeout";
     @Deprecated String IDLE_TIMEOUT_UNIT = "idle-timeout-unit";
     String MAX_SIZE = "max-size";
     @Deprecated String GROUPS_PATH = "groups-path";
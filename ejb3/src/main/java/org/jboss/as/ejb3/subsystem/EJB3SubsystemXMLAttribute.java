@@ -45,17 +45,21 @@ public enum EJB3SubsystemXMLAttribute {
 
     @Deprecated GROUPS_PATH("groups-path"),
 
-    @Deprecated IDLE_TIMEOUT("idle-timeout"),
+    IDLE_TIMEOUT("idle-timeout"),
     @Deprecated IDLE_TIMEOUT_UNIT("idle-timeout-unit"),
     INSTANCE_ACQUISITION_TIMEOUT("instance-acquisition-timeout"),
     INSTANCE_ACQUISITION_TIMEOUT_UNIT("instance-acquisition-timeout-unit"),
 
+    JOURNAL("journal"),
+
     KEEPALIVE_TIME("keepalive-time"),
 
     LOCAL_RECEIVER_PASS_BY_VALUE("local-receiver-pass-by-value"),
 
     MAX_POOL_SIZE("max-pool-size"),
+    MIN_POOL_SIZE("min-pool-size"),
     MAX_SIZE("max-size"),
+    MAX_WAITERS("max-waiters"),
     DERIVE_SIZE("derive-size"),
     MAX_THREADS("max-threads"),
 
@@ -76,6 +80,7 @@ public enum EJB3SubsystemXMLAttribute {
     RESOURCE_ADAPTER_NAME("resource-adapter-name"),
 
     @Deprecated SESSIONS_PATH("sessions-path"),
+    SHARDED("sharded"),
     STATIC_URLS("static-urls"),
     @Deprecated SUBDIRECTORY_COUNT("subdirectory-count"),
 
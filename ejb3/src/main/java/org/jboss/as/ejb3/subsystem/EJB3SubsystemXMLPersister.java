@@ -63,7 +63,7 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
     @Override
     public void writeContent(final XMLExtendedStreamWriter writer, final SubsystemMarshallingContext context) throws XMLStreamException {
 
-        context.startSubsystemElement(EJB3SubsystemNamespace.EJB3_11_0.getUriString(), false);
+        context.startSubsystemElement(EJB3SubsystemNamespace.EJB3_12_0.getUriString(), false);
         writeElements(writer, context);
         // write the subsystem end element
         writer.writeEndElement();
@@ -499,6 +499,10 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
         StrictMaxPoolResourceDefinition.DERIVE_SIZE.marshallAsAttribute(strictMaxPoolModelNode, writer);
         StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT.marshallAsAttribute(strictMaxPoolModelNode, writer);
         StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT_UNIT.marshallAsAttribute(strictMaxPoolModelNode, writer);
+        StrictMaxPoolResourceDefinition.SHARDED.marshallAsAttribute(strictMaxPoolModelNode, writer);
+        StrictMaxPoolResourceDefinition.MIN_POOL_SIZE.marshallAsAttribute(strictMaxPoolModelNode, writer);
+        StrictMaxPoolResourceDefinition.IDLE_TIMEOUT.marshallAsAttribute(strictMaxPoolModelNode, writer);
+        StrictMaxPoolResourceDefinition.MAX_WAITERS.marshallAsAttribute(strictMaxPoolModelNode, writer);
     }
 
     private void writeCaches(XMLExtendedStreamWriter writer, ModelNode model) throws XMLStreamException {
@@ -662,6 +666,7 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
                 writer.writeAttribute(EJB3SubsystemXMLAttribute.NAME.getLocalName(), property.getName());
                 FileDataStoreResourceDefinition.PATH.marshallAsAttribute(store, writer);
                 FileDataStoreResourceDefinition.RELATIVE_TO.marshallAsAttribute(store, writer);
+                FileDataStoreResourceDefinition.JOURNAL.marshallAsAttribute(store, writer);
                 writer.writeEndElement();
             }
         }
@@ -5,6 +5,7 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_10_0_0;
 import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_9_0_0;
 
 import org.jboss.as.controller.ModelVersion;
@@ -38,14 +39,32 @@ public class EJBTransformers implements ExtensionTransformerRegistration {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(currentModel);
 
         // register the transformations required for each legacy version after 9.0.0
-        registerTransformers_9_0_0(chainedBuilder.createBuilder(currentModel, VERSION_9_0_0.getVersion()));
+        registerTransformers_10_0_0(chainedBuilder.createBuilder(currentModel, VERSION_10_0_0.getVersion()));
+        registerTransformers_9_0_0(chainedBuilder.createBuilder(VERSION_10_0_0.getVersion(), VERSION_9_0_0.getVersion()));
 
         // create the chained builder which incorporates all transformations
         chainedBuilder.buildAndRegister(subsystemRegistration, new ModelVersion[] {
+                VERSION_10_0_0.getVersion(),
                 VERSION_9_0_0.getVersion()
         });
     }
 
+    /*
+     * Transformers for changes in model version 11.0.0
+     */
+    private static void registerTransformers_10_0_0(ResourceTransformationDescriptionBuilder subsystemBuilder) {
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.STRICT_MAX_BEAN_INSTANCE_POOL_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, StrictMaxPoolResourceDefinition.SHARDED, StrictMaxPoolResourceDefinition.MIN_POOL_SIZE)
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, StrictMaxPoolResourceDefinition.IDLE_TIMEOUT, StrictMaxPoolResourceDefinition.MAX_WAITERS)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, StrictMaxPoolResourceDefinition.SHARDED, StrictMaxPoolResourceDefinition.MIN_POOL_SIZE, StrictMaxPoolResourceDefinition.IDLE_TIMEOUT, StrictMaxPoolResourceDefinition.MAX_WAITERS)
+                .end();
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.TIMER_SERVICE_PATH)
+                .addChildResource(EJB3SubsystemModel.FILE_DATA_STORE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, FileDataStoreResourceDefinition.JOURNAL)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, FileDataStoreResourceDefinition.JOURNAL)
+                .end();
+    }
+
     /*
      * Transformers for changes in model version 10.0.0
      */
@@ -17,6 +17,7 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.as.ejb3.timerservice.persistence.filestore.FileTimerPersistence;
+import org.jboss.as.ejb3.timerservice.persistence.filestore.JournalTimerPersistence;
 import org.jboss.as.server.Services;
 import org.jboss.dmr.ModelNode;
 import org.jboss.modules.ModuleLoader;
@@ -37,17 +38,22 @@ public class FileDataStoreAdd extends AbstractAddStepHandler {
         final String path = pathNode.isDefined() ? pathNode.asString() : null;
         final ModelNode relativeToNode = FileDataStoreResourceDefinition.RELATIVE_TO.resolveModelAttribute(context, model);
         final String relativeTo = relativeToNode.isDefined() ? relativeToNode.asString() : null;
+        final boolean journal = FileDataStoreResourceDefinition.JOURNAL.resolveModelAttribute(context, model).asBoolean();
 
         // add the TimerPersistence instance
         final CapabilityServiceTarget serviceTarget = context.getCapabilityServiceTarget();
         final CapabilityServiceBuilder<?> builder = serviceTarget.addCapability(TimerPersistenceResourceDefinition.CAPABILITY);
-        final Consumer<FileTimerPersistence> consumer = builder.provides(TimerPersistenceResourceDefinition.CAPABILITY);
         builder.requiresCapability(TRANSACTION_GLOBAL_DEFAULT_LOCAL_PROVIDER_CAPABILITY_NAME, Void.class);
         final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier = builder.requiresCapability(TRANSACTION_SYNCHRONIZATION_REGISTRY_CAPABILITY_NAME, TransactionSynchronizationRegistry.class);
         final Supplier<ModuleLoader> moduleLoaderSupplier = builder.requires(Services.JBOSS_SERVICE_MODULE_LOADER);
         final Supplier<PathManager> pathManagerSupplier = builder.requires(PathManager.SERVICE_DESCRIPTOR);
-        final FileTimerPersistence fileTimerPersistence = new FileTimerPersistence(consumer, txnRegistrySupplier, moduleLoaderSupplier, pathManagerSupplier, true, path, relativeTo);
-        builder.setInstance(fileTimerPersistence);
+        if (journal) {
+            final Consumer<JournalTimerPersistence> consumer = builder.provides(TimerPersistenceResourceDefinition.CAPABILITY);
+            builder.setInstance(new JournalTimerPersistence(consumer, txnRegistrySupplier, moduleLoaderSupplier, pathManagerSupplier, true, path, relativeTo));
+        } else {
+            final Consumer<FileTimerPersistence> consumer = builder.provides(TimerPersistenceResourceDefinition.CAPABILITY);
+            builder.setInstance(new FileTimerPersistence(consumer, txnRegistrySupplier, moduleLoaderSupplier, pathManagerSupplier, true, path, relativeTo));
+        }
         builder.install();
     }
 }
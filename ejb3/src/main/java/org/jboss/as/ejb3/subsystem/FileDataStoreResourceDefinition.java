@@ -18,6 +18,7 @@ import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.as.controller.services.path.ResolvePathHandler;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
 /**
@@ -37,9 +38,16 @@ public class FileDataStoreResourceDefinition extends TimerPersistenceResourceDef
                     .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
                     .build();
 
+    public static final SimpleAttributeDefinition JOURNAL =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.JOURNAL, ModelType.BOOLEAN, true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .setAllowExpression(true)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
     private final PathManager pathManager;
 
-    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { PATH, RELATIVE_TO };
+    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { PATH, RELATIVE_TO, JOURNAL };
     private static final FileDataStoreAdd ADD_HANDLER = new FileDataStoreAdd();
 
     public FileDataStoreResourceDefinition(final PathManager pathManager) {
@@ -39,6 +39,10 @@ public class StrictMaxPoolAdd extends AbstractAddStepHandler {
         final Derive derive = StrictMaxPoolResourceDefinition.parseDeriveSize(context, strictMaxPoolModel);
         final long timeout = StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT.resolveModelAttribute(context, strictMaxPoolModel).asLong();
         final String unit = StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT_UNIT.resolveModelAttribute(context, strictMaxPoolModel).asString();
+        final boolean sharded = StrictMaxPoolResourceDefinition.SHARDED.resolveModelAttribute(context, strictMaxPoolModel).asBoolean(StrictMaxPoolConfig.DEFAULT_SHARDED);
+        final int minPoolSize = StrictMaxPoolResourceDefinition.MIN_POOL_SIZE.resolveModelAttribute(context, strictMaxPoolModel).asInt();
+        final long idleTimeout = StrictMaxPoolResourceDefinition.IDLE_TIMEOUT.resolveModelAttribute(context, strictMaxPoolModel).asLong(0L);
+        final int maxWaiters = StrictMaxPoolResourceDefinition.MAX_WAITERS.resolveModelAttribute(context, strictMaxPoolModel).asInt(StrictMaxPoolConfig.UNBOUNDED_WAITERS);
 
         // create and install the service
         CapabilityServiceTarget capabilityServiceTarget = context.getCapabilityServiceTarget();
@@ -48,7 +52,7 @@ public class StrictMaxPoolAdd extends AbstractAddStepHandler {
         if (context.hasOptionalCapability(IO_MAX_THREADS_RUNTIME_CAPABILITY_NAME, StrictMaxPoolResourceDefinition.STRICT_MAX_POOL_CONFIG_CAPABILITY.getDynamicName(context.getCurrentAddress()), null)) {
             maxThreadsSupplier = sb.requiresCapability(IO_MAX_THREADS_RUNTIME_CAPABILITY_NAME, Integer.class);
         }
-        final StrictMaxPoolConfigService poolConfigService = new StrictMaxPoolConfigService(configConsumer, maxThreadsSupplier, poolName, maxPoolSize, derive, timeout, TimeUnit.valueOf(unit));
+        final StrictMaxPoolConfigService poolConfigService = new StrictMaxPoolConfigService(configConsumer, maxThreadsSupplier, poolName, maxPoolSize, derive, timeout, TimeUnit.valueOf(unit), sharded, minPoolSize, idleTimeout, maxWaiters);
         sb.setInstance(poolConfigService);
         sb.install();
     }
@@ -18,6 +18,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.LongRangeValidator;
@@ -76,12 +77,40 @@ public class StrictMaxPoolResourceDefinition extends SimpleResourceDefinition {
                     .setFlags(AttributeAccess.Flag.RESTART_NONE)
                     .setAllowExpression(true)
                     .build();
+    public static final SimpleAttributeDefinition SHARDED =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.SHARDED, ModelType.BOOLEAN, true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .setAllowExpression(true)
+                    .setAlternatives(EJB3SubsystemModel.MAX_WAITERS)
+                    .setFlags(AttributeAccess.Flag.RESTART_NONE)
+                    .build();
+    public static final SimpleAttributeDefinition MIN_POOL_SIZE =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.MIN_POOL_SIZE, ModelType.INT, true)
+                    .setDefaultValue(new ModelNode().set(StrictMaxPoolConfig.DEFAULT_MIN_POOL_SIZE))
+                    .setAllowExpression(true)
+                    .setValidator(new IntRangeValidator(0, Integer.MAX_VALUE, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_NONE)
+                    .build();
+    public static final SimpleAttributeDefinition IDLE_TIMEOUT =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.IDLE_TIMEOUT, ModelType.LONG, true)
+                    .setAllowExpression(true)
+                    .setValidator(new LongRangeValidator(1, Long.MAX_VALUE, true, true))
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                    .setFlags(AttributeAccess.Flag.RESTART_NONE)
+                    .build();
+    public static final SimpleAttributeDefinition MAX_WAITERS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.MAX_WAITERS, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setValidator(new IntRangeValidator(0, Integer.MAX_VALUE, true, true))
+                    .setAlternatives(EJB3SubsystemModel.SHARDED)
+                    .setFlags(AttributeAccess.Flag.RESTART_NONE)
+                    .build();
     public static final SimpleAttributeDefinition DERIVED_SIZE =
             new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.DERIVED_SIZE, ModelType.INT, true)
                     .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
                     .build();
 
-    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { MAX_POOL_SIZE, DERIVE_SIZE, INSTANCE_ACQUISITION_TIMEOUT, INSTANCE_ACQUISITION_TIMEOUT_UNIT };
+    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { MAX_POOL_SIZE, DERIVE_SIZE, INSTANCE_ACQUISITION_TIMEOUT, INSTANCE_ACQUISITION_TIMEOUT_UNIT, SHARDED, MIN_POOL_SIZE, IDLE_TIMEOUT, MAX_WAITERS };
     private static final StrictMaxPoolAdd ADD_HANDLER = new StrictMaxPoolAdd();
 
     private static final String NONE_VALUE = "none";
@@ -13,6 +13,7 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.ejb3.component.pool.StrictMaxPoolConfig;
 import org.jboss.as.ejb3.component.pool.StrictMaxPoolConfigService;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceController;
@@ -62,6 +63,18 @@ class StrictMaxPoolWriteHandler extends AbstractWriteAttributeHandler<Void> {
                 } else if (StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT_UNIT.getName().equals(attributeName)) {
                     String timeoutUnit = StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT_UNIT.resolveModelAttribute(context, model).asString();
                     smpc.setTimeoutUnit(TimeUnit.valueOf(timeoutUnit));
+                } else if (StrictMaxPoolResourceDefinition.SHARDED.getName().equals(attributeName)) {
+                    boolean sharded = StrictMaxPoolResourceDefinition.SHARDED.resolveModelAttribute(context, model).asBoolean(StrictMaxPoolConfig.DEFAULT_SHARDED);
+                    smpc.setSharded(sharded);
+                } else if (StrictMaxPoolResourceDefinition.MIN_POOL_SIZE.getName().equals(attributeName)) {
+                    int minPoolSize = StrictMaxPoolResourceDefinition.MIN_POOL_SIZE.resolveModelAttribute(context, model).asInt();
+                    smpc.setMinPoolSize(minPoolSize);
+                } else if (StrictMaxPoolResourceDefinition.IDLE_TIMEOUT.getName().equals(attributeName)) {
+                    long idleTimeout = StrictMaxPoolResourceDefinition.IDLE_TIMEOUT.resolveModelAttribute(context, model).asLong(0L);
+                    smpc.setIdleTimeout(idleTimeout);
+                } else if (StrictMaxPoolResourceDefinition.MAX_WAITERS.getName().equals(attributeName)) {
+                    int maxWaiters = StrictMaxPoolResourceDefinition.MAX_WAITERS.resolveModelAttribute(context, model).asInt(StrictMaxPoolConfig.UNBOUNDED_WAITERS);
+                    smpc.setMaxWaiters(maxWaiters);
                 }
             }
         }
@@ -7,8 +7,6 @@ package org.jboss.as.ejb3.subsystem;
 
 import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
 
-import java.util.Timer;
-
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -17,6 +15,7 @@ import org.jboss.as.ejb3.deployment.processors.TimerServiceDeploymentProcessor;
 import org.jboss.as.ejb3.deployment.processors.annotation.TimerServiceAnnotationProcessor;
 import org.jboss.as.ejb3.deployment.processors.merging.TimerMethodMergingProcessor;
 import org.jboss.as.ejb3.timerservice.TimerServiceMetaData;
+import org.jboss.as.ejb3.timerservice.TimerWheel;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.as.server.deployment.Phase;
@@ -54,7 +53,7 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
         }, OperationContext.Stage.RUNTIME);
 
         if (threadPoolName != null) {
-            CapabilityServiceInstaller.BlockingBuilder.of(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY, Timer::new).withLifecycle(BlockingLifecycle.compose(Timer::cancel)).build().install(context);
+            CapabilityServiceInstaller.BlockingBuilder.of(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY, TimerWheel::new).withLifecycle(BlockingLifecycle.compose(TimerWheel::cancel)).build().install(context);
         }
     }
 }
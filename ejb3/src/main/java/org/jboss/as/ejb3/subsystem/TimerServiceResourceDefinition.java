@@ -5,8 +5,6 @@
 
 package org.jboss.as.ejb3.subsystem;
 
-import java.util.Timer;
-
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
@@ -18,6 +16,7 @@ import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.ejb3.timerservice.TimerWheel;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
 import org.jboss.dmr.ModelType;
 import org.wildfly.clustering.ejb.timer.TimerManagementProvider;
@@ -31,7 +30,7 @@ import org.wildfly.subsystem.resource.capability.CapabilityReference;
  */
 public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
 
-    public static final NullaryServiceDescriptor<Timer> TIMER_SERVICE_DESCRIPTOR = NullaryServiceDescriptor.of("org.wildfly.ejb3.timer-service", Timer.class);
+    public static final NullaryServiceDescriptor<TimerWheel> TIMER_SERVICE_DESCRIPTOR = NullaryServiceDescriptor.of("org.wildfly.ejb3.timer-service", TimerWheel.class);
     static final RuntimeCapability<Void> TIMER_SERVICE_CAPABILITY = RuntimeCapability.Builder.of(TIMER_SERVICE_DESCRIPTOR).build();
 
     static final SimpleAttributeDefinition THREAD_POOL_NAME =
@@ -24,6 +24,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -145,6 +146,19 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME).build();
     public static final SimpleAttributeDefinition POOL_REMOVE_COUNT = new SimpleAttributeDefinitionBuilder("pool-remove-count", ModelType.INT, false)
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC).build();
+    public static final SimpleAttributeDefinition POOL_EVICT_COUNT = new SimpleAttributeDefinitionBuilder("pool-evict-count", ModelType.INT, false)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC).build();
+    public static final SimpleAttributeDefinition POOL_REJECTED_COUNT = new SimpleAttributeDefinitionBuilder("pool-rejected-count", ModelType.INT, false)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC).build();
+    public static final SimpleAttributeDefinition POOL_WAIT_TIME_P50 = new SimpleAttributeDefinitionBuilder("pool-wait-time-p50", ModelType.LONG, false)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME).build();
+    public static final SimpleAttributeDefinition POOL_WAIT_TIME_P90 = new SimpleAttributeDefinitionBuilder("pool-wait-time-p90", ModelType.LONG, false)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME).build();
+    public static final SimpleAttributeDefinition POOL_WAIT_TIME_P99 = new SimpleAttributeDefinitionBuilder("pool-wait-time-p99", ModelType.LONG, false)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME).build();
     public static final SimpleAttributeDefinition POOL_MAX_SIZE = new SimpleAttributeDefinitionBuilder("pool-max-size", ModelType.INT, false)
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME).build();
 
@@ -191,6 +205,11 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             resourceRegistration.registerReadOnlyAttribute(POOL_CREATE_COUNT, handler);
             resourceRegistration.registerReadOnlyAttribute(POOL_NAME, handler);
             resourceRegistration.registerReadOnlyAttribute(POOL_REMOVE_COUNT, handler);
+            resourceRegistration.registerReadOnlyAttribute(POOL_EVICT_COUNT, handler);
+            resourceRegistration.registerReadOnlyAttribute(POOL_REJECTED_COUNT, handler);
+            resourceRegistration.registerReadOnlyAttribute(POOL_WAIT_TIME_P50, handler);
+            resourceRegistration.registerReadOnlyAttribute(POOL_WAIT_TIME_P90, handler);
+            resourceRegistration.registerReadOnlyAttribute(POOL_WAIT_TIME_P99, handler);
             resourceRegistration.registerReadOnlyAttribute(POOL_CURRENT_SIZE, handler);
             resourceRegistration.registerReadWriteAttribute(POOL_MAX_SIZE, handler, handler);
         }
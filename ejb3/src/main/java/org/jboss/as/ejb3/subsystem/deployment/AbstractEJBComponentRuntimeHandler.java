@@ -16,9 +16,14 @@ import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourc
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_AVAILABLE_COUNT;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_CREATE_COUNT;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_CURRENT_SIZE;
+import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_EVICT_COUNT;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_MAX_SIZE;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_NAME;
+import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_REJECTED_COUNT;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_REMOVE_COUNT;
+import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_WAIT_TIME_P50;
+import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_WAIT_TIME_P90;
+import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_WAIT_TIME_P99;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.RUN_AS_ROLE;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.SECURITY_DOMAIN;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.TIMEOUT_METHOD;
@@ -50,6 +55,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.ejb.EJBException;
 import jakarta.ejb.NoSuchObjectLocalException;
@@ -206,6 +212,31 @@ public abstract class AbstractEJBComponentRuntimeHandler<T extends EJBComponent>
             if (pool != null) {
                 result.set(pool.getRemoveCount());
             }
+        } else if (hasPool && POOL_EVICT_COUNT.getName().equals(attributeName)) {
+            final Pool<?> pool = componentType.getPool(component);
+            if (pool != null) {
+                result.set(pool.getEvictCount());
+            }
+        } else if (hasPool && POOL_REJECTED_COUNT.getName().equals(attributeName)) {
+            final Pool<?> pool = componentType.getPool(component);
+            if (pool != null) {
+                result.set(pool.getRejectedCount());
+            }
+        } else if (hasPool && POOL_WAIT_TIME_P50.getName().equals(attributeName)) {
+            final Pool<?> pool = componentType.getPool(component);
+            if (pool != null) {
+                result.set(TimeUnit.NANOSECONDS.toMicros(pool.getWaitTimePercentile(0.5)));
+            }
+        } else if (hasPool && POOL_WAIT_TIME_P90.getName().equals(attributeName)) {
+            final Pool<?> pool = componentType.getPool(component);
+            if (pool != null) {
+                result.set(TimeUnit.NANOSECONDS.toMicros(pool.getWaitTimePercentile(0.9)));
+            }
+        } else if (hasPool && POOL_WAIT_TIME_P99.getName().equals(attributeName)) {
+            final Pool<?> pool = componentType.getPool(component);
+            if (pool != null) {
+                result.set(TimeUnit.NANOSECONDS.toMicros(pool.getWaitTimePercentile(0.99)));
+            }
         } else if (hasPool && POOL_CURRENT_SIZE.getName().equals(attributeName)) {
             final Pool<?> pool = componentType.getPool(component);
             if (pool != null) {
@@ -6,7 +6,6 @@
 package org.jboss.as.ejb3.timerservice;
 
 import java.util.List;
-import java.util.Timer;
 import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
@@ -54,7 +53,7 @@ public class TimerServiceFactoryServiceInstaller implements DeploymentServiceIns
     public void install(DeploymentPhaseContext context) {
         ServiceDependency<Executor> executor = ServiceDependency.on(EJB3SubsystemRootResourceDefinition.EXECUTOR_SERVICE_DESCRIPTOR, this.threadPoolName);
         ServiceDependency<TimerPersistence> persistence = (this.store != null) ? ServiceDependency.on(TimerPersistence.SERVICE_DESCRIPTOR, this.store) : ServiceDependency.of(null);
-        ServiceDependency<Timer> timer = ServiceDependency.on(TimerServiceResourceDefinition.TIMER_SERVICE_DESCRIPTOR);
+        ServiceDependency<TimerWheel> timer = ServiceDependency.on(TimerServiceResourceDefinition.TIMER_SERVICE_DESCRIPTOR);
         TimedObjectInvokerFactory invokerFactory = this.configuration.getInvokerFactory();
         TimerServiceRegistry registry = this.configuration.getTimerServiceRegistry();
         TimerListener listener = this.configuration.getTimerListener();
@@ -85,7 +84,7 @@ public class TimerServiceFactoryServiceInstaller implements DeploymentServiceIns
                     }
 
                     @Override
-                    public Timer getTimer() {
+                    public TimerWheel getTimer() {
                         return timer.get();
                     }
 
@@ -70,9 +70,9 @@ public class TimerServiceImpl implements ManagedTimerService {
     private final ConcurrentMap<String, TimerImpl> timers = new ConcurrentHashMap<>();
 
     /**
-     * Holds the {@link java.util.concurrent.Future} of each of the timer tasks that have been scheduled
+     * Holds the {@link TimerWheel.Timeout} of each of the timer tasks that have been scheduled
      */
-    private final ConcurrentMap<String, java.util.TimerTask> scheduledTimerFutures = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TimerWheel.Timeout> scheduledTimerFutures = new ConcurrentHashMap<>();
 
     /**
      * Key that is used to store timers that are waiting on transaction completion in the transaction local
@@ -80,7 +80,7 @@ public class TimerServiceImpl implements ManagedTimerService {
     private final Object waitingOnTxCompletionKey = new Object();
 
     private final Executor executor;
-    private final java.util.Timer timer;
+    private final TimerWheel timer;
     private final TimedObjectInvoker invoker;
     private final TimerPersistence persistence;
     private final TimerServiceRegistry timerServiceRegistry;
@@ -155,7 +155,6 @@ public class TimerServiceImpl implements ManagedTimerService {
         started = false;
         safeClose(listenerHandle);
         listenerHandle = null;
-        this.timer.purge(); //WFLY-3823
     }
 
     @Override
@@ -916,7 +915,7 @@ public class TimerServiceImpl implements ManagedTimerService {
         }
     }
 
-    private class TaskPostPersist extends java.util.TimerTask {
+    private class TaskPostPersist extends TimerWheel.Timeout {
         private final TimerImpl timer;
         private long delta = 0;
         private long nextExpirationPristine = 0;
@@ -966,7 +965,7 @@ public class TimerServiceImpl implements ManagedTimerService {
         }
     }
 
-    private class Task extends java.util.TimerTask {
+    private class Task extends TimerWheel.Timeout {
 
         private final TimerTask delegate;
         private final ControlPoint controlPoint;
@@ -0,0 +1,402 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A scheduler of timeouts based on a hierarchical timing wheel, replacing a {@link java.util.Timer} for large numbers of
+ * timeouts.
+ * <p/>
+ * Each level of the wheel is an array of buckets, each of which holds the timeouts expiring within one tick of that
+ * level. The tick of a level is the interval covered by the whole level below it. Scheduling and cancelling a timeout
+ * only links or unlinks it from its bucket, and only non-empty buckets are queued by expiration, so the cost of both does
+ * not depend on the number of scheduled timeouts. When a bucket of a higher level expires, its timeouts are moved down
+ * to the finer grained levels, until they expire on the lowest level.
+ * <p/>
+ * Like {@link java.util.Timer}, expired timeouts are run by a single thread and are expected to hand off any significant
+ * work to an executor.
+ */
+public class TimerWheel {
+
+    private static final long DEFAULT_TICK = 1L;
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+    private static final AtomicInteger COUNT = new AtomicInteger(0);
+
+    /**
+     * A task that can be scheduled, once or repeatedly, by a {@link TimerWheel}.
+     */
+    public abstract static class Timeout implements Runnable {
+        private volatile Bucket bucket;
+        private volatile boolean cancelled;
+        // guarded by the monitor of the bucket
+        private Timeout previous;
+        private Timeout next;
+        /**
+         * The time of the next expiration, relative to the start of the wheel, written before the timeout is added to a bucket.
+         */
+        private volatile long expiration;
+        private long period;
+        private boolean fixedRate;
+        private boolean scheduled;
+
+        /**
+         * Cancels this timeout, which is no longer run once this method returns, unless it is currently running.
+         *
+         * @return true, if this timeout was not cancelled before
+         */
+        public boolean cancel() {
+            boolean result = !this.cancelled;
+            this.cancelled = true;
+            // the timeout may be moved to another bucket concurrently
+            for (Bucket bucket = this.bucket; bucket != null; bucket = this.bucket) {
+                bucket.remove(this);
+            }
+            return result;
+        }
+
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+    }
+
+    /**
+     * A doubly linked list of the timeouts expiring within one tick.
+     */
+    private static class Bucket implements Delayed {
+        private final TimerWheel wheel;
+        /**
+         * Whether this bucket holds a timeout that expired before it could be added to the wheel.
+         */
+        private final boolean expired;
+        private final Timeout root = new Timeout() {
+            @Override
+            public void run() {
+            }
+        };
+        private final AtomicLong expiration = new AtomicLong(-1L);
+
+        Bucket(TimerWheel wheel, boolean expired) {
+            this.wheel = wheel;
+            this.expired = expired;
+            this.root.previous = this.root;
+            this.root.next = this.root;
+        }
+
+        void add(Timeout timeout) {
+            synchronized (this) {
+                // publish the bucket before checking for a concurrent cancellation, which checks the bucket after the flag
+                timeout.bucket = this;
+                if (timeout.cancelled) {
+                    timeout.bucket = null;
+                    return;
+                }
+                Timeout last = this.root.previous;
+                timeout.next = this.root;
+                timeout.previous = last;
+                last.next = timeout;
+                this.root.previous = timeout;
+            }
+        }
+
+        synchronized void remove(Timeout timeout) {
+            if (timeout.bucket == this) {
+                timeout.next.previous = timeout.previous;
+                timeout.previous.next = timeout.next;
+                timeout.next = null;
+                timeout.previous = null;
+                timeout.bucket = null;
+            }
+        }
+
+        /**
+         * Removes all timeouts from this bucket.
+         */
+        synchronized void flush(List<Timeout> timeouts) {
+            for (Timeout timeout = this.root.next; timeout != this.root; timeout = this.root.next) {
+                this.remove(timeout);
+                timeouts.add(timeout);
+            }
+            this.expiration.set(-1L);
+        }
+
+        /**
+         * @return true, if the expiration changed, i.e. the bucket needs to be queued
+         */
+        boolean setExpiration(long expiration) {
+            return this.expiration.getAndSet(expiration) != expiration;
+        }
+
+        long getExpiration() {
+            return this.expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(this.getExpiration() - this.wheel.now(), 0L), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed delayed) {
+            return Long.compare(this.getExpiration(), ((Bucket) delayed).getExpiration());
+        }
+    }
+
+    /**
+     * One level of the wheel.
+     */
+    private static class Level {
+        private final TimerWheel wheel;
+        private final long tick;
+        private final long interval;
+        private final Bucket[] buckets;
+        /**
+         * The start of the current tick, written while holding the write lock of the wheel.
+         */
+        private long currentTime;
+        private volatile Level overflow;
+
+        Level(TimerWheel wheel, long tick, int size, long startTime) {
+            this.wheel = wheel;
+            this.tick = tick;
+            // the coarsest levels cover any delay
+            this.interval = (tick > Long.MAX_VALUE / size) ? Long.MAX_VALUE : tick * size;
+            this.buckets = new Bucket[size];
+            for (int i = 0; i < size; i++) {
+                this.buckets[i] = new Bucket(wheel, false);
+            }
+            this.currentTime = startTime - (startTime % tick);
+        }
+
+        /**
+         * Adds a timeout to the bucket of this or a higher level covering its expiration, while holding the read lock of the wheel.
+         *
+         * @return false, if the timeout already expired
+         */
+        boolean add(Timeout timeout) {
+            long expiration = timeout.expiration;
+            if (expiration - this.currentTime < this.tick) {
+                return false;
+            }
+            if (expiration - this.currentTime < this.interval) {
+                long virtualId = expiration / this.tick;
+                Bucket bucket = this.buckets[(int) (virtualId % this.buckets.length)];
+                bucket.add(timeout);
+                // a bucket is reused once its previous expiration was flushed, in which case it has to be queued again
+                if (bucket.setExpiration(virtualId * this.tick)) {
+                    this.wheel.queue.offer(bucket);
+                }
+                return true;
+            }
+            return this.overflow().add(timeout);
+        }
+
+        void advance(long time) {
+            if (time >= this.currentTime + this.tick) {
+                this.currentTime = time - (time % this.tick);
+                Level overflow = this.overflow;
+                if (overflow != null) {
+                    overflow.advance(this.currentTime);
+                }
+            }
+        }
+
+        private Level overflow() {
+            Level overflow = this.overflow;
+            if (overflow == null) {
+                synchronized (this) {
+                    overflow = this.overflow;
+                    if (overflow == null) {
+                        overflow = new Level(this.wheel, this.interval, this.buckets.length, this.currentTime);
+                        this.overflow = overflow;
+                    }
+                }
+            }
+            return overflow;
+        }
+    }
+
+    private final long start = System.nanoTime();
+    private final DelayQueue<Bucket> queue = new DelayQueue<>();
+    /**
+     * Timeouts are added while holding the read lock, the clock is advanced while holding the write lock.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Level wheel;
+    private final Thread thread;
+    private volatile boolean cancelled;
+
+    public TimerWheel() {
+        this("ejb-timer-wheel-" + COUNT.incrementAndGet(), DEFAULT_TICK, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * @param name the name of the thread running the expired timeouts
+     * @param tick the resolution of the wheel in milliseconds
+     * @param wheelSize the number of buckets of each level of the wheel
+     */
+    public TimerWheel(String name, long tick, int wheelSize) {
+        this.wheel = new Level(this, tick, wheelSize, this.now());
+        this.thread = new Thread(this::expire, name);
+        this.thread.start();
+    }
+
+    /**
+     * Schedules a timeout to run once after the given delay.
+     *
+     * @param timeout the timeout
+     * @param delay the delay in milliseconds
+     */
+    public void schedule(Timeout timeout, long delay) {
+        this.schedule(timeout, delay, 0L, false);
+    }
+
+    /**
+     * Schedules a timeout to run repeatedly, with the given period between the end of one run and the start of the next.
+     *
+     * @param timeout the timeout
+     * @param delay the delay of the first run in milliseconds
+     * @param period the period in milliseconds
+     */
+    public void schedule(Timeout timeout, long delay, long period) {
+        if (period <= 0L) {
+            throw new IllegalArgumentException("Non-positive period.");
+        }
+        this.schedule(timeout, delay, period, false);
+    }
+
+    /**
+     * Schedules a timeout to run repeatedly, with the given period between the scheduled start of one run and the next.
+     *
+     * @param timeout the timeout
+     * @param delay the delay of the first run in milliseconds
+     * @param period the period in milliseconds
+     */
+    public void scheduleAtFixedRate(Timeout timeout, long delay, long period) {
+        if (period <= 0L) {
+            throw new IllegalArgumentException("Non-positive period.");
+        }
+        this.schedule(timeout, delay, period, true);
+    }
+
+    /**
+     * Stops this wheel. Scheduled timeouts are discarded, but a currently running timeout is not interrupted.
+     */
+    public void cancel() {
+        this.cancelled = true;
+        this.thread.interrupt();
+    }
+
+    private void schedule(Timeout timeout, long delay, long period, boolean fixedRate) {
+        if (delay < 0L) {
+            throw new IllegalArgumentException("Negative delay.");
+        }
+        if (this.cancelled) {
+            throw new IllegalStateException("Timer already cancelled.");
+        }
+        synchronized (timeout) {
+            if (timeout.scheduled || timeout.cancelled) {
+                throw new IllegalStateException("Task already scheduled or cancelled");
+            }
+            timeout.scheduled = true;
+        }
+        timeout.period = period;
+        timeout.fixedRate = fixedRate;
+        long now = this.now();
+        timeout.expiration = (delay < Long.MAX_VALUE - now) ? now + delay : Long.MAX_VALUE;
+        this.add(timeout);
+    }
+
+    private void add(Timeout timeout) {
+        boolean added;
+        this.lock.readLock().lock();
+        try {
+            added = this.wheel.add(timeout);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+        if (!added) {
+            // expired already, hand it over in a bucket of its own to the thread of the wheel, which runs it as soon as possible
+            Bucket bucket = new Bucket(this, true);
+            bucket.add(timeout);
+            bucket.setExpiration(0L);
+            this.queue.offer(bucket);
+        }
+    }
+
+    /**
+     * The current time of the wheel in milliseconds, which is not affected by changes of the system clock.
+     */
+    long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.start);
+    }
+
+    private void expire() {
+        List<Timeout> expired = new ArrayList<>();
+        List<Timeout> flushed = new ArrayList<>();
+        while (!this.cancelled) {
+            Bucket bucket;
+            try {
+                bucket = this.queue.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            this.lock.writeLock().lock();
+            try {
+                while (bucket != null) {
+                    if (bucket.expired) {
+                        bucket.flush(expired);
+                    } else {
+                        this.wheel.advance(bucket.getExpiration());
+                        bucket.flush(flushed);
+                        for (Timeout timeout : flushed) {
+                            // timeouts of higher levels move down to finer grained buckets, unless they expired
+                            if (!this.wheel.add(timeout)) {
+                                expired.add(timeout);
+                            }
+                        }
+                        flushed.clear();
+                    }
+                    bucket = this.queue.poll();
+                }
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+            for (Timeout timeout : expired) {
+                this.run(timeout);
+            }
+            expired.clear();
+        }
+        this.queue.clear();
+    }
+
+    private void run(Timeout timeout) {
+        if (timeout.cancelled || this.cancelled) {
+            return;
+        }
+        if (timeout.period > 0L) {
+            timeout.expiration = timeout.fixedRate ? timeout.expiration + timeout.period : this.now() + timeout.period;
+        }
+        try {
+            timeout.run();
+        } catch (Throwable e) {
+            EJB3_TIMER_LOGGER.timerTaskFailed(timeout, e);
+        }
+        if ((timeout.period > 0L) && !timeout.cancelled && !this.cancelled) {
+            this.add(timeout);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.timerservice.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.jboss.marshalling.InputStreamByteInput;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.MarshallerFactory;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.OutputStreamByteOutput;
+import org.jboss.marshalling.Unmarshaller;
+
+/**
+ * Serializes timer infos with marshallers that are reused across timers. The idle marshallers are held by this
+ * instance rather than by the threads using them, so {@link #clear()} releases all of them when the timer store
+ * is stopped.
+ */
+public final class TimerInfoMarshalling {
+
+    /**
+     * The largest serialized timer info whose buffer is kept for the next one, so that a single large timer info
+     * does not leave an idle marshaller holding on to a large buffer.
+     */
+    static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final MarshallerFactory factory;
+    private final MarshallingConfiguration configuration;
+    private final BlockingQueue<Marshalling> idle;
+
+    /**
+     * @param factory the marshaller factory
+     * @param configuration the marshalling configuration
+     * @param maxIdle the maximum number of idle marshallers kept for reuse
+     */
+    public TimerInfoMarshalling(MarshallerFactory factory, MarshallingConfiguration configuration, int maxIdle) {
+        this.factory = factory;
+        this.configuration = configuration;
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    public TimerInfoMarshalling(MarshallerFactory factory, MarshallingConfiguration configuration) {
+        this(factory, configuration, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Serializes a timer info.
+     *
+     * @param info the timer info
+     * @return the serialized timer info, or {@code null} if the timer info is {@code null}
+     */
+    public byte[] serialize(Serializable info) throws IOException {
+        if (info == null) {
+            return null;
+        }
+        final Marshalling marshalling = this.reserve();
+        try {
+            marshalling.out.reset();
+            final Marshaller marshaller = marshalling.marshaller;
+            marshaller.start(new OutputStreamByteOutput(marshalling.out));
+            try {
+                marshaller.writeObject(info);
+                marshaller.finish();
+            } finally {
+                // do not retain the timer info with the marshaller
+                marshaller.clearInstanceCache();
+            }
+            final byte[] result = marshalling.out.toByteArray();
+            if (result.length > MAX_RETAINED_BUFFER_SIZE) {
+                marshalling.out = new ByteArrayOutputStream();
+            }
+            return result;
+        } finally {
+            this.release(marshalling);
+        }
+    }
+
+    /**
+     * Deserializes a timer info.
+     *
+     * @param data the serialized timer info
+     * @return the timer info, or {@code null} if the data is {@code null}
+     */
+    public Object deserialize(byte[] data) throws IOException, ClassNotFoundException {
+        if (data == null) {
+            return null;
+        }
+        final Marshalling marshalling = this.reserve();
+        try {
+            final Unmarshaller unmarshaller = marshalling.unmarshaller;
+            unmarshaller.start(new InputStreamByteInput(new ByteArrayInputStream(data)));
+            try {
+                final Object result = unmarshaller.readObject();
+                unmarshaller.finish();
+                return result;
+            } finally {
+                unmarshaller.clearInstanceCache();
+            }
+        } finally {
+            this.release(marshalling);
+        }
+    }
+
+    /**
+     * Discards the idle marshallers.
+     */
+    public void clear() {
+        this.idle.clear();
+    }
+
+    /**
+     * Takes an idle marshaller, or creates a new one if none is idle, e.g. because the serialization of a timer info
+     * accesses the timer service.
+     */
+    Marshalling reserve() throws IOException {
+        final Marshalling marshalling = this.idle.poll();
+        return (marshalling != null) ? marshalling : new Marshalling(this.factory, this.configuration);
+    }
+
+    /**
+     * Keeps a marshaller for reuse, unless enough marshallers are idle already.
+     */
+    void release(Marshalling marshalling) {
+        this.idle.offer(marshalling);
+    }
+
+    static final class Marshalling {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Marshaller marshaller;
+        final Unmarshaller unmarshaller;
+
+        Marshalling(MarshallerFactory factory, MarshallingConfiguration configuration) throws IOException {
+            this.marshaller = factory.createMarshaller(configuration);
+            this.unmarshaller = factory.createUnmarshaller(configuration);
+        }
+    }
+}
@@ -10,8 +10,6 @@ import static org.jboss.as.ejb3.util.MethodInfoHelper.EMPTY_STRING_ARRAY;
 import static org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod.TIMER_PARAM_1;
 import static org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod.TIMER_PARAM_1_ARRAY;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
@@ -25,8 +23,11 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.sql.Types;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
@@ -39,8 +40,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -59,17 +58,14 @@ import org.jboss.as.ejb3.timerservice.CalendarTimer;
 import org.jboss.as.ejb3.timerservice.TimerImpl;
 import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
 import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.TimerWheel;
 import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
+import org.jboss.as.ejb3.timerservice.persistence.TimerInfoMarshalling;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
 import org.jboss.as.naming.ManagedReference;
 import org.jboss.as.naming.ManagedReferenceFactory;
-import org.jboss.marshalling.InputStreamByteInput;
-import org.jboss.marshalling.Marshaller;
-import org.jboss.marshalling.MarshallerFactory;
 import org.jboss.marshalling.MarshallingConfiguration;
 import org.jboss.marshalling.ModularClassResolver;
-import org.jboss.marshalling.OutputStreamByteOutput;
-import org.jboss.marshalling.Unmarshaller;
 import org.jboss.marshalling.river.RiverMarshallerFactory;
 import org.jboss.modules.ModuleLoader;
 import org.jboss.msc.Service;
@@ -92,7 +88,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final Consumer<DatabaseTimerPersistence> dbConsumer;
     private final Supplier<ManagedReferenceFactory> dataSourceSupplier;
     private final Supplier<ModuleLoader> moduleLoaderSupplier;
-    private final Supplier<Timer> timerSupplier;
+    private final Supplier<TimerWheel> timerSupplier;
     private final Map<String, TimerChangeListener> changeListeners = Collections.synchronizedMap(new HashMap<String, TimerChangeListener>());
 
 
@@ -111,8 +107,8 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private volatile ManagedReference managedReference;
     private volatile DataSource dataSource;
     private volatile Properties sql;
-    private MarshallerFactory factory;
-    private MarshallingConfiguration configuration;
+    /** The marshallers reused for every timer info */
+    private volatile TimerInfoMarshalling marshalling;
     private RefreshTask refreshTask;
 
     /** database values */
@@ -137,11 +133,15 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private static final String UPDATE_TIMER = "update-timer";
     private static final String LOAD_ALL_TIMERS = "load-all-timers";
     private static final String LOAD_TIMER = "load-timer";
+    private static final String LOAD_TIMER_STATES = "load-timer-states";
     private static final String DELETE_TIMER = "delete-timer";
     private static final String UPDATE_RUNNING = "update-running";
     private static final String GET_TIMER_INFO = "get-timer-info";
+    private static final String ADD_BINARY_INFO = "add-binary-info";
+    /** Suffix of the SQL commands used instead of the generic ones if the timer info is stored in binary form */
+    private static final String BINARY = "binary";
     /** The format for scheduler start and end date*/
-    private static final String SCHEDULER_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
+    private static final DateTimeFormatter SCHEDULER_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     /** Pattern to pickout MSSQL */
     private static final Pattern MSSQL_PATTERN = Pattern.compile("(sqlserver|microsoft|mssql)");
 
@@ -167,10 +167,23 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final long clearTimerInfoCacheBeyond = TimeUnit.MINUTES.toMillis(Long.parseLong(
             WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.database.clearTimerInfoCacheBeyond", "15")));
 
+    /**
+     * System property {@code jboss.ejb.timer.database.binaryTimerInfo}
+     * to store the timer info as binary data in the {@code INFO_BINARY} column,
+     * instead of Base64 encoded text in the {@code INFO} column.
+     * The default value is false.
+     * <p>
+     * The {@code INFO_BINARY} column is added to an existing timer table when the timer service starts.
+     * The info of timers persisted before is still read from the {@code INFO} column,
+     * whereas the info of timers persisted in binary form is lost if this property is disabled again.
+     */
+    private volatile boolean binaryTimerInfo = Boolean.parseBoolean(
+            WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.database.binaryTimerInfo", "false"));
+
     public DatabaseTimerPersistence(final Consumer<DatabaseTimerPersistence> dbConsumer,
                                     final Supplier<ManagedReferenceFactory> dataSourceSupplier,
                                     final Supplier<ModuleLoader> moduleLoaderSupplier,
-                                    final Supplier<Timer> timerSupplier,
+                                    final Supplier<TimerWheel> timerSupplier,
                                     final String database, String partition, String nodeName, int refreshInterval, boolean allowExecution) {
         this.dbConsumer = dbConsumer;
         this.dataSourceSupplier = dataSourceSupplier;
@@ -186,9 +199,9 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     @Override
     public void start(final StartContext context) throws StartException {
         dbConsumer.accept(this);
-        factory = new RiverMarshallerFactory();
-        configuration = new MarshallingConfiguration();
+        final MarshallingConfiguration configuration = new MarshallingConfiguration();
         configuration.setClassResolver(ModularClassResolver.getInstance(moduleLoaderSupplier.get()));
+        marshalling = new TimerInfoMarshalling(new RiverMarshallerFactory(), configuration);
 
         managedReference = dataSourceSupplier.get().getReference();
         dataSource = (DataSource) managedReference.getInstance();
@@ -209,6 +222,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         managedReference.release();
         managedReference = null;
         dataSource = null;
+        marshalling.clear();
     }
 
     /**
@@ -221,6 +235,9 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
      * <p>
      * If an entry key ends with a database dialect suffix different than the current one,
      * it is removed.
+     * <p>
+     * Entries whose key ends with the {@code binary} suffix are handled like those of the current
+     * database dialect if the timer info is stored in binary form, and are removed otherwise.
      *
      * @throws StartException if IOException when loading timer-sql.properties
      */
@@ -236,18 +253,6 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             safeClose(stream);
         }
 
-        // Update the create-auto-timer statements for DB specifics
-        if (database != null) {
-            switch (database) {
-                case DB2:
-                    adjustCreateAutoTimerStatement("FROM SYSIBM.SysDummy1 ");
-                    break;
-                case ORACLE:
-                    adjustCreateAutoTimerStatement("FROM DUAL ");
-                    break;
-            }
-        }
-
         final Iterator<Map.Entry<Object, Object>> iterator = sql.entrySet().iterator();
         while (iterator.hasNext()) {
             final Map.Entry<Object, Object> next = iterator.next();
@@ -258,15 +263,27 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             if (dot > 0) {
                 final String keySuffix = key.substring(dot + 1);
 
-                // this is an entry for the current database dialect,
+                // this is an entry for the current database dialect, or the binary timer info,
                 // copy its value to the corresponding generic entry
-                if (keySuffix.equals(database)) {
+                if (keySuffix.equals(database) || (binaryTimerInfo && keySuffix.equals(BINARY))) {
                     final String keyWithoutSuffix = key.substring(0, dot);
                     sql.setProperty(keyWithoutSuffix, (String) next.getValue());
                 }
                 iterator.remove();
             }
         }
+
+        // Update the create-auto-timer statements for DB specifics
+        if (database != null) {
+            switch (database) {
+                case DB2:
+                    adjustCreateAutoTimerStatement("FROM SYSIBM.SysDummy1 ");
+                    break;
+                case ORACLE:
+                    adjustCreateAutoTimerStatement("FROM DUAL ");
+                    break;
+            }
+        }
     }
 
     /**
@@ -359,21 +376,20 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
      * and create the timer table if necessary.
      */
     private void checkDatabase() {
-        String loadTimer = sql.getProperty(LOAD_TIMER);
+        String loadTimerStates = sql.getProperty(LOAD_TIMER_STATES);
         Connection connection = null;
         Statement statement = null;
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
         try {
-            //test for the existence of the table by running the load timer query
+            //test for the existence of the table by running the load timer states query,
+            //which does not depend on the column of the timer info
             connection = dataSource.getConnection();
             if (connection.getTransactionIsolation() < Connection.TRANSACTION_READ_COMMITTED) {
                 EjbLogger.EJB3_TIMER_LOGGER.wrongTransactionIsolationConfiguredForTimer();
             }
-            preparedStatement = connection.prepareStatement(loadTimer);
+            preparedStatement = connection.prepareStatement(loadTimerStates);
             preparedStatement.setString(1, "NON-EXISTENT");
-            preparedStatement.setString(2, "NON-EXISTENT");
-            preparedStatement.setString(3, "NON-EXISTENT");
             resultSet = preparedStatement.executeQuery();
         } catch (SQLException e) {
             //the query failed, assume it is because the table does not exist
@@ -398,6 +414,51 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             safeClose(statement);
             safeClose(connection);
         }
+        if (binaryTimerInfo) {
+            checkBinaryInfoColumn();
+        }
+    }
+
+    /**
+     * Adds the column of the binary timer info to the timer table if necessary.
+     * If this fails, the timer info is stored as text instead.
+     */
+    private void checkBinaryInfoColumn() {
+        Connection connection = null;
+        Statement statement = null;
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+        try {
+            //test for the existence of the column by running the get timer info query
+            connection = dataSource.getConnection();
+            preparedStatement = connection.prepareStatement(sql.getProperty(GET_TIMER_INFO));
+            preparedStatement.setString(1, "NON-EXISTENT");
+            preparedStatement.setString(2, "NON-EXISTENT");
+            resultSet = preparedStatement.executeQuery();
+        } catch (SQLException e) {
+            //the query failed, assume it is because the column does not exist
+            try {
+                if (connection == null) {
+                    throw e;
+                }
+                statement = connection.createStatement();
+                statement.executeUpdate(sql.getProperty(ADD_BINARY_INFO));
+            } catch (SQLException e1) {
+                EjbLogger.EJB3_TIMER_LOGGER.couldNotAddBinaryTimerInfoColumn(e1);
+                binaryTimerInfo = false;
+                try {
+                    loadSqlProperties();
+                } catch (StartException e2) {
+                    // already loaded successfully before
+                    throw new IllegalStateException(e2);
+                }
+            }
+        } finally {
+            safeClose(resultSet);
+            safeClose(preparedStatement);
+            safeClose(statement);
+            safeClose(connection);
+        }
     }
 
     /**
@@ -739,7 +800,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         builder.setNextDate(resultSet.getTimestamp(5));
         builder.setPreviousRun(resultSet.getTimestamp(6));
 //        builder.setPrimaryKey(deSerialize(resultSet.getString(7)));
-        builder.setInfo((Serializable) deSerialize(resultSet.getString(8)));
+        builder.setInfo((Serializable) deSerializeInfo(resultSet, 8, 26));
         builder.setTimerState(timerState != null ? timerState : TimerState.valueOf(resultSet.getString(9)));
         builder.setPersistent(true);
 
@@ -766,7 +827,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         statement.setTimestamp(5, timestamp(timerEntity.getNextExpiration()));
         statement.setTimestamp(6, timestamp(timerEntity.getPreviousRun()));
         statement.setString(7, null);
-        statement.setString(8, serialize(timerEntity.getTimerInfo()));
+        setInfo(statement, 8, timerEntity.getTimerInfo());
         statement.setString(9, timerEntity.getState().name());
 
         if (timerEntity instanceof CalendarTimer) {
@@ -815,7 +876,6 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         String createTimer = sql.getProperty(CREATE_AUTO_TIMER);
         Connection connection = null;
         PreparedStatement statement = null;
-        final String timerInfoString = serialize(timer.getTimerInfo());
         final Method timeoutMethod = timer.getTimeoutMethod();
         final String timeoutMethodClassName = timeoutMethod.getDeclaringClass().getName();
         final String timeoutMethodParam = timeoutMethod.getParameterCount() == 0 ? null : TIMER_PARAM_1;
@@ -830,7 +890,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             statement.setString(1, timer.getId());
             statement.setString(2, timer.getTimedObjectId());
             statement.setTimestamp(3, timestamp(timer.getNextExpiration()));
-            statement.setString(4, timerInfoString);
+            setInfo(statement, 4, timer.getTimerInfo());
             statement.setString(5, exp.getSecond());
             statement.setString(6, exp.getMinute());
             statement.setString(7, exp.getHour());
@@ -910,7 +970,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             statement.setString(2, timer.getId());
             resultSet = statement.executeQuery();
             if (resultSet.next()) {
-                result = (Serializable) deSerialize(resultSet.getString(1));
+                result = (Serializable) deSerializeInfo(resultSet, 1, 2);
             }
         } catch (SQLException e) {
             EjbLogger.EJB3_TIMER_LOGGER.failedToRetrieveTimerInfo(timer, e);
@@ -948,46 +1008,65 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         return true;
     }
 
-    private String serialize(final Serializable serializable) {
-        if (serializable == null) {
-            return null;
-        }
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private byte[] serialize(final Serializable serializable) {
         try {
-            final Marshaller marshaller = factory.createMarshaller(configuration);
-            marshaller.start(new OutputStreamByteOutput(out));
-            marshaller.writeObject(serializable);
-            marshaller.finish();
-            out.flush();
+            return marshalling.serialize(serializable);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        return Base64.getEncoder().encodeToString(out.toByteArray());
     }
 
     public Object deSerialize(final String data) throws SQLException {
         if (data == null) {
             return null;
         }
-        InputStream in = new ByteArrayInputStream(Base64.getDecoder().decode(data));
+        return deSerialize(Base64.getDecoder().decode(data));
+    }
+
+    private Object deSerialize(final byte[] data) {
         try {
-            final Unmarshaller unmarshaller = factory.createUnmarshaller(configuration);
-            unmarshaller.start(new InputStreamByteInput(in));
-            Object ret = unmarshaller.readObject();
-            unmarshaller.finish();
-            return ret;
+            return marshalling.deserialize(data);
         } catch (IOException | ClassNotFoundException e) {
             throw new RuntimeException(e);
-        } finally {
-            safeClose(in);
         }
     }
 
+    /**
+     * Sets the serialized timer info as statement parameter, either as binary data or as Base64 encoded text.
+     */
+    private void setInfo(final PreparedStatement statement, final int paramIndex, final Serializable info) throws SQLException {
+        final byte[] data = serialize(info);
+        if (binaryTimerInfo) {
+            if (data == null) {
+                statement.setNull(paramIndex, Types.VARBINARY);
+            } else {
+                statement.setBytes(paramIndex, data);
+            }
+        } else {
+            statement.setString(paramIndex, data == null ? null : Base64.getEncoder().encodeToString(data));
+        }
+    }
+
+    /**
+     * Reads the timer info from the current row of a {@code ResultSet}.
+     * The binary timer info takes precedence, the text column holds the timer info persisted before
+     * it was stored in binary form.
+     */
+    private Object deSerializeInfo(final ResultSet resultSet, final int infoColumn, final int binaryInfoColumn) throws SQLException {
+        if (binaryTimerInfo) {
+            final byte[] data = resultSet.getBytes(binaryInfoColumn);
+            if (data != null) {
+                return deSerialize(data);
+            }
+        }
+        return deSerialize(resultSet.getString(infoColumn));
+    }
+
     private String schedulerDateAsString(final Date date) {
         if (date == null) {
             return null;
         }
-        return new SimpleDateFormat(SCHEDULER_DATE_FORMAT).format(date);
+        return SCHEDULER_DATE_FORMAT.format(LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()));
     }
 
     /** Convert the stored date-string from database back to Date */
@@ -996,8 +1075,10 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             return null;
         }
         try {
-            return new SimpleDateFormat(SCHEDULER_DATE_FORMAT).parse(date);
-        } catch (ParseException e) {
+            // like SimpleDateFormat, ignore any trailing text, e.g. fractions of seconds
+            final LocalDateTime dateTime = LocalDateTime.from(SCHEDULER_DATE_FORMAT.parse(date, new ParsePosition(0)));
+            return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+        } catch (DateTimeException e) {
             EjbLogger.EJB3_TIMER_LOGGER.scheduleExpressionDateFromTimerPersistenceInvalid(timerId, e.getMessage());
             return null;
         }
@@ -1029,7 +1110,11 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
-    private class RefreshTask extends TimerTask {
+    /**
+     * Refreshes the timers of all timed objects of the partition with a single query of the timer states only. The full
+     * timer row, including the serialized timer info, is only loaded for timers which are new or out of sync.
+     */
+    private class RefreshTask extends TimerWheel.Timeout {
 
         private volatile AtomicBoolean running = new AtomicBoolean();
 
@@ -1037,87 +1122,89 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         public void run() {
             if (running.compareAndSet(false, true)) {
                 try {
-                    Set<String> timedObjects;
+                    final Map<String, Set<String>> existing = new HashMap<>();
                     synchronized (DatabaseTimerPersistence.this) {
-                        timedObjects = new HashSet<>(knownTimerIds.keySet());
-                    }
-                    for (String timedObjectId : timedObjects) {
-                        TimerChangeListener listener = changeListeners.get(timedObjectId);
-                        if (listener == null) {
-                            continue;
-                        }
-                        final Set<String> existing;
-                        synchronized (DatabaseTimerPersistence.this) {
-                            existing = new HashSet<>(knownTimerIds.get(timedObjectId));
+                        for (Map.Entry<String, Set<String>> entry : knownTimerIds.entrySet()) {
+                            existing.put(entry.getKey(), new HashSet<>(entry.getValue()));
                         }
-                        String loadTimer = sql.getProperty(LOAD_ALL_TIMERS);
-                        Connection connection = null;
-                        PreparedStatement statement = null;
-                        ResultSet resultSet = null;
-                        try {
-                            connection = dataSource.getConnection();
-                            statement = connection.prepareStatement(loadTimer);
-                            statement.setString(1, timedObjectId);
-                            statement.setString(2, partition);
-                            resultSet = statement.executeQuery();
-                            final TimerServiceImpl timerService = listener.getTimerService();
-                            while (resultSet.next()) {
-                                String id = null;
-                                try {
-                                    id = resultSet.getString(1);
-                                    if (!existing.remove(id)) {
-                                        final Holder holder = timerFromResult(resultSet, timerService, id, null);
-                                        if(holder != null) {
-                                            synchronized (DatabaseTimerPersistence.this) {
-                                                knownTimerIds.get(timedObjectId).add(id);
-                                                listener.timerAdded(holder.timer);
-                                            }
-                                        }
-                                    } else {
-                                        TimerImpl oldTimer = timerService.getTimer(id);
-                                        // if it is already in memory but it is not in sync we have a problem
-                                        // remove and add -> the probable cause is db glitch
-                                        boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
-
-                                        // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
-                                        if (invalidMemoryTimer) {
-                                            TimerState dbTimerState = TimerState.valueOf(resultSet.getString(9));
-                                            boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
-                                            if (validDBTimer) {
-                                                final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
-                                                if (holder != null) {
-                                                    synchronized (DatabaseTimerPersistence.this) {
-                                                        knownTimerIds.get(timedObjectId).add(id);
-                                                        listener.timerSync(oldTimer, holder.timer);
-                                                    }
-                                                }
-                                            }
-                                        }
-                                    }
-                                } catch (Exception e) {
-                                    EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), id, e);
+                    }
+                    if (existing.isEmpty()) {
+                        return;
+                    }
+                    Connection connection = null;
+                    PreparedStatement statement = null;
+                    ResultSet resultSet = null;
+                    try {
+                        connection = dataSource.getConnection();
+                        final List<String[]> added = new ArrayList<>();
+                        final List<String[]> outOfSync = new ArrayList<>();
+                        statement = connection.prepareStatement(sql.getProperty(LOAD_TIMER_STATES));
+                        statement.setString(1, partition);
+                        resultSet = statement.executeQuery();
+                        while (resultSet.next()) {
+                            final String id = resultSet.getString(1);
+                            final String timedObjectId = resultSet.getString(2);
+                            final Set<String> timers = existing.get(timedObjectId);
+                            final TimerChangeListener listener = changeListeners.get(timedObjectId);
+                            if (timers == null || listener == null) {
+                                continue;
+                            }
+                            if (!timers.remove(id)) {
+                                added.add(new String[] { timedObjectId, id });
+                            } else {
+                                TimerImpl oldTimer = listener.getTimerService().getTimer(id);
+                                // if it is already in memory but it is not in sync we have a problem
+                                // remove and add -> the probable cause is db glitch
+                                boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
+
+                                // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
+                                if (invalidMemoryTimer && TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(TimerState.valueOf(resultSet.getString(3)))) {
+                                    outOfSync.add(new String[] { timedObjectId, id });
                                 }
                             }
-
-                            Set<String> timers;
-                            synchronized (DatabaseTimerPersistence.this) {
-                                 timers = knownTimerIds.get(timedObjectId);
+                        }
+                        safeClose(resultSet);
+                        resultSet = null;
+                        safeClose(statement);
+                        statement = null;
+
+                        if (!added.isEmpty() || !outOfSync.isEmpty()) {
+                            statement = connection.prepareStatement(sql.getProperty(LOAD_TIMER));
+                            for (String[] timer : added) {
+                                refreshTimer(statement, timer[0], timer[1], false);
+                            }
+                            for (String[] timer : outOfSync) {
+                                refreshTimer(statement, timer[0], timer[1], true);
                             }
-                            for (String timer : existing) {
-                                TimerImpl timer1 = timerService.getTimer(timer);
-                                if (timer1 != null && timer1.getState() != TimerState.CREATED) {
-                                    synchronized (DatabaseTimerPersistence.this) {
+                        }
+                    } catch (SQLException e) {
+                        EjbLogger.EJB3_TIMER_LOGGER.failedToRefreshTimers(partition);
+                        return;
+                    } finally {
+                        safeClose(resultSet);
+                        safeClose(statement);
+                        safeClose(connection);
+                    }
+
+                    // the remaining timers are no longer in the database
+                    for (Map.Entry<String, Set<String>> entry : existing.entrySet()) {
+                        final String timedObjectId = entry.getKey();
+                        final TimerChangeListener listener = changeListeners.get(timedObjectId);
+                        if (listener == null || entry.getValue().isEmpty()) {
+                            continue;
+                        }
+                        final TimerServiceImpl timerService = listener.getTimerService();
+                        for (String timer : entry.getValue()) {
+                            TimerImpl timer1 = timerService.getTimer(timer);
+                            if (timer1 != null && timer1.getState() != TimerState.CREATED) {
+                                synchronized (DatabaseTimerPersistence.this) {
+                                    Set<String> timers = knownTimerIds.get(timedObjectId);
+                                    if (timers != null) {
                                         timers.remove(timer);
                                         listener.timerRemoved(timer);
                                     }
                                 }
                             }
-                        } catch (SQLException e) {
-                            EjbLogger.EJB3_TIMER_LOGGER.failedToRefreshTimers(timedObjectId);
-                        } finally {
-                            safeClose(resultSet);
-                            safeClose(statement);
-                            safeClose(connection);
                         }
                     }
                 } finally {
@@ -1126,6 +1213,50 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             }
 
         }
+
+        /**
+         * Loads the full row of a timer which is new, or whose in-memory state is out of sync with the database, and
+         * passes it to the listener of its timed object.
+         */
+        private void refreshTimer(PreparedStatement statement, String timedObjectId, String id, boolean sync) {
+            final TimerChangeListener listener = changeListeners.get(timedObjectId);
+            if (listener == null) {
+                return;
+            }
+            final TimerServiceImpl timerService = listener.getTimerService();
+            try {
+                statement.setString(1, timedObjectId);
+                statement.setString(2, id);
+                statement.setString(3, partition);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        // removed since the timer states were queried
+                        return;
+                    }
+                    final TimerState dbTimerState = sync ? TimerState.valueOf(resultSet.getString(9)) : null;
+                    if (sync && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState)) {
+                        return;
+                    }
+                    final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
+                    if (holder != null) {
+                        synchronized (DatabaseTimerPersistence.this) {
+                            Set<String> timers = knownTimerIds.get(timedObjectId);
+                            if (timers == null) {
+                                return;
+                            }
+                            timers.add(id);
+                            if (sync) {
+                                listener.timerSync(timerService.getTimer(id), holder.timer);
+                            } else {
+                                listener.timerAdded(holder.timer);
+                            }
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, id, e);
+            }
+        }
     }
 
 
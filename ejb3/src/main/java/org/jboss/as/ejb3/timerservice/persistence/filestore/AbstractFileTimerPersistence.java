@@ -0,0 +1,419 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static java.security.AccessController.doPrivileged;
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+import static org.jboss.as.ejb3.timerservice.TimerServiceImpl.safeClose;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilePermission;
+import java.io.IOException;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.SystemException;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.ejb3.component.stateful.CurrentSynchronizationCallback;
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
+import org.jboss.marshalling.MarshallerFactory;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.ModularClassResolver;
+import org.jboss.marshalling.river.RiverMarshallerFactory;
+import org.jboss.modules.ModuleLoader;
+import org.jboss.msc.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.jboss.staxmapper.XMLMapper;
+import org.wildfly.security.manager.WildFlySecurityManager;
+import org.wildfly.transaction.client.ContextTransactionManager;
+
+/**
+ * The base of the file based persistent timer stores, which keep the timers of each timed object in a directory of its own.
+ * <p/>
+ * Timers are written while holding the lock of their timed object. Timers persisted within a transaction are written
+ * when the transaction commits.
+ */
+abstract class AbstractFileTimerPersistence implements TimerPersistence, Service {
+
+    private static final FilePermission FILE_PERMISSION = new FilePermission("<<ALL FILES>>", "read,write,delete");
+    private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+
+    private final boolean createIfNotExists;
+    protected MarshallerFactory factory;
+    protected MarshallingConfiguration configuration;
+    private final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier;
+    private final Supplier<ModuleLoader> moduleLoaderSupplier;
+    private final Supplier<PathManager> pathManagerSupplier;
+    private final String path;
+    private final String pathRelativeTo;
+    private File baseDir;
+    private PathManager.Callback.Handle callbackHandle;
+
+    private final ConcurrentMap<String, Lock> locks = new ConcurrentHashMap<String, Lock>();
+    private final ConcurrentMap<String, File> directories = new ConcurrentHashMap<String, File>();
+
+    AbstractFileTimerPersistence(final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier,
+                                 final Supplier<ModuleLoader> moduleLoaderSupplier,
+                                 final Supplier<PathManager> pathManagerSupplier,
+                                 final boolean createIfNotExists, final String path, final String pathRelativeTo) {
+        this.txnRegistrySupplier = txnRegistrySupplier;
+        this.moduleLoaderSupplier = moduleLoaderSupplier;
+        this.pathManagerSupplier = pathManagerSupplier;
+        final SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(FILE_PERMISSION);
+        }
+        this.createIfNotExists = createIfNotExists;
+        this.path = path;
+        this.pathRelativeTo = pathRelativeTo;
+    }
+
+    @Override
+    public void start(final StartContext context) {
+        if (WildFlySecurityManager.isChecking()) {
+            WildFlySecurityManager.doUnchecked(new PrivilegedAction<Void>() {
+                public Void run() {
+                    doStart();
+                    return null;
+                }
+            });
+        } else {
+            doStart();
+        }
+    }
+
+    private void doStart() {
+        final RiverMarshallerFactory factory = new RiverMarshallerFactory();
+        final MarshallingConfiguration configuration = new MarshallingConfiguration();
+        configuration.setClassResolver(ModularClassResolver.getInstance(moduleLoaderSupplier.get()));
+        configuration.setVersion(3);
+
+        this.configuration = configuration;
+        this.factory = factory;
+        if (pathRelativeTo != null) {
+            callbackHandle = pathManagerSupplier.get().registerCallback(pathRelativeTo, PathManager.ReloadServerCallback.create(), PathManager.Event.UPDATED, PathManager.Event.REMOVED);
+        }
+        baseDir = new File(pathManagerSupplier.get().resolveRelativePathEntry(path, pathRelativeTo));
+        if (!baseDir.exists()) {
+            if (createIfNotExists) {
+                if (!baseDir.mkdirs()) {
+                    throw EJB3_TIMER_LOGGER.failToCreateTimerFileStoreDir(baseDir);
+                }
+            } else {
+                throw EJB3_TIMER_LOGGER.timerFileStoreDirNotExist(baseDir);
+            }
+        }
+        if (!baseDir.isDirectory()) {
+            throw EJB3_TIMER_LOGGER.invalidTimerFileStoreDir(baseDir);
+        }
+    }
+
+    @Override
+    public void stop(final StopContext context) {
+        locks.clear();
+        directories.clear();
+        if (callbackHandle != null) {
+            callbackHandle.remove();
+        }
+        factory = null;
+        configuration = null;
+    }
+
+    @Override
+    public void addTimer(final TimerImpl timer) {
+        if (WildFlySecurityManager.isChecking()) {
+            WildFlySecurityManager.doUnchecked(new PrivilegedAction<Object>() {
+                @Override
+                public Object run() {
+                    persistTimer(timer, true);
+                    return null;
+                }
+            });
+        } else {
+            persistTimer(timer, true);
+        }
+    }
+
+    @Override
+    public void persistTimer(final TimerImpl timer) {
+        if (WildFlySecurityManager.isChecking()) {
+            WildFlySecurityManager.doUnchecked(new PrivilegedAction<Object>() {
+                @Override
+                public Object run() {
+                    persistTimer(timer, false);
+                    return null;
+                }
+            });
+        } else {
+            persistTimer(timer, false);
+        }
+    }
+
+    @Override
+    public boolean shouldRun(TimerImpl timer) {
+        return true;
+    }
+
+    private void persistTimer(final TimerImpl timer, boolean newTimer) {
+        final Lock lock = getLock(timer.getTimedObjectId());
+        final int status;
+        try {
+            status = ContextTransactionManager.getInstance().getStatus();
+        } catch (SystemException e) {
+            throw new RuntimeException(e);
+        }
+        if (status == Status.STATUS_MARKED_ROLLBACK || status == Status.STATUS_ROLLEDBACK ||
+                status == Status.STATUS_ROLLING_BACK) {
+            //no need to persist anyway
+            return;
+        }
+        lock.lock();
+        try {
+            if (status == Status.STATUS_NO_TRANSACTION ||
+                    status == Status.STATUS_UNKNOWN || isBeforeCompletion()
+                    || status == Status.STATUS_COMMITTED) {
+                writeTimer(timer, newTimer);
+            } else {
+                final String key = timerTransactionKey(timer);
+                Object existing = txnRegistrySupplier.get().getResource(key);
+                //check is there is already a persist sync for this timer
+                if (existing == null) {
+                    txnRegistrySupplier.get().registerInterposedSynchronization(new PersistTransactionSynchronization(lock, key, newTimer));
+                }
+                //update the most recent version of the timer to be persisted
+                txnRegistrySupplier.get().putResource(key, timer);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the state of a timer, or deletes it if it is cancelled or expired. Called while holding the lock of its
+     * timed object.
+     *
+     * @param timer the timer
+     * @param newTimer whether the timer was just created, otherwise it is only written if it is still stored
+     */
+    protected abstract void writeTimer(TimerImpl timer, boolean newTimer);
+
+    private String timerTransactionKey(final TimerImpl timer) {
+        return "org.jboss.as.ejb3.timerTransactionKey." + timer.getId();
+    }
+
+    @Override
+    public void timerUndeployed(final String timedObjectId) {
+        final Lock lock = getLock(timedObjectId);
+        lock.lock();
+        try {
+            timedObjectUndeployed(timedObjectId);
+            locks.remove(timedObjectId);
+            directories.remove(timedObjectId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the resources held for a timed object, while holding its lock.
+     *
+     * @param timedObjectId the timed object id
+     */
+    protected void timedObjectUndeployed(final String timedObjectId) {
+    }
+
+    private boolean isBeforeCompletion() {
+        final CurrentSynchronizationCallback.CallbackType type = CurrentSynchronizationCallback.get();
+        if (type != null) {
+            return type == CurrentSynchronizationCallback.CallbackType.BEFORE_COMPLETION;
+        }
+        return false;
+    }
+
+    @Override
+    public Closeable registerChangeListener(String timedObjectId, TimerChangeListener listener) {
+        return new Closeable() {
+            @Override
+            public void close() throws IOException {
+            }
+        };
+    }
+
+    /**
+     * Returns either the loaded entity or the most recent version of the entity that has
+     * been persisted in this transaction.
+     */
+    protected TimerImpl mostRecentEntityVersion(final TimerImpl timerImpl) {
+        try {
+            final int status = ContextTransactionManager.getInstance().getStatus();
+            if (status == Status.STATUS_UNKNOWN ||
+                    status == Status.STATUS_NO_TRANSACTION) {
+                return timerImpl;
+            }
+            final String key = timerTransactionKey(timerImpl);
+            TimerImpl existing = (TimerImpl) txnRegistrySupplier.get().getResource(key);
+            return existing != null ? existing : timerImpl;
+        } catch (SystemException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    protected Lock getLock(final String timedObjectId) {
+        return locks.computeIfAbsent(timedObjectId, id -> new ReentrantLock());
+    }
+
+    /**
+     * Gets the directory for a given timed object, making sure it exists.
+     *
+     * @param timedObjectId The timed object
+     * @return The directory
+     */
+    protected File getDirectory(final String timedObjectId) {
+        return directories.computeIfAbsent(timedObjectId, id -> {
+            final File file = new File(baseDir, id.replace(File.separator, "-"));
+            if (!file.exists() && !file.mkdirs()) {
+                EJB3_TIMER_LOGGER.failToCreateDirectoryForPersistTimers(file);
+            }
+            return file;
+        });
+    }
+
+    /**
+     * Loads the timers stored in the legacy format, i.e. as one serialized file per timer, in the directory of a timed object.
+     *
+     * @return The timers, keyed by timer id
+     */
+    protected Map<String, TimerImpl> loadLegacyTimers(final String timedObjectId, final File directory, final TimerServiceImpl timerService) {
+        return LegacyFileStore.loadTimersFromFile(timedObjectId, timerService, directory.getAbsolutePath(), factory, configuration);
+    }
+
+    /**
+     * Loads the timers stored in the XML files of a timed object directory.
+     *
+     * @param file The directory of the timed object
+     * @return The timers, keyed by timer id
+     */
+    protected Map<String, TimerImpl> loadTimerFiles(final File file, final TimerServiceImpl timerService) {
+        final Map<String, TimerImpl> timers = new HashMap<>();
+        if (!file.exists()) {
+            //no timers exist yet
+            return timers;
+        } else if (!file.isDirectory()) {
+            EJB3_TIMER_LOGGER.failToRestoreTimers(file);
+            return timers;
+        }
+
+        final XMLMapper mapper = createMapper(timerService);
+
+        for (File timerFile : file.listFiles()) {
+            if (!timerFile.getName().endsWith(".xml")) {
+                continue;
+            }
+            FileInputStream in = null;
+
+            try {
+                in = new FileInputStream(timerFile);
+                final XMLInputFactory inputFactory = INPUT_FACTORY;
+                setIfSupported(inputFactory, XMLInputFactory.IS_VALIDATING, Boolean.FALSE);
+                setIfSupported(inputFactory, XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+                final XMLStreamReader streamReader = inputFactory.createXMLStreamReader(in);
+                try {
+                    List<TimerImpl> timerList = new ArrayList<>();
+                    mapper.parseDocument(timerList, streamReader);
+                    for (TimerImpl timer : timerList) {
+                        if (timer.getId().equals("deleted-timer")) {
+                            timerFile.delete();
+                            break;
+                        }
+                        timers.put(timer.getId(), timer);
+                    }
+                } finally {
+                    safeClose(in);
+                }
+
+            } catch (Exception e) {
+                EJB3_TIMER_LOGGER.failToRestoreTimersFromFile(timerFile, e);
+            } finally {
+                if (in != null) {
+                    try {
+                        in.close();
+                    } catch (IOException e) {
+                        EJB3_TIMER_LOGGER.failToCloseFile(e);
+                    }
+                }
+            }
+        }
+        return timers;
+    }
+
+    protected XMLMapper createMapper(final TimerServiceImpl timerService) {
+        final XMLMapper mapper = XMLMapper.Factory.create();
+        mapper.registerRootElement(new QName(EjbTimerXmlParser_1_0.NAMESPACE, EjbTimerXmlPersister.TIMERS), new EjbTimerXmlParser_1_0(timerService, factory, configuration, timerService.getInvoker().getClassLoader()));
+        return mapper;
+    }
+
+    private static void setIfSupported(final XMLInputFactory inputFactory, final String property, final Object value) {
+        if (inputFactory.isPropertySupported(property)) {
+            inputFactory.setProperty(property, value);
+        }
+    }
+
+    private final class PersistTransactionSynchronization implements Synchronization {
+
+        private final String transactionKey;
+        private final Lock lock;
+        private final boolean newTimer;
+        private volatile TimerImpl timer;
+
+        PersistTransactionSynchronization(final Lock lock, final String transactionKey, final boolean newTimer) {
+            this.lock = lock;
+            this.transactionKey = transactionKey;
+            this.newTimer = newTimer;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            //get the latest version of the entity
+            timer = (TimerImpl) txnRegistrySupplier.get().getResource(transactionKey);
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            doPrivileged(new PrivilegedAction<Void>() {
+                public Void run() {
+                    if (timer == null || status != Status.STATUS_COMMITTED) {
+                        return null;
+                    }
+                    lock.lock();
+                    try {
+                        writeTimer(timer, newTimer);
+                    } finally {
+                        lock.unlock();
+                    }
+                    return null;
+                }
+            });
+        }
+    }
+}
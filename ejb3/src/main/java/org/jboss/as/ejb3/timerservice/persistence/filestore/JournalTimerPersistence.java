@@ -0,0 +1,336 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import jakarta.ejb.ScheduleExpression;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.ejb3.timerservice.CalendarTimer;
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
+import org.jboss.as.ejb3.timerservice.persistence.TimerInfoMarshalling;
+import org.jboss.modules.ModuleLoader;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * File based persistent timer store, that keeps the timers of each timed object in an append-only {@link TimerJournal}
+ * instead of one XML file per timer.
+ * <p/>
+ * A timer update is a single record appended to the journal, and the timers are read from disk only once, when
+ * the journal of the timed object is replayed. Timers stored by {@link FileTimerPersistence} in the same directory
+ * are moved to the journal the first time the journal of a timed object is created.
+ * <p/>
+ * Like {@link FileTimerPersistence}, timers persisted within a transaction are written when the transaction commits.
+ */
+public class JournalTimerPersistence extends AbstractFileTimerPersistence {
+
+    private static final byte TIMER = 0;
+    private static final byte CALENDAR_TIMER = 1;
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final int NO_INFO = -1;
+
+    private final Consumer<JournalTimerPersistence> consumer;
+
+    private final ConcurrentMap<String, TimerJournal> journals = new ConcurrentHashMap<>();
+    /** The marshallers reused for every timer info */
+    private volatile TimerInfoMarshalling marshalling;
+
+    public JournalTimerPersistence(final Consumer<JournalTimerPersistence> consumer,
+                                   final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier,
+                                   final Supplier<ModuleLoader> moduleLoaderSupplier,
+                                   final Supplier<PathManager> pathManagerSupplier,
+                                   final boolean createIfNotExists, final String path, final String pathRelativeTo) {
+        super(txnRegistrySupplier, moduleLoaderSupplier, pathManagerSupplier, createIfNotExists, path, pathRelativeTo);
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void start(final StartContext context) {
+        consumer.accept(this);
+        super.start(context);
+        marshalling = new TimerInfoMarshalling(factory, configuration);
+    }
+
+    @Override
+    public void stop(final StopContext context) {
+        consumer.accept(null);
+        for (String timedObjectId : journals.keySet()) {
+            // a transaction completing concurrently may still be appending to the journal
+            final Lock lock = getLock(timedObjectId);
+            lock.lock();
+            try {
+                timedObjectUndeployed(timedObjectId);
+            } finally {
+                lock.unlock();
+            }
+        }
+        marshalling.clear();
+        super.stop(context);
+    }
+
+    @Override
+    protected void timedObjectUndeployed(final String timedObjectId) {
+        final TimerJournal journal = journals.remove(timedObjectId);
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Override
+    public List<TimerImpl> loadActiveTimers(final String timedObjectId, final TimerServiceImpl timerService) {
+        final Lock lock = getLock(timedObjectId);
+        lock.lock();
+        try {
+            final TimerJournal journal = getJournal(timedObjectId, timerService);
+            final List<TimerImpl> entities = new ArrayList<>();
+            final List<String> deleted = new ArrayList<>();
+            for (Map.Entry<String, byte[]> entry : journal.getRecords().entrySet()) {
+                try {
+                    final TimerImpl timer = readTimer(timedObjectId, entry.getKey(), entry.getValue(), timerService);
+                    if (timer != null) {
+                        entities.add(mostRecentEntityVersion(timer));
+                    } else {
+                        EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, entry.getKey(), null);
+                        deleted.add(entry.getKey());
+                    }
+                } catch (Exception e) {
+                    EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, entry.getKey(), e);
+                }
+            }
+            for (String timerId : deleted) {
+                journal.remove(timerId);
+            }
+            return entities;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the journal of a timed object, replaying it if necessary. Should be called under lock
+     *
+     * @param timedObjectId The timed object id
+     * @return The journal of the timed object
+     */
+    private TimerJournal getJournal(final String timedObjectId, final TimerServiceImpl timerService) throws IOException {
+        TimerJournal journal = journals.get(timedObjectId);
+        if (journal == null) {
+            final File directory = getDirectory(timedObjectId);
+            final boolean migrate = !TimerJournal.exists(directory);
+            journal = new TimerJournal(directory);
+            journals.put(timedObjectId, journal);
+            if (migrate) {
+                importTimerFiles(timedObjectId, directory, journal, timerService);
+            }
+        }
+        return journal;
+    }
+
+    /**
+     * Moves the timers stored by {@link FileTimerPersistence} into a new journal.
+     */
+    private void importTimerFiles(final String timedObjectId, final File directory, final TimerJournal journal, final TimerServiceImpl timerService) {
+        final Map<String, TimerImpl> timers = new HashMap<>();
+        timers.putAll(loadLegacyTimers(timedObjectId, directory, timerService));
+        timers.putAll(loadTimerFiles(directory, timerService));
+        for (TimerImpl timer : timers.values()) {
+            writeTimer(timer, true);
+        }
+        if (!timers.isEmpty()) {
+            //the XML files are obsolete once the journal is on disk
+            journal.force();
+            final File[] files = directory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    if (file.getName().endsWith(".xml")) {
+                        file.delete();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends the state of the timer to the journal of its timed object. Should be called under lock
+     */
+    @Override
+    protected void writeTimer(final TimerImpl timer, final boolean newTimer) {
+        try {
+            final TimerJournal journal = getJournal(timer.getTimedObjectId(), timer.getTimerService());
+            if (timer.getState() == TimerState.CANCELED ||
+                    timer.getState() == TimerState.EXPIRED) {
+                journal.remove(timer.getId());
+            } else if (newTimer || journal.contains(timer.getId())) {
+                //if it is not a new timer and is not in the journal then it has
+                //been removed by another thread.
+                final byte[] record;
+                try {
+                    record = toRecord(timer);
+                } catch (Exception e) {
+                    EJB3_TIMER_LOGGER.failedToPersistTimer(timer, e);
+                    return;
+                }
+                journal.put(timer.getId(), record);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private byte[] toRecord(final TimerImpl timer) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        if (timer instanceof CalendarTimer) {
+            final CalendarTimer calendarTimer = (CalendarTimer) timer;
+            final ScheduleExpression schedule = calendarTimer.getScheduleExpression();
+            out.writeByte(CALENDAR_TIMER);
+            writeCommon(out, timer);
+            writeString(out, schedule.getSecond());
+            writeString(out, schedule.getMinute());
+            writeString(out, schedule.getHour());
+            writeString(out, schedule.getDayOfWeek());
+            writeString(out, schedule.getDayOfMonth());
+            writeString(out, schedule.getMonth());
+            writeString(out, schedule.getYear());
+            writeDate(out, schedule.getStart());
+            writeDate(out, schedule.getEnd());
+            writeString(out, schedule.getTimezone());
+            out.writeBoolean(calendarTimer.isAutoTimer());
+            if (calendarTimer.isAutoTimer()) {
+                final Method timeoutMethod = calendarTimer.getTimeoutMethod();
+                out.writeUTF(timeoutMethod.getDeclaringClass().getName());
+                out.writeUTF(timeoutMethod.getName());
+                out.writeBoolean(timeoutMethod.getParameterCount() > 0);
+            }
+        } else {
+            out.writeByte(TIMER);
+            writeCommon(out, timer);
+            out.writeLong(timer.getInterval());
+        }
+        final Serializable info = timer.getTimerInfo();
+        if (info == null) {
+            out.writeInt(NO_INFO);
+        } else {
+            final byte[] infoBytes = marshalling.serialize(info);
+            out.writeInt(infoBytes.length);
+            out.write(infoBytes);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a timer from its journal record.
+     *
+     * @return The timer, or {@code null} if the timeout method of the auto timer does not exist anymore
+     */
+    private TimerImpl readTimer(final String timedObjectId, final String timerId, final byte[] record, final TimerServiceImpl timerService) throws Exception {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        final byte type = in.readByte();
+        final TimerImpl.Builder builder;
+        CalendarTimer.Builder calendarBuilder = null;
+        if (type == CALENDAR_TIMER) {
+            calendarBuilder = CalendarTimer.builder();
+            builder = calendarBuilder;
+        } else {
+            builder = TimerImpl.builder();
+        }
+        builder.setId(timerId);
+        builder.setTimedObjectId(timedObjectId);
+        builder.setPersistent(true);
+        builder.setInitialDate(readDate(in));
+        builder.setNextDate(readDate(in));
+        builder.setPreviousRun(readDate(in));
+        builder.setTimerState(TimerState.valueOf(in.readUTF()));
+        if (calendarBuilder != null) {
+            final ScheduleExpression schedule = new ScheduleExpression();
+            schedule.second(readString(in))
+                    .minute(readString(in))
+                    .hour(readString(in))
+                    .dayOfWeek(readString(in))
+                    .dayOfMonth(readString(in))
+                    .month(readString(in))
+                    .year(readString(in))
+                    .start(readDate(in))
+                    .end(readDate(in))
+                    .timezone(readString(in));
+            calendarBuilder.setScheduleExpression(schedule);
+            final boolean autoTimer = in.readBoolean();
+            calendarBuilder.setAutoTimer(autoTimer);
+            if (autoTimer) {
+                final String declaringClass = in.readUTF();
+                final String methodName = in.readUTF();
+                final String[] params = in.readBoolean() ? TimeoutMethod.TIMER_PARAM_1_ARRAY : null;
+                final Method timeoutMethod = CalendarTimer.getTimeoutMethod(new TimeoutMethod(declaringClass, methodName, params), timerService.getInvoker().getClassLoader());
+                if (timeoutMethod == null) {
+                    return null;
+                }
+                calendarBuilder.setTimeoutMethod(timeoutMethod);
+            }
+        } else {
+            builder.setRepeatInterval(in.readLong());
+        }
+        final int infoLength = in.readInt();
+        if (infoLength != NO_INFO) {
+            final byte[] info = new byte[infoLength];
+            in.readFully(info);
+            builder.setInfo((Serializable) marshalling.deserialize(info));
+        }
+        return builder.build(timerService);
+    }
+
+    private static void writeCommon(final DataOutputStream out, final TimerImpl timer) throws IOException {
+        writeDate(out, timer.getInitialExpiration());
+        writeDate(out, timer.getNextExpiration());
+        writeDate(out, timer.getPreviousRun());
+        out.writeUTF(timer.getState().name());
+    }
+
+    private static void writeDate(final DataOutputStream out, final Date date) throws IOException {
+        out.writeLong(date != null ? date.getTime() : NO_DATE);
+    }
+
+    private static Date readDate(final DataInputStream in) throws IOException {
+        final long time = in.readLong();
+        return time != NO_DATE ? new Date(time) : null;
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
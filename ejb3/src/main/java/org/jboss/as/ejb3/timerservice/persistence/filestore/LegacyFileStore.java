@@ -62,7 +62,7 @@ public class LegacyFileStore {
             }
             unmarshaller = factory.createUnmarshaller(configuration);
             for (File timerFile : file.listFiles()) {
-                if(timerFile.getName().endsWith(".xml")) {
+                if(timerFile.getName().endsWith(".xml") || timerFile.getName().endsWith(TimerJournal.FILE_SUFFIX)) {
                     continue;
                 }
                 FileInputStream in = null;
@@ -0,0 +1,368 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of the persistent timers of one timed object.
+ * <p/>
+ * The journal is a memory mapped file that holds a sequence of records, each of which either puts the
+ * latest state of a timer or removes it. Records are framed by their length and a CRC32 checksum, so a record
+ * torn by a crash is detected and discarded when the journal is replayed. The latest record of every live timer
+ * is kept in memory, and once most of the records in the journal are obsolete, the live records are written
+ * to a new journal generation which replaces the current one.
+ * <p/>
+ * Like the XML file store, the journal does not sync every update to disk. The mapped pages survive a crash
+ * of the JVM, and the journal is forced to disk when it is compacted or closed.
+ * <p/>
+ * This class is not thread safe, callers must hold the lock of the timed object.
+ */
+final class TimerJournal {
+
+    static final String FILE_PREFIX = "timers.";
+    static final String FILE_SUFFIX = ".journal";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final int MAGIC = 0x454a544a;
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int INITIAL_SIZE = 64 * 1024;
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    /**
+     * The journal is compacted once it holds more than this number of records, and less than half of them are live.
+     */
+    private static final int COMPACTION_THRESHOLD = 1024;
+
+    private final File directory;
+    private final Map<String, byte[]> records = new LinkedHashMap<>();
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    private final CRC32 crc = new CRC32();
+    private long generation;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int recordCount;
+
+    /**
+     * Opens the journal in the given directory and replays it.
+     *
+     * @param directory the directory of the timed object
+     * @throws IOException if the journal cannot be opened or is not a timer journal
+     */
+    TimerJournal(final File directory) throws IOException {
+        this.directory = directory;
+        final File[] files = directory.listFiles();
+        File current = null;
+        if (files != null) {
+            for (File file : files) {
+                final String name = file.getName();
+                if (name.startsWith(FILE_PREFIX) && name.endsWith(TEMP_SUFFIX)) {
+                    //an unfinished compaction
+                    Files.deleteIfExists(file.toPath());
+                } else if (name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX)) {
+                    final long fileGeneration = generation(name);
+                    if (fileGeneration >= 0 && (fileGeneration > generation || current == null)) {
+                        generation = fileGeneration;
+                        current = file;
+                    }
+                }
+            }
+        }
+        if (current == null) {
+            open(journalFile(generation), true);
+        } else {
+            open(current, false);
+            replay(current);
+        }
+        deleteOlderGenerations();
+        compactIfRequired();
+    }
+
+    /**
+     * Returns whether the given directory contains a timer journal.
+     */
+    static boolean exists(final File directory) {
+        final String[] names = directory.list();
+        if (names != null) {
+            for (String name : names) {
+                if (name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the latest record of every live timer, keyed by timer id.
+     */
+    Map<String, byte[]> getRecords() {
+        return Collections.unmodifiableMap(records);
+    }
+
+    boolean contains(final String timerId) {
+        return records.containsKey(timerId);
+    }
+
+    /**
+     * Appends the latest state of a timer.
+     *
+     * @param timerId the timer id
+     * @param record the encoded timer
+     */
+    void put(final String timerId, final byte[] record) throws IOException {
+        append(PUT, timerId, record);
+        records.put(timerId, record);
+        compactIfRequired();
+    }
+
+    /**
+     * Appends the removal of a timer, if it is live.
+     *
+     * @param timerId the timer id
+     */
+    void remove(final String timerId) throws IOException {
+        if (records.containsKey(timerId)) {
+            append(REMOVE, timerId, null);
+            records.remove(timerId);
+            compactIfRequired();
+        }
+    }
+
+    /**
+     * Forces the journal to disk.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * Forces the journal to disk and closes it.
+     */
+    void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            EJB3_TIMER_LOGGER.failToCloseFile(e);
+        }
+        buffer = null;
+        records.clear();
+    }
+
+    private byte[] toBytes(final byte operation, final String timerId, final byte[] record) throws IOException {
+        recordBytes.reset();
+        final DataOutputStream out = new DataOutputStream(recordBytes);
+        out.writeByte(operation);
+        out.writeUTF(timerId);
+        if (record != null) {
+            out.write(record);
+        }
+        out.flush();
+        return recordBytes.toByteArray();
+    }
+
+    private void append(final byte operation, final String timerId, final byte[] record) throws IOException {
+        final byte[] bytes = toBytes(operation, timerId, record);
+        final int length = bytes.length;
+        // keep room for the length of the next record, which terminates the journal
+        ensureCapacity(RECORD_HEADER_SIZE + length + Integer.BYTES);
+        crc.reset();
+        crc.update(bytes);
+        final int position = buffer.position();
+        buffer.position(position + RECORD_HEADER_SIZE);
+        buffer.put(bytes);
+        buffer.putInt(buffer.position(), 0);
+        buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+        // the length is written last, so a partially written record is never considered complete
+        buffer.putInt(position, length);
+        recordCount++;
+    }
+
+    private void ensureCapacity(final int required) throws IOException {
+        if (buffer.remaining() >= required) {
+            return;
+        }
+        final int position = buffer.position();
+        long size = buffer.capacity();
+        while (size - position < required) {
+            size *= 2;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw EJB3_TIMER_LOGGER.timerJournalTooLarge(journalFile(generation), Integer.MAX_VALUE);
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.position(position);
+    }
+
+    private void open(final File file, final boolean create) throws IOException {
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = INITIAL_SIZE;
+        while (size < channel.size()) {
+            size *= 2;
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        if (create) {
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+        } else if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            channel.close();
+            throw EJB3_TIMER_LOGGER.invalidTimerJournal(file);
+        }
+    }
+
+    private void replay(final File file) throws IOException {
+        recordCount = 0;
+        while (true) {
+            final int position = buffer.position();
+            if (buffer.remaining() < RECORD_HEADER_SIZE) {
+                return;
+            }
+            final int length = buffer.getInt();
+            if (length == 0) {
+                buffer.position(position);
+                return;
+            }
+            final byte[] bytes;
+            if (length > 0 && length <= buffer.remaining() - Integer.BYTES) {
+                final int checksum = buffer.getInt();
+                bytes = new byte[length];
+                buffer.get(bytes);
+                crc.reset();
+                crc.update(bytes);
+                if ((int) crc.getValue() == checksum && apply(bytes)) {
+                    recordCount++;
+                    continue;
+                }
+            }
+            //a record torn by a crash, discard it and anything after it
+            EJB3_TIMER_LOGGER.timerJournalTruncated(file, position);
+            buffer.position(position);
+            while (buffer.hasRemaining()) {
+                buffer.put((byte) 0);
+            }
+            buffer.position(position);
+            return;
+        }
+    }
+
+    private boolean apply(final byte[] bytes) {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        try {
+            final byte operation = in.readByte();
+            final String timerId = in.readUTF();
+            switch (operation) {
+                case PUT: {
+                    final byte[] record = new byte[in.available()];
+                    in.readFully(record);
+                    records.put(timerId, record);
+                    return true;
+                }
+                case REMOVE: {
+                    records.remove(timerId);
+                    return true;
+                }
+                default:
+                    return false;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void compactIfRequired() throws IOException {
+        if (recordCount > COMPACTION_THRESHOLD && recordCount > 2 * records.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Writes the live records to the next journal generation, and replaces the current journal with it.
+     */
+    private void compact() throws IOException {
+        final long nextGeneration = generation + 1;
+        final File next = journalFile(nextGeneration);
+        final File temp = new File(next.getPath() + TEMP_SUFFIX);
+        try (FileChannel tempChannel = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).flip();
+            tempChannel.write(header);
+            for (Map.Entry<String, byte[]> entry : records.entrySet()) {
+                final byte[] bytes = toBytes(PUT, entry.getKey(), entry.getValue());
+                crc.reset();
+                crc.update(bytes);
+                final ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + bytes.length);
+                record.putInt(bytes.length).putInt((int) crc.getValue()).put(bytes).flip();
+                while (record.hasRemaining()) {
+                    tempChannel.write(record);
+                }
+            }
+            tempChannel.force(true);
+        }
+        Files.move(temp.toPath(), next.toPath(), StandardCopyOption.ATOMIC_MOVE);
+
+        buffer.force();
+        channel.close();
+        generation = nextGeneration;
+        open(next, false);
+        buffer.position(FILE_HEADER_SIZE);
+        // skip the records just written
+        for (int i = 0; i < records.size(); i++) {
+            buffer.position(buffer.position() + RECORD_HEADER_SIZE + buffer.getInt(buffer.position()));
+        }
+        recordCount = records.size();
+        deleteOlderGenerations();
+    }
+
+    /**
+     * Deletes the journal files of previous generations. A mapped file cannot be deleted on some platforms,
+     * in which case it is deleted the next time the journal is opened.
+     */
+    private void deleteOlderGenerations() {
+        final File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            final String name = file.getName();
+            if (name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX) && generation(name) < generation) {
+                file.delete();
+            }
+        }
+    }
+
+    private File journalFile(final long generation) {
+        return new File(directory, FILE_PREFIX + generation + FILE_SUFFIX);
+    }
+
+    private static long generation(final String fileName) {
+        try {
+            return Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import jakarta.ejb.IllegalLoopbackException;
+
+import org.jboss.as.ejb3.component.singleton.StripedEJBReadWriteLock;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link StripedEJBReadWriteLock}
+ */
+public class StripedEJBReadWriteLockTestCase {
+
+    private final StripedEJBReadWriteLock lock = new StripedEJBReadWriteLock();
+
+    @Test
+    public void testIllegalLoopBack() throws Exception {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        try {
+            // a reentrant read must not fail
+            readLock.lock();
+            readLock.unlock();
+            this.lock.writeLock().tryLock(1, TimeUnit.SECONDS);
+            Assert.fail("Unexpected acquired write lock");
+        } catch (IllegalLoopbackException expected) {
+            // expected
+        } finally {
+            readLock.unlock();
+        }
+        // once the read lock is released, the write lock can be acquired
+        Assert.assertTrue(this.lock.writeLock().tryLock(1, TimeUnit.SECONDS));
+        this.lock.writeLock().unlock();
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            this.lock.writeLock().lock();
+            try {
+                locked.countDown();
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        });
+        writer.start();
+        try {
+            Assert.assertTrue(locked.await(5, TimeUnit.SECONDS));
+            Assert.assertFalse("Unexpected obtained a read lock", this.lock.readLock().tryLock(200, TimeUnit.MILLISECONDS));
+            Assert.assertFalse("Unexpected obtained a write lock", this.lock.writeLock().tryLock(200, TimeUnit.MILLISECONDS));
+        } finally {
+            release.countDown();
+            writer.join();
+        }
+        Assert.assertTrue(this.lock.readLock().tryLock(1, TimeUnit.SECONDS));
+        this.lock.readLock().unlock();
+    }
+
+    @Test
+    public void testWriterWaitsForReaders() throws Exception {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        try {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Assert.assertFalse(executor.submit(() -> this.lock.writeLock().tryLock(200, TimeUnit.MILLISECONDS)).get());
+                // the failed writer must not block the readers
+                Assert.assertTrue(executor.submit(() -> {
+                    boolean acquired = this.lock.readLock().tryLock(1, TimeUnit.SECONDS);
+                    if (acquired) {
+                        this.lock.readLock().unlock();
+                    }
+                    return acquired;
+                }).get());
+            } finally {
+                executor.shutdownNow();
+            }
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Test
+    public void testSameThreadCanGetWriteThenReadLock() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        Lock readLock = this.lock.readLock();
+        writeLock.lock();
+        try {
+            Assert.assertTrue(readLock.tryLock(2, TimeUnit.SECONDS));
+        } finally {
+            writeLock.unlock();
+        }
+        // the read lock is still held after the write lock is released
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assert.assertFalse(executor.submit(() -> writeLock.tryLock(200, TimeUnit.MILLISECONDS)).get());
+        } finally {
+            readLock.unlock();
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(writeLock.tryLock(1, TimeUnit.SECONDS));
+        writeLock.unlock();
+    }
+
+    @Test
+    public void testExclusion() throws Exception {
+        int threads = 8;
+        int iterations = 10000;
+        AtomicInteger readers = new AtomicInteger();
+        AtomicInteger writers = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                boolean writer = (t == 0);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < iterations; i++) {
+                        if (writer && (i % 10 == 0)) {
+                            Assert.assertTrue(this.lock.writeLock().tryLock(10, TimeUnit.SECONDS));
+                            try {
+                                Assert.assertEquals(1, writers.incrementAndGet());
+                                Assert.assertEquals(0, readers.get());
+                                writers.decrementAndGet();
+                            } finally {
+                                this.lock.writeLock().unlock();
+                            }
+                        } else {
+                            Assert.assertTrue(this.lock.readLock().tryLock(10, TimeUnit.SECONDS));
+                            try {
+                                readers.incrementAndGet();
+                                Assert.assertEquals(0, writers.get());
+                                readers.decrementAndGet();
+                            } finally {
+                                this.lock.readLock().unlock();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.Pool;
+import org.jboss.as.ejb3.pool.common.MockBean;
+import org.jboss.as.ejb3.pool.common.MockFactory;
+import org.junit.Test;
+
+/**
+ * Tests for {@link HandoffStrictMaxPool}.
+ */
+public class HandoffStrictMaxUnitTestCase {
+
+    @Test
+    public void testTooMany() {
+        MockBean.reset();
+        Pool<MockBean> pool = new HandoffStrictMaxPool<>(new MockFactory(), 10, 1, 1, TimeUnit.SECONDS);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        assertEquals(0, pool.getAvailableCount());
+
+        try {
+            pool.get();
+            fail("should have thrown an exception");
+        } catch (Exception e) {
+            assertEquals(EjbLogger.ROOT_LOGGER.failedToAcquirePermit(1, TimeUnit.SECONDS).getMessage(), e.getMessage());
+        }
+        assertEquals(0, pool.getRejectedCount());
+
+        for (MockBean bean : beans) {
+            pool.release(bean);
+        }
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    /**
+     * Callers beyond the maximum number of waiters are rejected without waiting.
+     */
+    @Test
+    public void testRejection() throws Exception {
+        MockBean.reset();
+        final Pool<MockBean> pool = new HandoffStrictMaxPool<>(new MockFactory(), 1, 1, 60, TimeUnit.SECONDS);
+        pool.start();
+
+        MockBean bean = pool.get();
+
+        ExecutorService[] service = new ExecutorService[1];
+        try {
+            Future<MockBean> waiter = submitWaiting(service, pool::get);
+
+            long start = System.nanoTime();
+            try {
+                pool.get();
+                fail("should have thrown an exception");
+            } catch (Exception e) {
+                assertEquals(EjbLogger.ROOT_LOGGER.tooManyPoolWaiters(1).getMessage(), e.getMessage());
+            }
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(60));
+            assertEquals(1, pool.getRejectedCount());
+
+            // the released instance is handed over to the waiting caller
+            pool.release(bean);
+            assertSame(bean, waiter.get(60, TimeUnit.SECONDS));
+            pool.release(bean);
+        } finally {
+            service[0].shutdown();
+        }
+
+        pool.stop();
+
+        assertEquals(1, MockBean.getPostConstructs());
+        assertEquals(1, MockBean.getPreDestroys());
+        assertTrue(pool.getWaitTimePercentile(1.0) > 0L);
+    }
+
+    /**
+     * Released instances are handed over to the waiting callers in arrival order.
+     */
+    @Test
+    public void testFifoHandoff() throws Exception {
+        MockBean.reset();
+        final Pool<MockBean> pool = new HandoffStrictMaxPool<>(new MockFactory(), 1, 10, 60, TimeUnit.SECONDS);
+        pool.start();
+
+        MockBean bean = pool.get();
+
+        final List<Integer> order = new ArrayList<>();
+        List<ExecutorService> services = new ArrayList<>();
+        List<Future<Void>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 5; i++) {
+                final int index = i;
+                ExecutorService[] service = new ExecutorService[1];
+                Future<Void> result = submitWaiting(service, new Callable<Void>() {
+                    public Void call() throws Exception {
+                        MockBean bean = pool.get();
+                        synchronized (order) {
+                            order.add(index);
+                        }
+                        pool.release(bean);
+                        return null;
+                    }
+                });
+                services.add(service[0]);
+                results.add(result);
+            }
+
+            pool.release(bean);
+
+            for (Future<Void> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            for (ExecutorService service : services) {
+                service.shutdown();
+            }
+        }
+
+        pool.stop();
+
+        assertEquals(List.of(0, 1, 2, 3, 4), order);
+        assertEquals(1, MockBean.getPostConstructs());
+        assertEquals(1, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testDiscard() throws Exception {
+        MockBean.reset();
+        final Pool<MockBean> pool = new HandoffStrictMaxPool<>(new MockFactory(), 1, 1, 60, TimeUnit.SECONDS);
+        pool.start();
+
+        MockBean bean = pool.get();
+
+        ExecutorService[] service = new ExecutorService[1];
+        try {
+            Future<MockBean> waiter = submitWaiting(service, pool::get);
+
+            // the waiting caller gets the permit of the discarded instance and creates a new one
+            pool.discard(bean);
+            pool.release(waiter.get(60, TimeUnit.SECONDS));
+        } finally {
+            service[0].shutdown();
+        }
+
+        pool.stop();
+
+        assertEquals(2, MockBean.getPostConstructs());
+        assertEquals(2, MockBean.getPreDestroys());
+    }
+
+    /**
+     * More threads than the pool size, with every thread waiting for a released instance.
+     */
+    @Test
+    public void testMultiThread() throws Exception {
+        MockBean.reset();
+        final Pool<MockBean> pool = new HandoffStrictMaxPool<>(new MockFactory(), 10, 20, 60, TimeUnit.SECONDS);
+        pool.start();
+
+        final AtomicInteger used = new AtomicInteger(0);
+        final AtomicInteger active = new AtomicInteger(0);
+        final AtomicInteger maxActive = new AtomicInteger(0);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        Callable<Void> task = new Callable<Void>() {
+            public Void call() throws Exception {
+                start.await();
+                for (int i = 0; i < 100; i++) {
+                    MockBean bean = pool.get();
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    Thread.yield();
+                    active.decrementAndGet();
+                    pool.release(bean);
+                    used.incrementAndGet();
+                }
+                return null;
+            }
+        };
+
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Future<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(service.submit(task));
+        }
+        start.countDown();
+
+        for (Future<Void> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+
+        service.shutdown();
+
+        pool.stop();
+
+        assertEquals(2000, used.intValue());
+        assertTrue(maxActive.get() <= 10);
+        assertEquals(0, pool.getRejectedCount());
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    /**
+     * Submits a task to a new thread and waits until that thread is parked in the pool.
+     */
+    private static <T> Future<T> submitWaiting(ExecutorService[] service, Callable<T> task) throws Exception {
+        final Thread[] thread = new Thread[1];
+        service[0] = Executors.newSingleThreadExecutor(runnable -> thread[0] = new Thread(runnable));
+        Future<T> result = service[0].submit(task);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (!result.isDone() && System.nanoTime() < deadline) {
+            if (thread[0] != null && thread[0].getState() == Thread.State.TIMED_WAITING) {
+                for (StackTraceElement element : thread[0].getStackTrace()) {
+                    if (element.getClassName().equals(HandoffStrictMaxPool.class.getName())) {
+                        return result;
+                    }
+                }
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("caller is not waiting for an instance");
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.Pool;
+import org.jboss.as.ejb3.pool.common.MockBean;
+import org.jboss.as.ejb3.pool.common.MockFactory;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ShardedStrictMaxPool}.
+ */
+public class ShardedStrictMaxUnitTestCase {
+
+    @Test
+    public void testGetRelease() {
+        MockBean.reset();
+        Pool<MockBean> pool = new ShardedStrictMaxPool<>(new MockFactory(), 10, 1, TimeUnit.SECONDS, 0, 0L, null, 4);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        assertEquals(0, pool.getAvailableCount());
+        assertEquals(10, pool.getCurrentSize());
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+        assertEquals(10, pool.getAvailableCount());
+
+        // instances released by this thread are reused, including those stolen from other shards
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        for (MockBean bean : beans) {
+            pool.release(bean);
+        }
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testTooMany() {
+        MockBean.reset();
+        Pool<MockBean> pool = new ShardedStrictMaxPool<>(new MockFactory(), 10, 1, TimeUnit.SECONDS, 0, 0L, null, 4);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+
+        try {
+            pool.get();
+            fail("should have thrown an exception");
+        } catch (Exception e) {
+            assertEquals(EjbLogger.ROOT_LOGGER.failedToAcquirePermit(1, TimeUnit.SECONDS).getMessage(), e.getMessage());
+        }
+
+        for (MockBean bean : beans) {
+            pool.release(bean);
+        }
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testDiscard() {
+        MockBean.reset();
+        Pool<MockBean> pool = new ShardedStrictMaxPool<>(new MockFactory(), 1, 1, TimeUnit.SECONDS, 0, 0L, null, 4);
+        pool.start();
+
+        pool.discard(pool.get());
+        // the permit of the discarded instance must have been returned
+        MockBean bean = pool.get();
+        pool.release(bean);
+
+        pool.stop();
+
+        assertEquals(2, MockBean.getPostConstructs());
+        assertEquals(2, MockBean.getPreDestroys());
+    }
+
+    /**
+     * More threads than the pool size, with every thread waiting for a released instance.
+     */
+    @Test
+    public void testMultiThread() throws Exception {
+        MockBean.reset();
+        final Pool<MockBean> pool = new ShardedStrictMaxPool<>(new MockFactory(), 10, 60, TimeUnit.SECONDS, 0, 0L, null, 8);
+        pool.start();
+
+        final AtomicInteger used = new AtomicInteger(0);
+        final AtomicInteger active = new AtomicInteger(0);
+        final AtomicInteger maxActive = new AtomicInteger(0);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        Callable<Void> task = new Callable<Void>() {
+            public Void call() throws Exception {
+                start.await();
+                for (int i = 0; i < 100; i++) {
+                    MockBean bean = pool.get();
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    Thread.yield();
+                    active.decrementAndGet();
+                    pool.release(bean);
+                    used.incrementAndGet();
+                }
+                return null;
+            }
+        };
+
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Future<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(service.submit(task));
+        }
+        start.countDown();
+
+        for (Future<Void> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+
+        service.shutdown();
+
+        pool.stop();
+
+        assertEquals(2000, used.intValue());
+        assertTrue(maxActive.get() <= 10);
+        assertTrue(MockBean.getPostConstructs() >= 10);
+        assertEquals(MockBean.getPostConstructs(), MockBean.getPreDestroys());
+    }
+}
@@ -5,8 +5,11 @@
 package org.jboss.as.ejb3.pool.strictmax;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -17,9 +20,11 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.pool.Pool;
+import org.jboss.as.ejb3.pool.PoolScheduler;
 import org.jboss.as.ejb3.pool.StatelessObjectFactory;
 import org.jboss.as.ejb3.pool.common.MockBean;
 import org.jboss.as.ejb3.pool.common.MockFactory;
+import org.junit.After;
 import org.junit.Test;
 
 /**
@@ -30,12 +35,18 @@ import org.junit.Test;
  */
 public class StrictMaxUnitTestCase {
     AtomicInteger used = new AtomicInteger(0);
+    private final PoolScheduler scheduler = new PoolScheduler("test");
 
     protected void setUp() throws Exception {
         MockBean.reset();
         used = new AtomicInteger(0);
     }
 
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
     @Test
     public void test1() {
         MockBean.reset();
@@ -140,4 +151,133 @@ public class StrictMaxUnitTestCase {
         assertEquals(10, MockBean.getPostConstructs());
         assertEquals(10, MockBean.getPreDestroys());
     }
+
+    /**
+     * Instances up to the minimum size are created when the pool starts, and instances beyond the
+     * observed concurrency are evicted once idle.
+     */
+    @Test
+    public void testMinSizeAndIdleEviction() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StrictMaxPool<MockBean>(factory, 10, 1, TimeUnit.SECONDS, 2, 100, scheduler);
+        pool.start();
+
+        awaitCurrentSize(pool, 2);
+        assertEquals(2, pool.getCreateCount());
+
+        MockBean[] beans = new MockBean[8];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+        assertEquals(8, pool.getCurrentSize());
+
+        // nothing is in use any more, so the pool shrinks back to its minimum size
+        awaitCurrentSize(pool, 2);
+        assertEquals(6, pool.getEvictCount());
+
+        pool.stop();
+
+        assertEquals(8, MockBean.getPostConstructs());
+        assertEquals(8, MockBean.getPreDestroys());
+    }
+
+    /**
+     * Stopping the pool cancels its maintenance, so no instance is created or evicted afterwards.
+     */
+    @Test
+    public void testStopCancelsMaintenance() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StrictMaxPool<MockBean>(factory, 10, 1, TimeUnit.SECONDS, 2, 20, scheduler);
+        pool.start();
+        awaitCurrentSize(pool, 2);
+
+        pool.stop();
+        assertEquals(0, pool.getCurrentSize());
+        Thread.sleep(200);
+
+        assertEquals(2, pool.getCreateCount());
+        assertEquals(0, pool.getCurrentSize());
+        assertEquals(2, MockBean.getPreDestroys());
+    }
+
+    /**
+     * Callers creating instances while the pool pre-creates its minimum size must not exceed the maximum size.
+     */
+    @Test
+    public void testMinSizeWithConcurrentGet() throws Exception {
+        MockBean.reset();
+        final AtomicInteger live = new AtomicInteger(0);
+        final AtomicInteger maxLive = new AtomicInteger(0);
+        StatelessObjectFactory<MockBean> factory = new MockFactory() {
+            @Override
+            public MockBean create() {
+                maxLive.accumulateAndGet(live.incrementAndGet(), Math::max);
+                try {
+                    // widen the window in which the pool and its callers create instances concurrently
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.create();
+            }
+
+            @Override
+            public void destroy(MockBean obj) {
+                live.decrementAndGet();
+                super.destroy(obj);
+            }
+        };
+        final Pool<MockBean> pool = new StrictMaxPool<MockBean>(factory, 5, 10, TimeUnit.SECONDS, 5, 0L, scheduler);
+
+        final CountDownLatch acquired = new CountDownLatch(5);
+        final CountDownLatch done = new CountDownLatch(1);
+        Callable<Void> task = new Callable<Void>() {
+            public Void call() throws Exception {
+                MockBean bean = pool.get();
+                try {
+                    acquired.countDown();
+                    done.await();
+                } finally {
+                    pool.release(bean);
+                }
+                return null;
+            }
+        };
+
+        ExecutorService service = Executors.newFixedThreadPool(5);
+        try {
+            pool.start();
+            List<Future<Void>> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(service.submit(task));
+            }
+            acquired.await(10, TimeUnit.SECONDS);
+            done.countDown();
+            for (Future<Void> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+            awaitCurrentSize(pool, 5);
+        } finally {
+            service.shutdown();
+        }
+
+        pool.stop();
+
+        assertTrue(maxLive.get() <= 5);
+        assertEquals(MockBean.getPostConstructs(), MockBean.getPreDestroys());
+    }
+
+    private static void awaitCurrentSize(Pool<?> pool, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (pool.getCurrentSize() != size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(size, pool.getCurrentSize());
+    }
 }
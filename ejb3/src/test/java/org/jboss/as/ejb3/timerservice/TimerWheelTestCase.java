@@ -0,0 +1,138 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TimerWheel}.
+ */
+public class TimerWheelTestCase {
+
+    private TimerWheel wheel;
+
+    @Before
+    public void before() {
+        this.wheel = new TimerWheel("timer-wheel-test", 1L, 16);
+    }
+
+    @After
+    public void after() {
+        this.wheel.cancel();
+    }
+
+    @Test
+    public void testSchedule() throws InterruptedException {
+        List<Integer> order = new ArrayList<>();
+        long[] fired = new long[4];
+        CountDownLatch latch = new CountDownLatch(4);
+        // compare with the clock of the wheel, whose millisecond resolution could otherwise let a timeout fire slightly before its delay in nanoseconds
+        long start = this.wheel.now();
+        // the delays span several levels of the wheel
+        long[] delays = { 300L, 0L, 20L, 100L };
+        for (int i = 0; i < delays.length; i++) {
+            int index = i;
+            this.wheel.schedule(new Timeout(() -> {
+                synchronized (order) {
+                    order.add(index);
+                    fired[index] = this.wheel.now();
+                }
+                latch.countDown();
+            }), delays[i]);
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        synchronized (order) {
+            assertEquals(List.of(1, 2, 3, 0), order);
+            for (int i = 0; i < delays.length; i++) {
+                assertTrue(fired[i] >= start + delays[i]);
+                // only check that a timeout is not grossly late, a loaded machine may delay the thread of the wheel
+                assertTrue(fired[i] < start + delays[i] + TimeUnit.SECONDS.toMillis(5));
+            }
+        }
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger(0);
+        Timeout cancelled = new Timeout(count::incrementAndGet);
+        this.wheel.schedule(cancelled, 50L);
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        this.wheel.schedule(new Timeout(latch::countDown), 100L);
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(0, count.get());
+    }
+
+    @Test
+    public void testFixedRate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        Timeout timeout = new Timeout(latch::countDown);
+        this.wheel.scheduleAtFixedRate(timeout, 0L, 10L);
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        timeout.cancel();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testScheduleTwice() {
+        Timeout timeout = new Timeout(() -> {});
+        this.wheel.schedule(timeout, 1000L);
+        this.wheel.schedule(timeout, 1000L);
+    }
+
+    /**
+     * Schedules a large number of timeouts, cancels half of them, and checks that exactly the others fire.
+     */
+    @Test
+    public void testManyTimeouts() throws InterruptedException {
+        int count = 100_000;
+        AtomicInteger fired = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(count / 2);
+        List<Timeout> timeouts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Timeout timeout = new Timeout(() -> {
+                fired.incrementAndGet();
+                latch.countDown();
+            });
+            timeouts.add(timeout);
+            // far enough in the future for all cancellations to happen before
+            this.wheel.schedule(timeout, 1000L + (i % 1000));
+        }
+        for (int i = 0; i < count; i += 2) {
+            timeouts.get(i).cancel();
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        // leave time for a cancelled timeout to fire, which it must not
+        Thread.sleep(100L);
+        assertEquals(count / 2, fired.get());
+    }
+
+    private static class Timeout extends TimerWheel.Timeout {
+        private final Runnable task;
+
+        Timeout(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            this.task.run();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.river.RiverMarshallerFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TimerInfoMarshallingTestCase {
+
+    private final TimerInfoMarshalling marshalling = new TimerInfoMarshalling(new RiverMarshallerFactory(), new MarshallingConfiguration(), 2);
+
+    @Test
+    public void serialize() throws IOException, ClassNotFoundException {
+        for (int i = 0; i < 3; i++) {
+            final ArrayList<String> info = new ArrayList<>(List.of("info", String.valueOf(i)));
+            Assert.assertEquals(info, marshalling.deserialize(marshalling.serialize(info)));
+        }
+        Assert.assertNull(marshalling.serialize(null));
+        Assert.assertNull(marshalling.deserialize(null));
+    }
+
+    @Test
+    public void reuse() throws IOException {
+        final TimerInfoMarshalling.Marshalling first = marshalling.reserve();
+        // a marshaller in use is not handed out again
+        final TimerInfoMarshalling.Marshalling second = marshalling.reserve();
+        Assert.assertNotSame(first, second);
+        marshalling.release(first);
+        marshalling.release(second);
+        // only as many idle marshallers as configured are kept
+        final TimerInfoMarshalling.Marshalling third = new TimerInfoMarshalling.Marshalling(new RiverMarshallerFactory(), new MarshallingConfiguration());
+        marshalling.release(third);
+
+        Assert.assertSame(first, marshalling.reserve());
+        Assert.assertSame(second, marshalling.reserve());
+        final TimerInfoMarshalling.Marshalling created = marshalling.reserve();
+        Assert.assertNotSame(first, created);
+        Assert.assertNotSame(second, created);
+        Assert.assertNotSame(third, created);
+    }
+
+    @Test
+    public void largeBuffer() throws IOException {
+        marshalling.serialize(new byte[16]);
+        TimerInfoMarshalling.Marshalling idle = marshalling.reserve();
+        Assert.assertTrue(idle.out.size() > 0);
+        marshalling.release(idle);
+
+        marshalling.serialize(new byte[TimerInfoMarshalling.MAX_RETAINED_BUFFER_SIZE + 1]);
+        idle = marshalling.reserve();
+        // the buffer grown for the large timer info is not retained
+        Assert.assertEquals(0, idle.out.size());
+    }
+
+    @Test
+    public void clear() throws IOException {
+        final TimerInfoMarshalling.Marshalling idle = marshalling.reserve();
+        marshalling.release(idle);
+        marshalling.clear();
+        Assert.assertNotSame(idle, marshalling.reserve());
+    }
+}
@@ -5,11 +5,22 @@
 
 package org.jboss.as.ejb3.timerservice.persistence.database;
 
+import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
+import org.jboss.as.ejb3.timerservice.persistence.TimerInfoMarshalling;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.river.RiverMarshallerFactory;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -168,4 +179,38 @@ public class DatabaseTimerPersistenceTestCase {
         Assert.assertEquals("sybase", field.get(object));
     }
 
+    @Test
+    public void schedulerDateTest() throws ReflectiveOperationException {
+        final Method format = object.getClass().getDeclaredMethod("schedulerDateAsString", Date.class);
+        format.setAccessible(true);
+        final Method parse = object.getClass().getDeclaredMethod("stringAsSchedulerDate", String.class, String.class);
+        parse.setAccessible(true);
+
+        final Date date = new Date(TimeUnit.SECONDS.toMillis(1700000000L));
+        final String string = (String) format.invoke(object, date);
+        Assert.assertEquals(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(date), string);
+        Assert.assertEquals(date, parse.invoke(object, string, "timer"));
+        // fractions of seconds, as stored by some databases, are ignored
+        Assert.assertEquals(date, parse.invoke(object, string + ".269", "timer"));
+        Assert.assertNull(parse.invoke(object, "06-JUL-17", "timer"));
+    }
+
+    @Test
+    public void timerInfoTest() throws ReflectiveOperationException, SQLException {
+        final Field marshalling = object.getClass().getDeclaredField("marshalling");
+        marshalling.setAccessible(true);
+        marshalling.set(object, new TimerInfoMarshalling(new RiverMarshallerFactory(), new MarshallingConfiguration()));
+        final Method serialize = object.getClass().getDeclaredMethod("serialize", Serializable.class);
+        serialize.setAccessible(true);
+        final Method deSerialize = object.getClass().getDeclaredMethod("deSerialize", byte[].class);
+        deSerialize.setAccessible(true);
+
+        for (int i = 0; i < 3; i++) {
+            final ArrayList<String> info = new ArrayList<>(List.of("info", String.valueOf(i)));
+            final byte[] data = (byte[]) serialize.invoke(object, info);
+            Assert.assertEquals(info, deSerialize.invoke(object, data));
+            Assert.assertEquals(info, object.deSerialize(Base64.getEncoder().encodeToString(data)));
+        }
+        Assert.assertNull(serialize.invoke(object, (Serializable) null));
+    }
 }
\ No newline at end of file
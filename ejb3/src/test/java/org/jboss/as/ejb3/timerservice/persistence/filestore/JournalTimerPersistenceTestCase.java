@@ -0,0 +1,214 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ejb.ScheduleExpression;
+import jakarta.ejb.Timer;
+
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.ejb3.timerservice.CalendarTimer;
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.spi.TimedObjectInvoker;
+import org.jboss.modules.ModuleLoader;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link JournalTimerPersistence}, which writes timers through a {@link TimerJournal} and reads them back.
+ */
+public class JournalTimerPersistenceTestCase {
+
+    private static final String TIMED_OBJECT_ID = "timed-object";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File baseDir;
+    private TimerServiceImpl timerService;
+
+    @Before
+    public void before() throws IOException {
+        this.baseDir = this.folder.newFolder();
+        TimedObjectInvoker invoker = mock(TimedObjectInvoker.class);
+        when(invoker.getClassLoader()).thenReturn(this.getClass().getClassLoader());
+        this.timerService = mock(TimerServiceImpl.class);
+        when(this.timerService.getInvoker()).thenReturn(invoker);
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        JournalTimerPersistence persistence = this.start();
+        persistence.addTimer(this.timer("timer", new Date(2000000L)));
+        CalendarTimer.Builder builder = CalendarTimer.builder();
+        builder.setScheduleExpression(new ScheduleExpression().second("30").minute("*/5").hour("*").timezone("UTC").end(new Date(9000000L)));
+        builder.setAutoTimer(true);
+        builder.setTimeoutMethod(Bean.class.getMethod("timeout", Timer.class));
+        builder.setId("calendar").setTimedObjectId(TIMED_OBJECT_ID).setPersistent(true)
+                .setInitialDate(new Date(1000000L)).setNextDate(new Date(3000000L)).setTimerState(TimerState.ACTIVE);
+        persistence.addTimer(builder.build(this.timerService));
+        persistence.stop(null);
+
+        persistence = this.start();
+        try {
+            Map<String, TimerImpl> timers = this.load(persistence);
+            assertEquals(2, timers.size());
+
+            TimerImpl timer = timers.get("timer");
+            assertNotNull(timer);
+            assertEquals(TIMED_OBJECT_ID, timer.getTimedObjectId());
+            assertEquals(new Date(1000000L), timer.getInitialExpiration());
+            assertEquals(new Date(2000000L), timer.getNextExpiration());
+            assertEquals(new Date(500000L), timer.getPreviousRun());
+            assertEquals(60000L, timer.getInterval());
+            assertEquals(TimerState.ACTIVE, timer.getState());
+            assertEquals("info", timer.getTimerInfo());
+
+            TimerImpl calendar = timers.get("calendar");
+            assertTrue(calendar instanceof CalendarTimer);
+            CalendarTimer calendarTimer = (CalendarTimer) calendar;
+            ScheduleExpression schedule = calendarTimer.getScheduleExpression();
+            assertEquals("30", schedule.getSecond());
+            assertEquals("*/5", schedule.getMinute());
+            assertEquals("*", schedule.getHour());
+            assertEquals("UTC", schedule.getTimezone());
+            assertEquals(new Date(9000000L), schedule.getEnd());
+            assertEquals(null, schedule.getStart());
+            assertEquals(new Date(3000000L), calendarTimer.getNextExpiration());
+            assertEquals(null, calendarTimer.getTimerInfo());
+            assertTrue(calendarTimer.isAutoTimer());
+            assertEquals(Bean.class.getMethod("timeout", Timer.class), calendarTimer.getTimeoutMethod());
+        } finally {
+            persistence.stop(null);
+        }
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        JournalTimerPersistence persistence = this.start();
+        persistence.addTimer(this.timer("timer", new Date(0L)));
+        persistence.addTimer(this.timer("cancelled", new Date(0L)));
+        // enough updates for the journal to be compacted several times
+        for (int i = 1; i <= 5000; i++) {
+            persistence.persistTimer(this.timer("timer", new Date(i)));
+        }
+        TimerImpl cancelled = this.timer("cancelled", new Date(0L));
+        cancelled.setTimerState(TimerState.CANCELED, null);
+        persistence.persistTimer(cancelled);
+        persistence.stop(null);
+
+        File journal = this.journalFile();
+        assertTrue(journal.getName(), !journal.getName().equals(TimerJournal.FILE_PREFIX + 0 + TimerJournal.FILE_SUFFIX));
+
+        persistence = this.start();
+        try {
+            Map<String, TimerImpl> timers = this.load(persistence);
+            assertEquals(1, timers.size());
+            assertEquals(new Date(5000L), timers.get("timer").getNextExpiration());
+        } finally {
+            persistence.stop(null);
+        }
+    }
+
+    @Test
+    public void testTornFinalRecord() throws Exception {
+        JournalTimerPersistence persistence = this.start();
+        persistence.addTimer(this.timer("timer", new Date(1000L)));
+        persistence.persistTimer(this.timer("timer", new Date(2000L)));
+        persistence.stop(null);
+
+        // corrupt the last byte of the last record, as if the server crashed while appending it
+        try (RandomAccessFile file = new RandomAccessFile(this.journalFile(), "rw")) {
+            // skip the file header
+            long position = 8;
+            long last = -1;
+            file.seek(position);
+            for (int length = file.readInt(); length != 0; length = file.readInt()) {
+                last = position + 8 + length - 1;
+                position += 8 + length;
+                file.seek(position);
+            }
+            file.seek(last);
+            int value = file.read();
+            file.seek(last);
+            file.write(value ^ 0xff);
+        }
+
+        persistence = this.start();
+        try {
+            Map<String, TimerImpl> timers = this.load(persistence);
+            assertEquals(1, timers.size());
+            assertEquals(new Date(1000L), timers.get("timer").getNextExpiration());
+
+            // the journal remains writable after the torn record
+            persistence.persistTimer(this.timer("timer", new Date(3000L)));
+        } finally {
+            persistence.stop(null);
+        }
+
+        persistence = this.start();
+        try {
+            assertEquals(new Date(3000L), this.load(persistence).get("timer").getNextExpiration());
+        } finally {
+            persistence.stop(null);
+        }
+    }
+
+    private JournalTimerPersistence start() {
+        PathManager pathManager = mock(PathManager.class);
+        when(pathManager.resolveRelativePathEntry(any(), any())).thenReturn(this.baseDir.getAbsolutePath());
+        ModuleLoader moduleLoader = mock(ModuleLoader.class);
+        JournalTimerPersistence persistence = new JournalTimerPersistence(p -> { }, () -> null, () -> moduleLoader, () -> pathManager, false, "timers", null);
+        persistence.start(null);
+        return persistence;
+    }
+
+    private Map<String, TimerImpl> load(JournalTimerPersistence persistence) {
+        List<TimerImpl> timers = persistence.loadActiveTimers(TIMED_OBJECT_ID, this.timerService);
+        Map<String, TimerImpl> result = new HashMap<>();
+        for (TimerImpl timer : timers) {
+            result.put(timer.getId(), timer);
+        }
+        return result;
+    }
+
+    private TimerImpl timer(String id, Date nextDate) {
+        return TimerImpl.builder().setId(id).setTimedObjectId(TIMED_OBJECT_ID).setPersistent(true)
+                .setInitialDate(new Date(1000000L)).setNextDate(nextDate).setPreviousRun(new Date(500000L))
+                .setRepeatInterval(60000L).setInfo("info").setTimerState(TimerState.ACTIVE)
+                .build(this.timerService);
+    }
+
+    private File journalFile() {
+        File[] files = new File(this.baseDir, TIMED_OBJECT_ID).listFiles((directory, name) -> name.startsWith(TimerJournal.FILE_PREFIX) && name.endsWith(TimerJournal.FILE_SUFFIX));
+        assertNotNull(files);
+        assertEquals(1, files.length);
+        return files[0];
+    }
+
+    public static class Bean {
+        public void timeout(Timer timer) {
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link TimerJournal}.
+ */
+public class TimerJournalTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReplay() throws IOException {
+        File directory = folder.newFolder();
+        assertFalse(TimerJournal.exists(directory));
+
+        TimerJournal journal = new TimerJournal(directory);
+        journal.put("a", new byte[] { 1 });
+        journal.put("b", new byte[] { 2 });
+        journal.put("a", new byte[] { 3 });
+        journal.remove("b");
+        journal.remove("c");
+        journal.close();
+        assertTrue(TimerJournal.exists(directory));
+
+        journal = new TimerJournal(directory);
+        try {
+            assertEquals(1, journal.getRecords().size());
+            assertArrayEquals(new byte[] { 3 }, journal.getRecords().get("a"));
+            assertFalse(journal.contains("b"));
+        } finally {
+            journal.close();
+        }
+    }
+
+    @Test
+    public void testCompaction() throws IOException {
+        File directory = folder.newFolder();
+        TimerJournal journal = new TimerJournal(directory);
+        journal.put("a", new byte[] { 1 });
+        // enough updates to grow the mapped file and to compact the journal several times
+        byte[] record = new byte[256];
+        for (int i = 0; i < 10000; i++) {
+            record[0] = (byte) i;
+            journal.put("b", record.clone());
+        }
+        journal.close();
+
+        File[] files = directory.listFiles();
+        assertEquals(1, files.length);
+        assertFalse(files[0].getName().equals(TimerJournal.FILE_PREFIX + 0 + TimerJournal.FILE_SUFFIX));
+
+        journal = new TimerJournal(directory);
+        try {
+            assertEquals(2, journal.getRecords().size());
+            assertArrayEquals(new byte[] { 1 }, journal.getRecords().get("a"));
+            assertEquals((byte) 9999, journal.getRecords().get("b")[0]);
+        } finally {
+            journal.close();
+        }
+    }
+
+    @Test
+    public void testTornRecord() throws IOException {
+        File directory = folder.newFolder();
+        TimerJournal journal = new TimerJournal(directory);
+        journal.put("a", new byte[] { 1, 2, 3 });
+        journal.put("b", new byte[] { 4, 5, 6 });
+        journal.close();
+
+        // file header, then the record of "a": length, checksum, operation, id and data
+        long second = 8 + 8 + 1 + 2 + 1 + 3;
+        try (RandomAccessFile file = new RandomAccessFile(new File(directory, TimerJournal.FILE_PREFIX + 0 + TimerJournal.FILE_SUFFIX), "rw")) {
+            file.seek(second + 8 + 4);
+            file.write(7);
+        }
+
+        journal = new TimerJournal(directory);
+        try {
+            assertEquals(1, journal.getRecords().size());
+            assertArrayEquals(new byte[] { 1, 2, 3 }, journal.getRecords().get("a"));
+            journal.put("c", new byte[] { 8 });
+        } finally {
+            journal.close();
+        }
+
+        journal = new TimerJournal(directory);
+        try {
+            assertEquals(2, journal.getRecords().size());
+            assertArrayEquals(new byte[] { 8 }, journal.getRecords().get("c"));
+        } finally {
+            journal.close();
+        }
+    }
+}
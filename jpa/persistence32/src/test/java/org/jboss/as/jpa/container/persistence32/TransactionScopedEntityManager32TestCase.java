@@ -0,0 +1,157 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.container.persistence32;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SynchronizationType;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.Transaction;
+import jakarta.transaction.TransactionManager;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.as.jpa.transaction.TransactionUtil;
+import org.junit.Test;
+
+/**
+ * Tests that {@link TransactionScopedEntityManager32} delegates to the entity manager of the current transaction,
+ * and caches the entity manager of one transaction until it completes.
+ */
+public class TransactionScopedEntityManager32TestCase {
+
+    private static final String PU_SCOPED_NAME = "test.jar#test";
+
+    private Transaction current;
+    private final Map<Transaction, Map<Object, Object>> resources = new HashMap<>();
+    private final Map<Transaction, List<Synchronization>> synchronizations = new HashMap<>();
+    private int lookups;
+
+    @Test
+    public void testInterleavedTransactions() {
+        TransactionScopedEntityManager32 entityManager = new TransactionScopedEntityManager32(PU_SCOPED_NAME, new HashMap<>(),
+                proxy(EntityManagerFactory.class, (method, args) -> null), SynchronizationType.SYNCHRONIZED,
+                this.transactionSynchronizationRegistry(), this.transactionManager());
+
+        Transaction tx1 = proxy(Transaction.class, (method, args) -> method.equals("getStatus") ? Status.STATUS_ACTIVE : null);
+        Transaction tx2 = proxy(Transaction.class, (method, args) -> method.equals("getStatus") ? Status.STATUS_ACTIVE : null);
+        Object delegate1 = new Object();
+        Object delegate2 = new Object();
+        this.current = tx1;
+        TransactionUtil.putEntityManagerInTransactionRegistry(PU_SCOPED_NAME, entityManager(delegate1), this.transactionSynchronizationRegistry());
+        this.current = tx2;
+        TransactionUtil.putEntityManagerInTransactionRegistry(PU_SCOPED_NAME, entityManager(delegate2), this.transactionSynchronizationRegistry());
+
+        // each invocation uses the entity manager of the transaction it is made in
+        this.current = tx1;
+        assertSame(delegate1, entityManager.getDelegate());
+        this.current = tx2;
+        assertSame(delegate2, entityManager.getDelegate());
+        assertSame(delegate2, entityManager.getDelegate());
+        this.current = tx1;
+        assertSame(delegate1, entityManager.getDelegate());
+        this.current = tx2;
+        assertSame(delegate2, entityManager.getDelegate());
+    }
+
+    @Test
+    public void testEntityManagerCachedUntilCompletion() {
+        TransactionScopedEntityManager32 entityManager = new TransactionScopedEntityManager32(PU_SCOPED_NAME, new HashMap<>(),
+                proxy(EntityManagerFactory.class, (method, args) -> null), SynchronizationType.SYNCHRONIZED,
+                this.transactionSynchronizationRegistry(), this.transactionManager());
+
+        Transaction tx1 = proxy(Transaction.class, (method, args) -> method.equals("getStatus") ? Status.STATUS_ACTIVE : null);
+        Transaction tx2 = proxy(Transaction.class, (method, args) -> method.equals("getStatus") ? Status.STATUS_ACTIVE : null);
+        Object delegate1 = new Object();
+        Object delegate2 = new Object();
+        this.current = tx1;
+        TransactionUtil.putEntityManagerInTransactionRegistry(PU_SCOPED_NAME, entityManager(delegate1), this.transactionSynchronizationRegistry());
+        this.current = tx2;
+        TransactionUtil.putEntityManagerInTransactionRegistry(PU_SCOPED_NAME, entityManager(delegate2), this.transactionSynchronizationRegistry());
+        this.lookups = 0;
+
+        // the first transaction resolves its entity manager once
+        this.current = tx1;
+        assertSame(delegate1, entityManager.getDelegate());
+        assertSame(delegate1, entityManager.getDelegate());
+        assertEquals(1, this.lookups);
+        assertEquals(1, this.synchronizations.get(tx1).size());
+
+        // a concurrent transaction does not replace the cached entity manager
+        this.current = tx2;
+        assertSame(delegate2, entityManager.getDelegate());
+        assertSame(delegate2, entityManager.getDelegate());
+        assertEquals(3, this.lookups);
+        assertNull(this.synchronizations.get(tx2));
+        this.current = tx1;
+        assertSame(delegate1, entityManager.getDelegate());
+        assertEquals(3, this.lookups);
+
+        // the completion of the first transaction frees the slot for the other one
+        this.synchronizations.get(tx1).forEach(synchronization -> synchronization.afterCompletion(Status.STATUS_COMMITTED));
+        this.current = tx2;
+        assertSame(delegate2, entityManager.getDelegate());
+        assertSame(delegate2, entityManager.getDelegate());
+        assertEquals(4, this.lookups);
+        assertEquals(1, this.synchronizations.get(tx2).size());
+    }
+
+    private TransactionManager transactionManager() {
+        return proxy(TransactionManager.class, (method, args) -> method.equals("getTransaction") ? this.current : null);
+    }
+
+    private TransactionSynchronizationRegistry transactionSynchronizationRegistry() {
+        return proxy(TransactionSynchronizationRegistry.class, (method, args) -> {
+            Map<Object, Object> transactionResources = this.resources.computeIfAbsent(this.current, key -> new HashMap<>());
+            switch (method) {
+                case "getResource":
+                    this.lookups++;
+                    return transactionResources.get(args[0]);
+                case "putResource":
+                    transactionResources.put(args[0], args[1]);
+                    return null;
+                case "registerInterposedSynchronization":
+                    this.synchronizations.computeIfAbsent(this.current, key -> new ArrayList<>()).add((Synchronization) args[0]);
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+    }
+
+    private static EntityManager entityManager(Object delegate) {
+        return proxy(EntityManager.class, (method, args) -> method.equals("getDelegate") ? delegate : null);
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                default:
+                    return handler.invoke(method.getName(), args);
+            }
+        }));
+    }
+
+    private interface Handler {
+        Object invoke(String method, Object[] args);
+    }
+}
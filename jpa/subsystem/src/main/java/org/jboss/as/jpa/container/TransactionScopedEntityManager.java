@@ -13,10 +13,13 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.SynchronizationType;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.Transaction;
 import jakarta.transaction.TransactionManager;
 import jakarta.transaction.TransactionSynchronizationRegistry;
 
@@ -75,6 +78,11 @@ public abstract class TransactionScopedEntityManager extends AbstractEntityManag
     private transient TransactionManager transactionManager;
     private transient Boolean deferDetach;
     private transient Boolean skipQueryDetach;
+    // the entity manager of one active transaction, which is resolved without a lookup in the transaction registry
+    private transient volatile TransactionEntityManager cached;
+
+    private static final AtomicReferenceFieldUpdater<TransactionScopedEntityManager, TransactionEntityManager> CACHED_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(TransactionScopedEntityManager.class, TransactionEntityManager.class, "cached");
 
     protected TransactionScopedEntityManager(String puScopedName, Map properties, EntityManagerFactory emf,
                                           SynchronizationType synchronizationType,
@@ -91,12 +99,18 @@ public abstract class TransactionScopedEntityManager extends AbstractEntityManag
     @Override
     protected EntityManager getEntityManager() {
         EntityManager entityManager;
-        boolean isInTx;
-
-        isInTx = TransactionUtil.isInTx(transactionManager);
+        Transaction transaction = TransactionUtil.getTransaction(transactionManager);
 
-        if (isInTx) {
-            entityManager = getOrCreateTransactionScopedEntityManager(emf, puScopedName, properties, synchronizationType);
+        if (TransactionUtil.isActive(transaction)) {
+            final TransactionEntityManager cached = this.cached;
+            if (cached != null && cached.transaction == transaction) {
+                return cached.entityManager;
+            }
+            // the entity manager is a resource of the transaction, so concurrent transactions never share it
+            entityManager = getOrCreateTransactionScopedEntityManager(transaction, emf, puScopedName, properties, synchronizationType);
+            if (cached == null) {
+                cache(transaction, entityManager);
+            }
         } else {
             entityManager = NonTxEmCloser.get(EntityManager.class, puScopedName);
             if (entityManager == null) {
@@ -153,6 +167,7 @@ public abstract class TransactionScopedEntityManager extends AbstractEntityManag
      * get or create a Transactional entity manager.
      * Only call while a transaction is active in the current thread.
      *
+     * @param transaction
      * @param emf
      * @param scopedPuName
      * @param properties
@@ -160,6 +175,7 @@ public abstract class TransactionScopedEntityManager extends AbstractEntityManag
      * @return
      */
     private EntityManager getOrCreateTransactionScopedEntityManager(
+            final Transaction transaction,
             final EntityManagerFactory emf,
             final String scopedPuName,
             final Map properties,
@@ -169,7 +185,7 @@ public abstract class TransactionScopedEntityManager extends AbstractEntityManag
             entityManager = createEntityManager(emf, properties, synchronizationType);
             if (ROOT_LOGGER.isDebugEnabled()) {
                 ROOT_LOGGER.debugf("%s: created entity manager session %s", TransactionUtil.getTransactionScopedObjectDetails(entityManager, scopedPuName),
-                        TransactionUtil.getTransaction(transactionManager).toString());
+                        transaction.toString());
             }
             TransactionUtil.registerSynchronization(entityManager, scopedPuName, transactionSynchronizationRegistry, transactionManager);
             TransactionUtil.putEntityManagerInTransactionRegistry(scopedPuName, entityManager, transactionSynchronizationRegistry);
@@ -178,12 +194,29 @@ public abstract class TransactionScopedEntityManager extends AbstractEntityManag
             testForMixedSynchronizationTypes(emf, entityManager, puScopedName, synchronizationType, properties);
             if (ROOT_LOGGER.isDebugEnabled()) {
                 ROOT_LOGGER.debugf("%s: reuse entity manager session already in tx %s", TransactionUtil.getTransactionScopedObjectDetails(entityManager, scopedPuName),
-                        TransactionUtil.getTransaction(transactionManager).toString());
+                        transaction.toString());
             }
         }
         return entityManager;
     }
 
+    /**
+     * Keeps the entity manager of the transaction until the transaction completes. The slot is only taken while it is
+     * free, so that concurrent transactions do not keep replacing each other, and then resolve their entity managers
+     * from the transaction registry.
+     */
+    private void cache(final Transaction transaction, final EntityManager entityManager) {
+        final TransactionEntityManager cached = new TransactionEntityManager(transaction, entityManager);
+        if (CACHED_UPDATER.compareAndSet(this, null, cached)) {
+            try {
+                transactionSynchronizationRegistry.registerInterposedSynchronization(cached);
+            } catch (IllegalStateException e) {
+                // the transaction is already completing, so the slot would never be released
+                CACHED_UPDATER.compareAndSet(this, cached, null);
+            }
+        }
+    }
+
     private EntityManager createEntityManager(
         EntityManagerFactory emf, Map properties, final SynchronizationType synchronizationType) {
         // only JPA 2.1 applications can specify UNSYNCHRONIZED.
@@ -234,6 +267,29 @@ public abstract class TransactionScopedEntityManager extends AbstractEntityManag
     }
 
 
+    /**
+     * The entity manager of a transaction, which releases the slot of the transaction scoped entity manager when
+     * the transaction completes, so that neither the transaction nor the closed entity manager is retained.
+     */
+    private final class TransactionEntityManager implements Synchronization {
+        final Transaction transaction;
+        final EntityManager entityManager;
+
+        TransactionEntityManager(Transaction transaction, EntityManager entityManager) {
+            this.transaction = transaction;
+            this.entityManager = entityManager;
+        }
+
+        @Override
+        public void beforeCompletion() {
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            CACHED_UPDATER.compareAndSet(TransactionScopedEntityManager.this, this, null);
+        }
+    }
+
     /**
      * throw error if Jakarta Transactions transaction already has an UNSYNCHRONIZED persistence context and a SYNCHRONIZED persistence context
      * is requested.  We are only fussy in this test, if the target component persistence context is SYNCHRONIZED.
@@ -243,13 +299,17 @@ public abstract class TransactionScopedEntityManager extends AbstractEntityManag
      */
     private static void testForMixedSynchronizationTypes(EntityManagerFactory emf, EntityManager entityManagerFromJTA, String scopedPuName, final SynchronizationType targetSynchronizationType, Map targetProperties) {
 
+        // only mixed synchronization types need the configuration of the extensions, which is read from the properties
+        if (!SynchronizationType.SYNCHRONIZED.equals(targetSynchronizationType) ||
+                !(entityManagerFromJTA instanceof SynchronizationTypeAccess) ||
+                !SynchronizationType.UNSYNCHRONIZED.equals(((SynchronizationTypeAccess) entityManagerFromJTA).getSynchronizationType())) {
+            return;
+        }
+
         boolean skipMixedSyncTypeChecking = Configuration.skipMixedSynchronizationTypeCheck(emf, targetProperties);  // extension to allow skipping of check based on properties of target entity manager
         boolean allowJoinedUnsyncPersistenceContext = Configuration.allowJoinedUnsyncPersistenceContext(emf, targetProperties); // extension to allow joined unsync persistence context to be treated as sync persistence context
 
-        if (!skipMixedSyncTypeChecking &&
-                SynchronizationType.SYNCHRONIZED.equals(targetSynchronizationType) &&
-                entityManagerFromJTA instanceof SynchronizationTypeAccess &&
-                SynchronizationType.UNSYNCHRONIZED.equals(((SynchronizationTypeAccess) entityManagerFromJTA).getSynchronizationType())
+        if (!skipMixedSyncTypeChecking
                 && (!allowJoinedUnsyncPersistenceContext || !entityManagerFromJTA.isJoinedToTransaction())) {
             throw JpaLogger.ROOT_LOGGER.badSynchronizationTypeCombination(scopedPuName);
         }
@@ -31,12 +31,21 @@ import org.wildfly.transaction.client.ContextTransactionManager;
  */
 public class TransactionUtil {
     public static boolean isInTx(TransactionManager transactionManager) {
-        Transaction tx = getTransaction(transactionManager);
+        return isActive(getTransaction(transactionManager));
+    }
+
+    /**
+     * Returns true if the specified transaction, which may be null, is active or marked for rollback.
+     *
+     * @param tx
+     */
+    public static boolean isActive(Transaction tx) {
         if ( tx == null) {
             return false;
         }
         try {
-            return tx.getStatus() == Status.STATUS_ACTIVE || tx.getStatus() == Status.STATUS_MARKED_ROLLBACK;
+            int status = tx.getStatus();
+            return status == Status.STATUS_ACTIVE || status == Status.STATUS_MARKED_ROLLBACK;
         } catch (SystemException e) {
             throw new RuntimeException(e);
         }
@@ -20,6 +20,12 @@ import static org.wildfly.extension.messaging.activemq.OperationDefinitionHelper
 import static org.wildfly.extension.messaging.activemq.OperationDefinitionHelper.runtimeReadOnlyOperation;
 import static org.wildfly.extension.messaging.activemq._private.MessagingLogger.ROOT_LOGGER;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
 import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ObjectListAttributeDefinition;
@@ -28,6 +34,7 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.logging.ControllerLogger;
@@ -90,6 +97,21 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
             .setValidator(PRIORITY_VALIDATOR)
             .build();
 
+    // paging and projection of the listed messages, so that the size of the reply does not depend on the depth of the queue
+    static final int DEFAULT_PAGE_SIZE = 100;
+    private static final AttributeDefinition PAGE_SIZE = SimpleAttributeDefinitionBuilder.create("page-size", INT)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+    private static final AttributeDefinition PAGE = SimpleAttributeDefinitionBuilder.create("page", INT)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(1))
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+    private static final StringListAttributeDefinition FIELDS = new StringListAttributeDefinition.Builder("fields")
+            .setRequired(false)
+            .build();
+
     protected abstract AttributeDefinition getMessageIDAttributeDefinition();
 
     protected abstract AttributeDefinition[] getReplyMessageParameterDefinitions();
@@ -97,7 +119,7 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
     public void registerOperations(final ManagementResourceRegistration registry, ResourceDescriptionResolver resolver) {
 
         registry.registerOperationHandler(runtimeReadOnlyOperation(LIST_MESSAGES, resolver)
-                .setParameters(FILTER)
+                .setParameters(FILTER, PAGE_SIZE, PAGE, FIELDS)
                 .setReplyType(LIST)
                 .setReplyParameters(getReplyMessageParameterDefinitions())
                 .build(),
@@ -202,6 +224,7 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
                 this);
 
         registry.registerOperationHandler(runtimeReadOnlyOperation(LIST_DELIVERING_MESSAGES, resolver)
+                .setParameters(PAGE_SIZE, PAGE, FIELDS)
                 .setReplyType(LIST)
                 .setReplyParameters(getReplyMapConsumerMessageParameterDefinition())
                 .build(),
@@ -211,6 +234,7 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
                 .build(),
                 this);
         registry.registerOperationHandler(runtimeReadOnlyOperation(LIST_SCHEDULED_MESSAGES, resolver)
+                .setParameters(PAGE_SIZE, PAGE, FIELDS)
                 .setReplyType(LIST)
                 .setReplyParameters(getReplyMessageParameterDefinitions())
                 .build(),
@@ -246,19 +270,31 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
         try {
             if (LIST_MESSAGES.equals(operationName)) {
                 String filter = resolveFilter(context, operation);
-                String json = control.listMessagesAsJSON(filter);
-                context.getResult().set(ModelNode.fromJSONString(json));
+                if (isPagedOrProjected(operation)) {
+                    context.getResult().set(listMessages(control, filter, resolvePage(context, operation), resolvePageSize(context, operation), resolveFields(context, operation)));
+                } else {
+                    String json = control.listMessagesAsJSON(filter);
+                    context.getResult().set(ModelNode.fromJSONString(json));
+                }
             } else if (LIST_MESSAGES_AS_JSON.equals(operationName)) {
                 String filter = resolveFilter(context, operation);
                 context.getResult().set(control.listMessagesAsJSON(filter));
             } else if (LIST_DELIVERING_MESSAGES.equals(operationName)) {
-                String json = control.listDeliveringMessagesAsJSON();
-                context.getResult().set(ModelNode.fromJSONString(json));
+                if (isPagedOrProjected(operation)) {
+                    context.getResult().set(listDeliveringMessages(control, resolvePage(context, operation), resolvePageSize(context, operation), resolveFields(context, operation)));
+                } else {
+                    String json = control.listDeliveringMessagesAsJSON();
+                    context.getResult().set(ModelNode.fromJSONString(json));
+                }
             } else if (LIST_DELIVERING_MESSAGES_AS_JSON.equals(operationName)) {
                 context.getResult().set(control.listDeliveringMessagesAsJSON());
             } else if (LIST_SCHEDULED_MESSAGES.equals(operationName)) {
-                String json = control.listScheduledMessagesAsJSON();
-                context.getResult().set(ModelNode.fromJSONString(json));
+                if (isPagedOrProjected(operation)) {
+                    context.getResult().set(listScheduledMessages(control, resolvePage(context, operation), resolvePageSize(context, operation), resolveFields(context, operation)));
+                } else {
+                    String json = control.listScheduledMessagesAsJSON();
+                    context.getResult().set(ModelNode.fromJSONString(json));
+                }
             } else if (LIST_SCHEDULED_MESSAGES_AS_JSON.equals(operationName)) {
                 context.getResult().set(control.listScheduledMessagesAsJSON());
             } else if (COUNT_MESSAGES.equals(operationName)) {
@@ -377,6 +413,140 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
         };
     }
 
+    private static boolean isPagedOrProjected(ModelNode operation) {
+        return operation.hasDefined(PAGE_SIZE.getName()) || operation.hasDefined(FIELDS.getName());
+    }
+
+    /**
+     * Returns the fields of the listed messages requested by the operation, or null if all fields are requested.
+     */
+    private static Set<String> resolveFields(OperationContext context, ModelNode operation) throws OperationFailedException {
+        ModelNode fields = FIELDS.resolveModelAttribute(context, operation);
+        if (!fields.isDefined()) {
+            return null;
+        }
+        Set<String> result = new HashSet<>();
+        for (ModelNode field : fields.asList()) {
+            result.add(field.asString());
+        }
+        return result;
+    }
+
+    private static int resolvePage(OperationContext context, ModelNode operation) throws OperationFailedException {
+        return PAGE.resolveModelAttribute(context, operation).asInt();
+    }
+
+    /**
+     * Returns the page size requested by the operation, or the default page size if only the fields are requested, so
+     * that a projection never lists the whole queue.
+     */
+    private static int resolvePageSize(OperationContext context, ModelNode operation) throws OperationFailedException {
+        ModelNode pageSize = PAGE_SIZE.resolveModelAttribute(context, operation);
+        return pageSize.isDefined() ? pageSize.asInt() : DEFAULT_PAGE_SIZE;
+    }
+
+    /**
+     * Lists a page of the messages of the queue matching the filter, browsing only that page of the queue.
+     */
+    static ModelNode listMessages(DelegatingQueueControl<?> control, String filter, int page, int pageSize, Set<String> fields) throws Exception {
+        ModelNode result = new ModelNode().setEmptyList();
+        for (CompositeData message : control.browse(page, pageSize, filter)) {
+            result.add(toModelNode(control, message, fields));
+        }
+        return result;
+    }
+
+    /**
+     * Lists a page of the scheduled messages of the queue. Artemis has no paged API for them, so they are sliced while converted.
+     */
+    static ModelNode listScheduledMessages(DelegatingQueueControl<?> control, int page, int pageSize, Set<String> fields) throws Exception {
+        long start = (page - 1L) * pageSize;
+        long end = start + pageSize;
+        Map<String, Object>[] messages = control.listScheduledMessages();
+        ModelNode result = new ModelNode().setEmptyList();
+        for (long i = start; i < Math.min(end, messages.length); i++) {
+            result.add(toModelNode(control, messages[(int) i], fields));
+        }
+        return result;
+    }
+
+    /**
+     * Lists a page of the messages being delivered to the consumers of the queue, grouped by consumer. The page spans
+     * the messages of all the consumers, in the order of the consumers.
+     */
+    static ModelNode listDeliveringMessages(DelegatingQueueControl<?> control, int page, int pageSize, Set<String> fields) throws Exception {
+        long start = (page - 1L) * pageSize;
+        long end = start + pageSize;
+        long index = 0;
+        ModelNode result = new ModelNode().setEmptyList();
+        for (Map.Entry<String, Map<String, Object>[]> entry : control.listDeliveringMessages().entrySet()) {
+            ModelNode elements = new ModelNode().setEmptyList();
+            for (Map<String, Object> message : entry.getValue()) {
+                if (index >= start && index < end) {
+                    elements.add(toModelNode(control, message, fields));
+                }
+                index++;
+            }
+            if (!elements.asList().isEmpty()) {
+                ModelNode consumer = result.add();
+                consumer.get("consumerName").set(entry.getKey());
+                consumer.get("elements").set(elements);
+            }
+            if (index >= end) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static ModelNode toModelNode(DelegatingQueueControl<?> control, Map<String, Object> message, Set<String> fields) {
+        ModelNode result = new ModelNode();
+        for (Map.Entry<String, Object> entry : message.entrySet()) {
+            setField(control, result, entry.getKey(), entry.getValue(), fields);
+        }
+        return result;
+    }
+
+    private static ModelNode toModelNode(DelegatingQueueControl<?> control, CompositeData message, Set<String> fields) {
+        ModelNode result = new ModelNode();
+        for (String key : message.getCompositeType().keySet()) {
+            Object value = message.get(key);
+            if (value instanceof TabularData) {
+                // message properties are flattened, as in the JSON representation of the message
+                for (Object row : ((TabularData) value).values()) {
+                    CompositeData property = (CompositeData) row;
+                    if (property.containsKey("key") && property.containsKey("value")) {
+                        setField(control, result, String.valueOf(property.get("key")), property.get("value"), fields);
+                    }
+                }
+            } else {
+                setField(control, result, key, value, fields);
+            }
+        }
+        return result;
+    }
+
+    private static void setField(DelegatingQueueControl<?> control, ModelNode message, String key, Object value, Set<String> fields) {
+        String name = control.getMessageFieldName(key);
+        if (value == null || (fields != null && !fields.contains(name))) {
+            return;
+        }
+        ModelNode field = message.get(name);
+        if (value instanceof Boolean) {
+            field.set((Boolean) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            field.set(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            field.set((Long) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            field.set(((Number) value).doubleValue());
+        } else if (value instanceof byte[]) {
+            field.set((byte[]) value);
+        } else {
+            field.set(value.toString());
+        }
+    }
+
     protected abstract DelegatingQueueControl<T> getQueueControl(ActiveMQBroker server, String queueName);
 
     protected abstract Object handleAdditionalOperation(final String operationName, final ModelNode operation,
@@ -400,6 +570,14 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
 
         String listMessagesAsJSON(String filter) throws Exception;
 
+        /**
+         * Browses a page of the messages matching the filter, without loading the other messages of the queue.
+         * @param page the index of the page, starting at 1
+         * @param pageSize the number of messages per page
+         * @param filter a message filter
+         */
+        CompositeData[] browse(int page, int pageSize, String filter) throws Exception;
+
         long countMessages(String filter) throws Exception;
 
         boolean removeMessage(ModelNode id) throws Exception;
@@ -445,5 +623,16 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
         String listScheduledMessagesAsJSON() throws  Exception;
 
         String listDeliveringMessagesAsJSON() throws Exception;
+
+        Map<String, Object>[] listScheduledMessages() throws Exception;
+
+        Map<String, Map<String, Object>[]> listDeliveringMessages() throws Exception;
+
+        /**
+         * Returns the name under which a field of a message is listed.
+         */
+        default String getMessageFieldName(String name) {
+            return name;
+        }
     }
 }
@@ -14,6 +14,8 @@ import static org.jboss.dmr.ModelType.LONG;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import javax.management.openmbean.CompositeData;
 
 import org.apache.activemq.artemis.api.core.management.QueueControl;
 import org.apache.activemq.artemis.api.core.management.ResourceNames;
@@ -132,6 +134,11 @@ public class QueueControlHandler extends AbstractQueueControlHandler<QueueContro
                 return control.listMessagesAsJSON(filter);
             }
 
+            @Override
+            public CompositeData[] browse(int page, int pageSize, String filter) throws Exception {
+                return control.browse(page, pageSize, filter);
+            }
+
             @Override
             public long countMessages(String filter) throws Exception {
                 return control.countMessages(filter);
@@ -246,6 +253,16 @@ public class QueueControlHandler extends AbstractQueueControlHandler<QueueContro
             public String listDeliveringMessagesAsJSON() throws Exception {
                 return control.listDeliveringMessagesAsJSON();
             }
+
+            @Override
+            public Map<String, Object>[] listScheduledMessages() throws Exception {
+                return control.listScheduledMessages();
+            }
+
+            @Override
+            public Map<String, Map<String, Object>[]> listDeliveringMessages() throws Exception {
+                return control.listDeliveringMessages();
+            }
         };
     }
 }
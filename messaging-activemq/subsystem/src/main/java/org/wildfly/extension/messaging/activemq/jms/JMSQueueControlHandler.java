@@ -9,6 +9,9 @@ import static org.apache.activemq.artemis.utils.SelectorTranslator.convertToActi
 import static org.wildfly.extension.messaging.activemq.OperationDefinitionHelper.createNonEmptyStringAttribute;
 import static org.wildfly.extension.messaging.activemq.jms.JMSQueueService.JMS_QUEUE_PREFIX;
 
+import java.util.Map;
+import javax.management.openmbean.CompositeData;
+
 import org.apache.activemq.artemis.api.core.management.QueueControl;
 import org.apache.activemq.artemis.api.core.management.ResourceNames;
 import org.jboss.as.controller.AttributeDefinition;
@@ -29,6 +32,13 @@ public class JMSQueueControlHandler extends AbstractQueueControlHandler<QueueCon
 
     private static final AttributeDefinition MESSAGE_ID = createNonEmptyStringAttribute("message-id");
 
+    private static final Map<String, String> JMS_PROPERTIES = Map.of(
+            "priority", "JMSPriority",
+            "timestamp", "JMSTimestamp",
+            "expiration", "JMSExpiration",
+            "durable", "JMSDeliveryMode",
+            "userID", "JMSMessageID");
+
     private JMSQueueControlHandler() {
     }
 
@@ -70,6 +80,11 @@ public class JMSQueueControlHandler extends AbstractQueueControlHandler<QueueCon
                 return convertToJMSProperties(result);
             }
 
+            @Override
+            public CompositeData[] browse(int page, int pageSize, String filter) throws Exception {
+                return control.browse(page, pageSize, convertToActiveMQFilterString(filter));
+            }
+
             @Override
             public long countMessages(String filter) throws Exception {
                 return control.countMessages(convertToActiveMQFilterString(filter));
@@ -191,6 +206,21 @@ public class JMSQueueControlHandler extends AbstractQueueControlHandler<QueueCon
                 return control.listDeliveringMessagesAsJSON();
             }
 
+            @Override
+            public Map<String, Object>[] listScheduledMessages() throws Exception {
+                return control.listScheduledMessages();
+            }
+
+            @Override
+            public Map<String, Map<String, Object>[]> listDeliveringMessages() throws Exception {
+                return control.listDeliveringMessages();
+            }
+
+            @Override
+            public String getMessageFieldName(String name) {
+                return JMS_PROPERTIES.getOrDefault(name, name);
+            }
+
             private String createFilterForJMSMessageID(ModelNode id) {
                 return "AMQUserID='" + id.asString() + "'";
             }
@@ -0,0 +1,155 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.messaging.activemq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+
+import org.apache.activemq.artemis.api.core.management.QueueControl;
+import org.apache.activemq.artemis.api.core.management.ResourceNames;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+import org.wildfly.extension.messaging.activemq.AbstractQueueControlHandler.DelegatingQueueControl;
+import org.wildfly.extension.messaging.activemq.jms.JMSQueueControlHandler;
+
+/**
+ * Tests the paging and the projection of the messages listed by {@link AbstractQueueControlHandler}.
+ */
+public class AbstractQueueControlHandlerTestCase {
+
+    @Test
+    public void testListMessagesBrowsesPage() throws Exception {
+        DelegatingQueueControl<?> control = mockControl();
+        when(control.browse(2, 3, "color = 'red'")).thenReturn(new CompositeData[] { message(4L, 4), message(5L, 4) });
+
+        ModelNode result = AbstractQueueControlHandler.listMessages(control, "color = 'red'", 2, 3, null);
+
+        verify(control).browse(2, 3, "color = 'red'");
+        List<ModelNode> messages = result.asList();
+        assertEquals(2, messages.size());
+        assertEquals(4L, messages.get(0).get("messageID").asLong());
+        assertEquals(4, messages.get(0).get("priority").asInt());
+        assertTrue(messages.get(0).get("durable").asBoolean());
+        // properties are flattened into the message
+        assertEquals("value-4", messages.get(0).get("property").asString());
+        assertEquals(5L, messages.get(1).get("messageID").asLong());
+    }
+
+    @Test
+    public void testListMessagesProjectsFields() throws Exception {
+        DelegatingQueueControl<?> control = mockControl();
+        when(control.browse(1, AbstractQueueControlHandler.DEFAULT_PAGE_SIZE, null)).thenReturn(new CompositeData[] { message(1L, 4) });
+
+        ModelNode result = AbstractQueueControlHandler.listMessages(control, null, 1, AbstractQueueControlHandler.DEFAULT_PAGE_SIZE, Set.of("messageID", "property"));
+
+        ModelNode message = result.asList().get(0);
+        assertEquals(Set.of("messageID", "property"), message.keys());
+        assertEquals(1L, message.get("messageID").asLong());
+    }
+
+    @Test
+    public void testListScheduledMessagesSlicesPage() throws Exception {
+        DelegatingQueueControl<?> control = mockControl();
+        when(control.listScheduledMessages()).thenReturn(messages(0, 5));
+
+        assertIDs(AbstractQueueControlHandler.listScheduledMessages(control, 1, 2, null), 0, 1);
+        assertIDs(AbstractQueueControlHandler.listScheduledMessages(control, 3, 2, null), 4);
+        assertIDs(AbstractQueueControlHandler.listScheduledMessages(control, 4, 2, null));
+    }
+
+    @Test
+    public void testListDeliveringMessagesSlicesPageAcrossConsumers() throws Exception {
+        DelegatingQueueControl<?> control = mockControl();
+        Map<String, Map<String, Object>[]> delivering = new LinkedHashMap<>();
+        delivering.put("consumer-1", messages(0, 3));
+        delivering.put("consumer-2", messages(3, 3));
+        when(control.listDeliveringMessages()).thenReturn(delivering);
+
+        List<ModelNode> consumers = AbstractQueueControlHandler.listDeliveringMessages(control, 2, 2, Set.of("messageID")).asList();
+        assertEquals(2, consumers.size());
+        assertEquals("consumer-1", consumers.get(0).get("consumerName").asString());
+        assertIDs(consumers.get(0).get("elements"), 2);
+        assertEquals("consumer-2", consumers.get(1).get("consumerName").asString());
+        assertIDs(consumers.get(1).get("elements"), 3);
+        assertFalse(consumers.get(1).get("elements").asList().get(0).has("priority"));
+    }
+
+    @Test
+    public void testJMSFieldNames() throws Exception {
+        QueueControl queueControl = mock(QueueControl.class);
+        when(queueControl.listScheduledMessages()).thenReturn(messages(0, 1));
+        when(queueControl.listScheduledMessagesAsJSON()).thenReturn("[{\"messageID\":0,\"priority\":4}]");
+        ActiveMQBroker broker = mock(ActiveMQBroker.class);
+        when(broker.getResource(ResourceNames.QUEUE + "jms.queue.test")).thenReturn(queueControl);
+        AbstractQueueControlHandler<?> handler = JMSQueueControlHandler.INSTANCE;
+        DelegatingQueueControl<?> control = handler.getQueueControl(broker, "test");
+
+        // the JMS names of the fields apply to the paged listing only
+        ModelNode paged = AbstractQueueControlHandler.listScheduledMessages(control, 1, 10, Set.of("JMSPriority")).asList().get(0);
+        assertEquals(4, paged.get("JMSPriority").asInt());
+        assertFalse(paged.has("priority"));
+        // the unpaged listing keeps the JSON of the broker
+        ModelNode json = ModelNode.fromJSONString(control.listScheduledMessagesAsJSON()).asList().get(0);
+        assertEquals(4, json.get("priority").asInt());
+        assertFalse(json.has("JMSPriority"));
+    }
+
+    private static DelegatingQueueControl<?> mockControl() {
+        DelegatingQueueControl<?> control = mock(DelegatingQueueControl.class);
+        when(control.getMessageFieldName(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        return control;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object>[] messages(int first, int count) {
+        Map<String, Object>[] messages = new Map[count];
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> message = new HashMap<>();
+            message.put("messageID", (long) (first + i));
+            message.put("priority", (byte) 4);
+            messages[i] = message;
+        }
+        return messages;
+    }
+
+    private static CompositeData message(long id, int priority) throws Exception {
+        CompositeType propertyType = new CompositeType("property", "property", new String[] { "key", "value" }, new String[] { "key", "value" },
+                new OpenType<?>[] { SimpleType.STRING, SimpleType.STRING });
+        TabularType propertiesType = new TabularType("properties", "properties", propertyType, new String[] { "key" });
+        TabularDataSupport properties = new TabularDataSupport(propertiesType);
+        properties.put(new CompositeDataSupport(propertyType, new String[] { "key", "value" }, new Object[] { "property", "value-" + id }));
+        CompositeType messageType = new CompositeType("message", "message", new String[] { "messageID", "priority", "durable", "StringProperties" },
+                new String[] { "messageID", "priority", "durable", "StringProperties" },
+                new OpenType<?>[] { SimpleType.LONG, SimpleType.BYTE, SimpleType.BOOLEAN, propertiesType });
+        return new CompositeDataSupport(messageType, new String[] { "messageID", "priority", "durable", "StringProperties" },
+                new Object[] { id, (byte) priority, true, properties });
+    }
+
+    private static void assertIDs(ModelNode messages, long... ids) {
+        List<ModelNode> list = messages.asList();
+        assertEquals(ids.length, list.size());
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(ids[i], list.get(i).get("messageID").asLong());
+        }
+    }
+}
@@ -10,6 +10,10 @@ import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_H
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_HTTP_SECURITY_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_REGISTRY_RUNTIME_CAPABILITY;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -76,11 +80,19 @@ public class MetricsContextService implements Service {
                     return;
                 }
 
+                // the metrics are streamed to the response, which requires blocking IO
+                if (exchange.isInIoThread()) {
+                    exchange.dispatch(this);
+                    return;
+                }
+                exchange.startBlocking();
+
                 WildFlyMetricRegistry metricRegistry = wildflyMetricRegistry.get();
                 metricRegistry.readLock();
                 try {
-                    String wildFlyMetrics = prometheusExporter.export(metricRegistry);
-                    exchange.getResponseSender().send(wildFlyMetrics);
+                    Writer writer = new BufferedWriter(new OutputStreamWriter(exchange.getOutputStream(), StandardCharsets.UTF_8));
+                    prometheusExporter.export(metricRegistry, writer);
+                    writer.flush();
                 } finally {
                     metricRegistry.unlock();
                 }
@@ -4,12 +4,17 @@
  */
 package org.wildfly.extension.metrics;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.OptionalDouble;
 import java.util.Set;
 
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.dmr.ModelNode;
 import org.wildfly.extension.metrics.MetricMetadata.MetricTag;
 
 public class PrometheusExporter {
@@ -17,37 +22,51 @@ public class PrometheusExporter {
     private static final String LF = "\n";
 
     public String export(WildFlyMetricRegistry registry) {
-        Set<String> alreadyExportedMetrics = new HashSet<String>();
-
         StringBuilder out = new StringBuilder();
+        try {
+            export(registry, out);
+        } catch (IOException e) {
+            // a StringBuilder does not throw IOException
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes the metrics of the registry in the Prometheus text format.
+     * The metrics backed by WildFly management attributes read all the attributes of their resource at once, once per export.
+     *
+     * @param registry the metric registry
+     * @param out where the metrics are written
+     * @throws IOException if the metrics can not be written
+     */
+    public void export(WildFlyMetricRegistry registry, Appendable out) throws IOException {
+        Set<String> alreadyExportedMetrics = new HashSet<String>();
+        Map<PathAddress, ModelNode> resources = new HashMap<>();
 
         for (Map.Entry<MetricID, Metric> entry : registry.getMetrics().entrySet()) {
             MetricID metricID = entry.getKey();
             String metricName = metricID.getMetricName();
             MetricMetadata metadata = registry.getMetricMetadata().get(metricName);
-            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
-            OptionalDouble metricValue = entry.getValue().getValue();
+            Metric metric = entry.getValue();
+            OptionalDouble metricValue = (metric instanceof WildFlyMetric) ? ((WildFlyMetric) metric).getValue(resources) : metric.getValue();
             // if the metric does not return a value, we skip printing the HELP and TYPE
             if (!metricValue.isPresent()) {
                 continue;
             }
-            if (!alreadyExportedMetrics.contains(metricName)) {
-                out.append("# HELP " + prometheusMetricName + " " + metadata.getDescription());
-                out.append(LF);
-                out.append("# TYPE " + prometheusMetricName + " " + metadata.getType());
-                out.append(LF);
-                alreadyExportedMetrics.add(metricName);
+            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
+            if (alreadyExportedMetrics.add(metricName)) {
+                out.append("# HELP ").append(prometheusMetricName).append(' ').append(metadata.getDescription()).append(LF);
+                out.append("# TYPE ").append(prometheusMetricName).append(' ').append(String.valueOf(metadata.getType())).append(LF);
             }
             double scaledValue = scaleToBaseUnit(metricValue.getAsDouble(), metadata.getMeasurementUnit());
+            out.append(prometheusMetricName);
             // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
             if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
-                prometheusMetricName += "_" + metadata.getBaseMetricUnit();
+                out.append('_').append(metadata.getBaseMetricUnit());
             }
-            out.append(prometheusMetricName + getTagsAsAString(metricID) + " " + scaledValue);
-            out.append(LF);
+            out.append(getTagsAsAString(metricID)).append(' ').append(String.valueOf(scaledValue)).append(LF);
         }
-
-        return out.toString();
     }
 
     private static double scaleToBaseUnit(double value, MeasurementUnit unit) {
@@ -5,14 +5,18 @@
  */
 package org.wildfly.extension.metrics;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES_ONLY;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
 import static org.wildfly.extension.metrics._private.MetricsLogger.LOGGER;
 
+import java.util.Map;
 import java.util.OptionalDouble;
 
 import org.jboss.as.controller.LocalModelControllerClient;
@@ -23,6 +27,8 @@ import org.jboss.dmr.ModelNode;
 public class WildFlyMetric implements Metric {
 
     private static final ModelNode UNDEFINED = new ModelNode();
+    // placeholder for the attributes of a resource that could not be read at once
+    private static final ModelNode UNREADABLE = new ModelNode();
 
     private LocalModelControllerClient modelControllerClient;
     private final PathAddress address;
@@ -30,6 +36,7 @@ public class WildFlyMetric implements Metric {
 
     static {
         UNDEFINED.protect();
+        UNREADABLE.protect();
     }
 
     public WildFlyMetric(LocalModelControllerClient modelControllerClient, PathAddress address, String attributeName) {
@@ -40,7 +47,25 @@ public class WildFlyMetric implements Metric {
 
     @Override
     public OptionalDouble getValue() {
-        ModelNode result = readAttributeValue(address, attributeName);
+        return toValue(readAttributeValue(address, attributeName));
+    }
+
+    /**
+     * Returns the value of the metric, reading all the attributes of its resource with a single operation.
+     * The attributes are cached so that the other metrics of the same resource do not read them again.
+     *
+     * @param resources the attributes of the resources that have already been read, keyed by resource address
+     * @return the value of the metric
+     */
+    OptionalDouble getValue(Map<PathAddress, ModelNode> resources) {
+        ModelNode attributes = resources.computeIfAbsent(address, this::readResourceAttributes);
+        if (attributes == UNREADABLE) {
+            return getValue();
+        }
+        return toValue(attributes.has(attributeName) ? attributes.get(attributeName) : UNDEFINED);
+    }
+
+    private OptionalDouble toValue(ModelNode result) {
         if (result.isDefined()) {
             try {
                 return OptionalDouble.of(result.asDouble());
@@ -73,6 +98,23 @@ public class WildFlyMetric implements Metric {
         return  response.get(RESULT);
     }
 
+    private ModelNode readResourceAttributes(PathAddress address) {
+        final ModelNode readResourceOp = new ModelNode();
+        readResourceOp.get(OP).set(READ_RESOURCE_OPERATION);
+        readResourceOp.get(OP_ADDR).set(address.toModelNode());
+        readResourceOp.get(INCLUDE_RUNTIME).set(true);
+        readResourceOp.get(ATTRIBUTES_ONLY).set(true);
+        readResourceOp.get(ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
+        ModelNode response = modelControllerClient.execute(readResourceOp);
+        String error = getFailureDescription(response);
+        if (error != null) {
+            // the metrics of this resource are read one attribute at a time instead, which reports the failures
+            LOGGER.debugf("Unable to read attributes of %s: %s.", address, error);
+            return UNREADABLE;
+        }
+        return response.get(RESULT);
+    }
+
     private String getFailureDescription(ModelNode result) {
         if (result.hasDefined(FAILURE_DESCRIPTION)) {
             return result.get(FAILURE_DESCRIPTION).toString();
@@ -0,0 +1,117 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.wildfly.extension.metrics.MetricMetadata.Type.COUNTER;
+import static org.wildfly.extension.metrics.MetricMetadata.Type.GAUGE;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link PrometheusExporter}
+ */
+public class PrometheusExporterTestCase {
+
+    private static final PathAddress POOL = PathAddress.parseCLIStyleAddress("/subsystem=datasources/data-source=ExampleDS/statistics=pool");
+    private static final PathAddress QUEUE = PathAddress.parseCLIStyleAddress("/subsystem=messaging/queue=test");
+
+    private final List<ModelNode> operations = new ArrayList<>();
+
+    @Test
+    public void testExportReadsEachResourceOnce() throws Exception {
+        ModelNode pool = new ModelNode();
+        pool.get("ActiveCount").set(2);
+        pool.get("AvailableCount").set(18);
+        pool.get("JndiName").set("java:jboss/datasources/ExampleDS");
+        LocalModelControllerClient client = this.createClient(Map.of(POOL, pool));
+
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        this.register(registry, client, POOL, "ActiveCount", GAUGE);
+        this.register(registry, client, POOL, "AvailableCount", GAUGE);
+        // not returned by the resource, e.g. an undefined metric
+        this.register(registry, client, POOL, "CreatedCount", COUNTER);
+
+        StringBuilder out = new StringBuilder();
+        new PrometheusExporter().export(registry, out);
+
+        Assert.assertEquals(String.join("\n",
+                "# HELP datasources_pool_active_count ActiveCount",
+                "# TYPE datasources_pool_active_count gauge",
+                "datasources_pool_active_count{data_source=\"ExampleDS\"} 2.0",
+                "# HELP datasources_pool_available_count AvailableCount",
+                "# TYPE datasources_pool_available_count gauge",
+                "datasources_pool_available_count{data_source=\"ExampleDS\"} 18.0",
+                ""), out.toString());
+        Assert.assertEquals(1, this.operations.size());
+        Assert.assertEquals(READ_RESOURCE_OPERATION, this.operations.get(0).get(OP).asString());
+    }
+
+    @Test
+    public void testExportFallsBackToReadAttribute() throws Exception {
+        // the resource can not be read at once
+        LocalModelControllerClient client = this.createClient(Map.of());
+
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        this.register(registry, client, QUEUE, "message-count", GAUGE);
+
+        String out = new PrometheusExporter().export(registry);
+
+        Assert.assertEquals(String.join("\n",
+                "# HELP messaging_message_count message-count",
+                "# TYPE messaging_message_count gauge",
+                "messaging_message_count{queue=\"test\"} 42.0",
+                ""), out);
+        Assert.assertEquals(2, this.operations.size());
+        Assert.assertEquals(READ_ATTRIBUTE_OPERATION, this.operations.get(1).get(OP).asString());
+    }
+
+    private void register(WildFlyMetricRegistry registry, LocalModelControllerClient client, PathAddress address, String attributeName, MetricMetadata.Type type) {
+        registry.registerMetric(new WildFlyMetric(client, address, attributeName), new WildFlyMetricMetadata(attributeName, address, null, attributeName, MeasurementUnit.NONE, type));
+    }
+
+    private LocalModelControllerClient createClient(Map<PathAddress, ModelNode> resources) {
+        return (LocalModelControllerClient) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class<?>[] { LocalModelControllerClient.class }, (proxy, method, args) -> {
+            if (!method.getName().equals("execute") || (args.length != 1) || !(args[0] instanceof ModelNode)) {
+                throw new UnsupportedOperationException(method.toString());
+            }
+            ModelNode operation = (ModelNode) args[0];
+            this.operations.add(operation);
+            PathAddress address = PathAddress.pathAddress(operation.get(OP_ADDR));
+            ModelNode response = new ModelNode();
+            if (operation.get(OP).asString().equals(READ_RESOURCE_OPERATION)) {
+                if (!resources.containsKey(address)) {
+                    response.get(OUTCOME).set("failed");
+                    response.get(FAILURE_DESCRIPTION).set("unreadable");
+                    return response;
+                }
+                response.get(RESULT).set(resources.get(address));
+            } else {
+                Assert.assertEquals("message-count", operation.get(NAME).asString());
+                response.get(RESULT).set(42);
+            }
+            response.get(OUTCOME).set(SUCCESS);
+            return response;
+        });
+    }
+}
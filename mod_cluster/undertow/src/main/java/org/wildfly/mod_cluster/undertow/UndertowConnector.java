@@ -7,9 +7,12 @@ package org.wildfly.mod_cluster.undertow;
 
 import java.net.InetAddress;
 
+import io.undertow.server.ConnectorStatistics;
+import io.undertow.server.OpenListener;
 import org.jboss.modcluster.container.Connector;
 import org.wildfly.extension.undertow.AjpListenerService;
 import org.wildfly.extension.undertow.HttpListenerService;
+import org.wildfly.extension.undertow.ListenerService;
 import org.wildfly.extension.undertow.UndertowListener;
 import org.wildfly.mod_cluster.undertow.metric.BytesReceivedStreamSourceConduit;
 import org.wildfly.mod_cluster.undertow.metric.BytesSentStreamSinkConduit;
@@ -80,35 +83,53 @@ public class UndertowConnector implements Connector {
     }
 
     /**
-     * @return int number of <em>running requests</em> on all connectors as opposed to busy threads
+     * @return int number of active requests on this listener if Undertow statistics are enabled, otherwise number of
+     *         <em>running requests</em> on all connectors as opposed to busy threads
      */
     @Override
     public int getBusyThreads() {
-        return RunningRequestsHttpHandler.getRunningRequestCount();
+        ConnectorStatistics statistics = this.getStatistics();
+        return (statistics != null) ? (int) statistics.getActiveRequests() : RunningRequestsHttpHandler.getRunningRequestCount();
     }
 
     /**
-     * @return long number of bytes sent on all connectors
+     * @return long number of bytes sent on this listener if Undertow statistics are enabled, otherwise on all connectors
      */
     @Override
     public long getBytesSent() {
-        return BytesSentStreamSinkConduit.getBytesSent();
+        ConnectorStatistics statistics = this.getStatistics();
+        return (statistics != null) ? statistics.getBytesSent() : BytesSentStreamSinkConduit.getBytesSent();
     }
 
     /**
-     * @return long number of bytes received on all listeners without HTTP request size itself
+     * @return long number of bytes received on this listener if Undertow statistics are enabled, otherwise on all
+     *         listeners without HTTP request size itself
      */
     @Override
     public long getBytesReceived() {
-        return BytesReceivedStreamSourceConduit.getBytesReceived();
+        ConnectorStatistics statistics = this.getStatistics();
+        return (statistics != null) ? statistics.getBytesReceived() : BytesReceivedStreamSourceConduit.getBytesReceived();
     }
 
     /**
-     * @return long number of requests on all listeners as opposed to only this 'connector'
+     * @return long number of requests on this listener if Undertow statistics are enabled, otherwise on all listeners
+     *         as opposed to only this 'connector'
      */
     @Override
     public long getRequestCount() {
-        return RequestCountHttpHandler.getRequestCount();
+        ConnectorStatistics statistics = this.getStatistics();
+        return (statistics != null) ? statistics.getRequestCount() : RequestCountHttpHandler.getRequestCount();
+    }
+
+    /**
+     * @return the statistics that Undertow collects for this listener, or null if statistics are not enabled
+     */
+    private ConnectorStatistics getStatistics() {
+        if (this.listener instanceof ListenerService) {
+            OpenListener openListener = ((ListenerService) this.listener).getOpenListener();
+            return (openListener != null) ? openListener.getConnectorStatistics() : null;
+        }
+        return null;
     }
 
     @Override
@@ -5,6 +5,7 @@
 
 package org.wildfly.mod_cluster.undertow.metric;
 
+import io.undertow.UndertowOptions;
 import io.undertow.server.ConduitWrapper;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
@@ -31,12 +32,15 @@ public class BytesSentHttpHandler implements HttpHandler {
 
         if (exchange == null) return;
 
-        exchange.addResponseWrapper(new ConduitWrapper<StreamSinkConduit>() {
-            @Override
-            public StreamSinkConduit wrap(ConduitFactory<StreamSinkConduit> factory, HttpServerExchange exchange) {
-                return new BytesSentStreamSinkConduit(factory.create());
-            }
-        });
+        // the listener already counts the bytes of its connections if statistics are enabled, see UndertowConnector
+        if (!exchange.getConnection().getUndertowOptions().get(UndertowOptions.ENABLE_STATISTICS, false)) {
+            exchange.addResponseWrapper(new ConduitWrapper<StreamSinkConduit>() {
+                @Override
+                public StreamSinkConduit wrap(ConduitFactory<StreamSinkConduit> factory, HttpServerExchange exchange) {
+                    return new BytesSentStreamSinkConduit(factory.create());
+                }
+            });
+        }
 
         wrappedHandler.handleRequest(exchange);
 
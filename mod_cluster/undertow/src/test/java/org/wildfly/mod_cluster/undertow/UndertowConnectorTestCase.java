@@ -4,6 +4,7 @@
  */
 package org.wildfly.mod_cluster.undertow;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -13,6 +14,8 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Collections;
 
+import io.undertow.server.ConnectorStatistics;
+import io.undertow.server.OpenListener;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.network.NetworkInterfaceBinding;
 import org.jboss.as.network.SocketBinding;
@@ -66,6 +69,24 @@ public class UndertowConnectorTestCase {
         assertSame(expected, result);
     }
 
+    @Test
+    public void getStatistics() {
+        OpenListener openListener = mock(OpenListener.class);
+        ConnectorStatistics statistics = mock(ConnectorStatistics.class);
+
+        when(this.listener.getOpenListener()).thenReturn(openListener);
+        when(openListener.getConnectorStatistics()).thenReturn(statistics);
+        when(statistics.getActiveRequests()).thenReturn(3L);
+        when(statistics.getBytesSent()).thenReturn(1024L);
+        when(statistics.getBytesReceived()).thenReturn(512L);
+        when(statistics.getRequestCount()).thenReturn(10L);
+
+        assertEquals(3, this.connector.getBusyThreads());
+        assertEquals(1024L, this.connector.getBytesSent());
+        assertEquals(512L, this.connector.getBytesReceived());
+        assertEquals(10L, this.connector.getRequestCount());
+    }
+
     @Test
     public void setAddress() throws UnknownHostException {
         connector.setAddress(InetAddress.getLocalHost());
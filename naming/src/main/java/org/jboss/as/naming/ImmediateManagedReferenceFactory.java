@@ -20,4 +20,9 @@ public class ImmediateManagedReferenceFactory implements ManagedReferenceFactory
     public ManagedReference getReference() {
         return reference;
     }
+
+    @Override
+    public boolean isImmutable() {
+        return true;
+    }
 }
@@ -169,9 +169,35 @@ public class InMemoryNamingStore implements WritableNamingStore {
             final Name emptyName = new CompositeName("");
             return new NamingContext(emptyName, this, new Hashtable<String, Object>());
         }
+        final TreeNode node = findNode(name);
+        if (node != null) {
+            return node.binding.getObject();
+        }
         return root.accept(new LookupVisitor(name));
     }
 
+    /**
+     * Walks the tree down to the node of the given name, without allocating.
+     *
+     * @param name The entry name
+     * @return The node, or {@code null} if the name contains an empty component, traverses a binding node, or is not
+     *         bound, in which case the lookup is left to the {@link LookupVisitor}
+     */
+    private TreeNode findNode(final Name name) {
+        TreeNode node = root;
+        for (int i = 0; i < name.size(); i++) {
+            final String childName = name.get(i);
+            if (childName.isEmpty() || !(node instanceof ContextNode)) {
+                return null;
+            }
+            node = ((ContextNode) node).children.get(childName);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
     @Override
     public Object lookup(Name name, boolean dereference) throws NamingException {
         // ignoring dereference arg, it's not relevant to this store impl
@@ -20,4 +20,14 @@ public interface ManagedReferenceFactory {
      * @return a reference to a managed object
      */
     ManagedReference getReference();
+
+    /**
+     * Whether the references of this factory all hold the same instance, which does not need to be released, for as
+     * long as the factory is bound. The instance of an immutable factory may be cached by the naming store.
+     *
+     * @return {@code true} if the factory is immutable, {@code false} otherwise
+     */
+    default boolean isImmutable() {
+        return false;
+    }
 }
@@ -11,9 +11,12 @@ import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.naming.Binding;
 import javax.naming.CannotProceedException;
@@ -41,16 +44,43 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  * @author Eduardo Martins
  */
 public class ServiceBasedNamingStore implements NamingStore {
+    /**
+     * Whether the stores cache the instances of their immutable bindings, unless configured otherwise
+     */
+    public static final boolean DEFAULT_LOOKUP_CACHE = Boolean.parseBoolean(
+            WildFlySecurityManager.getPropertyPrivileged("jboss.naming.lookupCache", "false"));
+
     private final Name EMPTY_NAME = new CompositeName();
     private Name baseName;
     private final ServiceRegistry serviceRegistry;
     private final ServiceName serviceNameBase;
+    private final int serviceNameBaseLength;
 
     private ConcurrentSkipListSet<ServiceName> boundServices = new ConcurrentSkipListSet<ServiceName>();
 
+    /**
+     * Index of the bound services, which resolves the name of a binding without building its service name
+     */
+    private final BoundServiceIndex boundServiceIndex = new BoundServiceIndex();
+
+    private volatile boolean lookupCache;
+    private final LongAdder lookupCacheHits = new LongAdder();
+    private final LongAdder lookupCacheMisses = new LongAdder();
+
     public ServiceBasedNamingStore(final ServiceRegistry serviceRegistry, final ServiceName serviceNameBase) {
+        this(serviceRegistry, serviceNameBase, DEFAULT_LOOKUP_CACHE);
+    }
+
+    /**
+     * @param serviceRegistry the registry of the bound services
+     * @param serviceNameBase the service name of the store, which prefixes the service names of its bindings
+     * @param lookupCache whether the store caches the instances of its immutable bindings
+     */
+    public ServiceBasedNamingStore(final ServiceRegistry serviceRegistry, final ServiceName serviceNameBase, final boolean lookupCache) {
         this.serviceRegistry = serviceRegistry;
         this.serviceNameBase = serviceNameBase;
+        this.serviceNameBaseLength = serviceNameBase.toArray().length;
+        this.lookupCache = lookupCache;
     }
 
     @Override
@@ -62,13 +92,29 @@ public class ServiceBasedNamingStore implements NamingStore {
         if (name.isEmpty()) {
             return new NamingContext(EMPTY_NAME, this, null);
         }
+        final BoundService bound = boundServiceIndex.get(name);
+        if (bound != null) {
+            final BoundService cacheEntry = dereference && lookupCache ? bound : null;
+            if (cacheEntry != null) {
+                final Object cached = cacheEntry.instance;
+                if (cached != null) {
+                    lookupCacheHits.increment();
+                    return cached;
+                }
+                lookupCacheMisses.increment();
+            }
+            final Object obj = lookup(name, bound.serviceName, dereference, cacheEntry);
+            if (obj != null) {
+                return obj;
+            }
+        }
         final ServiceName lookupName = buildServiceName(name);
-        Object obj = lookup(name.toString(), lookupName, dereference);
+        Object obj = bound != null ? null : lookup(name, lookupName, dereference);
         if (obj == null) {
             final ServiceName lower = boundServices.lower(lookupName);
             if (lower != null && lower.isParentOf(lookupName)) {
                 // Parent might be a reference or a link
-                obj = lookup(name.toString(), lower, dereference);
+                obj = lookup(name, lower, dereference);
                 //if the lower is a context that has been explicitly bound then
                 //we do not return a resolve result, as this will result in an
                 //infinite loop
@@ -106,25 +152,35 @@ public class ServiceBasedNamingStore implements NamingStore {
         return cpe;
     }
 
-    private Object lookup(final String name, final ServiceName lookupName, boolean dereference) throws NamingException {
+    private Object lookup(final Name name, final ServiceName lookupName, boolean dereference) throws NamingException {
+        return lookup(name, lookupName, dereference, null);
+    }
+
+    private Object lookup(final Name name, final ServiceName lookupName, boolean dereference, final BoundService cacheEntry) throws NamingException {
         try {
             final ServiceController<?> controller = serviceRegistry.getService(lookupName);
             if (controller != null) {
                 final Object object = controller.getValue();
                 if (dereference && object instanceof ManagedReferenceFactory) {
+                    final ManagedReferenceFactory factory = ManagedReferenceFactory.class.cast(object);
+                    final Object instance;
                     if(WildFlySecurityManager.isChecking()) {
                         //WFLY-3487 JNDI lookups should be executed in a clean access control context
-                        return AccessController.doPrivileged(new PrivilegedAction<Object>() {
+                        instance = AccessController.doPrivileged(new PrivilegedAction<Object>() {
                             @Override
                             public Object run() {
-                                final ManagedReference managedReference = ManagedReferenceFactory.class.cast(object).getReference();
+                                final ManagedReference managedReference = factory.getReference();
                                 return managedReference != null ? managedReference.getInstance() : null;
                             }
                         });
                     } else {
-                        final ManagedReference managedReference = ManagedReferenceFactory.class.cast(object).getReference();
-                        return managedReference != null ? managedReference.getInstance() : null;
+                        final ManagedReference managedReference = factory.getReference();
+                        instance = managedReference != null ? managedReference.getInstance() : null;
+                    }
+                    if (cacheEntry != null && instance != null && factory.isImmutable()) {
+                        cacheEntry.instance = instance;
                     }
+                    return instance;
                 } else {
                     return object;
                 }
@@ -132,13 +188,13 @@ public class ServiceBasedNamingStore implements NamingStore {
                 return null;
             }
         } catch (IllegalStateException e) {
-            NameNotFoundException n = new NameNotFoundException(name);
+            NameNotFoundException n = new NameNotFoundException(name.toString());
             n.initCause(e);
             throw n;
         } catch (SecurityException ex) {
             throw ex;
         } catch (Throwable t) {
-            throw NamingLogger.ROOT_LOGGER.lookupError(t, name);
+            throw NamingLogger.ROOT_LOGGER.lookupError(t, name.toString());
         }
     }
 
@@ -148,7 +204,7 @@ public class ServiceBasedNamingStore implements NamingStore {
         boolean isContextBinding = false;
         if (floor != null && floor.isParentOf(lookupName)) {
             // Parent might be a reference or a link
-            Object obj = lookup(name.toString(), floor, true);
+            Object obj = lookup(name, floor, true);
             if (obj instanceof NamingContext) {
                 isContextBinding = true;
             } else if (obj != null) {
@@ -165,7 +221,7 @@ public class ServiceBasedNamingStore implements NamingStore {
             if (childParts.length > lookupParts.length + 1) {
                 childContexts.add(childParts[lookupParts.length]);
             } else {
-                final Object binding = lookup(name.toString(), child, false);
+                final Object binding = lookup(name, child, false);
                 if (binding != null) {
                     final String bindingType;
                     if (binding instanceof ContextListManagedReferenceFactory) {
@@ -193,7 +249,7 @@ public class ServiceBasedNamingStore implements NamingStore {
         boolean isContextBinding = false;
         if (floor != null && floor.isParentOf(lookupName)) {
             // Parent might be a reference or a link
-            Object obj = lookup(name.toString(), floor, true);
+            Object obj = lookup(name, floor, true);
             if (obj instanceof NamingContext) {
                 isContextBinding = true;
             } else if (obj != null) {
@@ -209,7 +265,7 @@ public class ServiceBasedNamingStore implements NamingStore {
             if (childParts.length > lookupParts.length + 1) {
                 childContexts.add(childParts[lookupParts.length]);
             } else {
-                final Object binding = lookup(name.toString(), child, true);
+                final Object binding = lookup(name, child, true);
                 results.add(new Binding(childParts[childParts.length - 1], binding));
             }
         }
@@ -240,6 +296,7 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     public void close() throws NamingException {
         boundServices.clear();
+        boundServiceIndex.clear();
     }
 
     public void addNamingListener(Name target, int scope, NamingListener listener) {
@@ -254,12 +311,29 @@ public class ServiceBasedNamingStore implements NamingStore {
             throw NamingLogger.ROOT_LOGGER.serviceAlreadyBound(serviceName);
         }
         boundServices.add(serviceName);
+        if (serviceNameBase.isParentOf(serviceName)) {
+            boundServiceIndex.add(serviceName, serviceNameBaseLength);
+        }
     }
 
     public void remove(final ServiceName serviceName) {
+        if (serviceNameBase.isParentOf(serviceName)) {
+            boundServiceIndex.remove(serviceName, serviceNameBaseLength);
+        }
         boundServices.remove(serviceName);
     }
 
+    /**
+     * Drops the instance cached for a binding whose value was replaced in place, rather than unbound and bound again.
+     *
+     * @param serviceName the service name of the binding
+     */
+    protected void rebound(final ServiceName serviceName) {
+        if (serviceNameBase.isParentOf(serviceName)) {
+            boundServiceIndex.rebound(serviceName, serviceNameBaseLength);
+        }
+    }
+
     protected ServiceName buildServiceName(final Name name) {
         final Enumeration<String> parts = name.getAll();
         ServiceName current = serviceNameBase;
@@ -303,6 +377,40 @@ public class ServiceBasedNamingStore implements NamingStore {
         return name;
     }
 
+    /**
+     * Enables or disables caching the instances of the immutable bindings of this store.
+     *
+     * @param lookupCache whether lookups are cached
+     * @see ManagedReferenceFactory#isImmutable()
+     */
+    public void setLookupCache(final boolean lookupCache) {
+        this.lookupCache = lookupCache;
+        if (!lookupCache) {
+            boundServiceIndex.invalidate();
+        }
+    }
+
+    /**
+     * Returns whether this store caches the instances of its immutable bindings.
+     */
+    public boolean isLookupCache() {
+        return lookupCache;
+    }
+
+    /**
+     * Returns the number of lookups of this store that were served by its lookup cache.
+     */
+    public long getLookupCacheHits() {
+        return lookupCacheHits.sum();
+    }
+
+    /**
+     * Returns the number of lookups of bound names of this store that were not served by its lookup cache, while enabled.
+     */
+    public long getLookupCacheMisses() {
+        return lookupCacheMisses.sum();
+    }
+
     protected ServiceName getServiceNameBase() {
         return serviceNameBase;
     }
@@ -350,4 +458,104 @@ public class ServiceBasedNamingStore implements NamingStore {
         }
         return new CompositeName();
     }
+
+    /**
+     * Trie of the bound service names, keyed by their components relative to the base name. Lookups walk the trie
+     * with the components of the JNDI name and return the interned service name of the binding, without allocating.
+     * Updates are serialized, lookups are lock free.
+     */
+    private static final class BoundServiceIndex {
+        private final Node root = new Node();
+
+        BoundService get(final Name name) {
+            Node node = root;
+            for (int i = 0; i < name.size(); i++) {
+                final String part = name.get(i);
+                // empty components are skipped when building the service name
+                if (!part.isEmpty()) {
+                    node = node.children.get(part);
+                    if (node == null) {
+                        return null;
+                    }
+                }
+            }
+            return node.bound;
+        }
+
+        synchronized void add(final ServiceName serviceName, final int offset) {
+            final String[] parts = serviceName.toArray();
+            Node node = root;
+            for (int i = offset; i < parts.length; i++) {
+                node = node.children.computeIfAbsent(parts[i], part -> new Node());
+            }
+            node.bound = new BoundService(serviceName);
+        }
+
+        synchronized void remove(final ServiceName serviceName, final int offset) {
+            final String[] parts = serviceName.toArray();
+            final Node[] path = new Node[parts.length - offset + 1];
+            path[0] = root;
+            for (int i = offset; i < parts.length; i++) {
+                final Node child = path[i - offset].children.get(parts[i]);
+                if (child == null) {
+                    return;
+                }
+                path[i - offset + 1] = child;
+            }
+            // a lookup still holding the removed entry can no longer cache into a later binding of the same name
+            path[path.length - 1].bound = null;
+            // prune the nodes that no longer lead to a binding
+            for (int i = path.length - 1; i > 0 && path[i].bound == null && path[i].children.isEmpty(); i--) {
+                path[i - 1].children.remove(parts[offset + i - 1]);
+            }
+        }
+
+        synchronized void rebound(final ServiceName serviceName, final int offset) {
+            final String[] parts = serviceName.toArray();
+            Node node = root;
+            for (int i = offset; i < parts.length && node != null; i++) {
+                node = node.children.get(parts[i]);
+            }
+            // a fresh entry, so that a lookup which read the previous value can not cache it into the current binding
+            if (node != null && node.bound != null) {
+                node.bound = new BoundService(serviceName);
+            }
+        }
+
+        synchronized void invalidate() {
+            invalidate(root);
+        }
+
+        private static void invalidate(final Node node) {
+            final BoundService bound = node.bound;
+            if (bound != null) {
+                bound.instance = null;
+            }
+            for (Node child : node.children.values()) {
+                invalidate(child);
+            }
+        }
+
+        synchronized void clear() {
+            root.children.clear();
+            root.bound = null;
+        }
+
+        private static final class Node {
+            final Map<String, Node> children = new ConcurrentHashMap<>();
+            volatile BoundService bound;
+        }
+    }
+
+    /**
+     * A bound service, and the cached instance of its binding
+     */
+    private static final class BoundService {
+        final ServiceName serviceName;
+        volatile Object instance;
+
+        BoundService(final ServiceName serviceName) {
+            this.serviceName = serviceName;
+        }
+    }
 }
@@ -20,6 +20,7 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  */
 public final class ValueManagedReferenceFactory implements ContextListAndJndiViewManagedReferenceFactory {
     private final Supplier<?> value;
+    private final boolean immutable;
 
     /**
      * Construct a new instance.
@@ -30,6 +31,7 @@ public final class ValueManagedReferenceFactory implements ContextListAndJndiVie
     @Deprecated
     public ValueManagedReferenceFactory(final Value<?> value) {
         this.value = () -> value.getValue();
+        this.immutable = false;
     }
 
     /**
@@ -39,6 +41,7 @@ public final class ValueManagedReferenceFactory implements ContextListAndJndiVie
      */
     public ValueManagedReferenceFactory(final Object value) {
         this.value = () -> value;
+        this.immutable = true;
     }
 
     @Override
@@ -46,6 +49,11 @@ public final class ValueManagedReferenceFactory implements ContextListAndJndiVie
         return new ValueManagedReference(value.get());
     }
 
+    @Override
+    public boolean isImmutable() {
+        return immutable;
+    }
+
     @Override
     public String getInstanceClassName() {
         final Object instance = value != null ? value.get() : null;
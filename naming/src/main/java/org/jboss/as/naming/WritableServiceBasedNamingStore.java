@@ -39,7 +39,11 @@ public class WritableServiceBasedNamingStore extends ServiceBasedNamingStore imp
     private final ServiceTarget serviceTarget;
 
     public WritableServiceBasedNamingStore(ServiceRegistry serviceRegistry, ServiceName serviceNameBase, ServiceTarget serviceTarget) {
-        super(serviceRegistry, serviceNameBase);
+        this(serviceRegistry, serviceNameBase, serviceTarget, DEFAULT_LOOKUP_CACHE);
+    }
+
+    public WritableServiceBasedNamingStore(ServiceRegistry serviceRegistry, ServiceName serviceNameBase, ServiceTarget serviceTarget, boolean lookupCache) {
+        super(serviceRegistry, serviceNameBase, lookupCache);
         this.serviceTarget = serviceTarget;
     }
 
@@ -102,6 +106,7 @@ public class WritableServiceBasedNamingStore extends ServiceBasedNamingStore imp
                 duBindingReferences.add(binderService);
             }
             binderService.getManagedObjectInjector().setValue(() -> new ImmediateManagedReferenceFactory(object));
+            rebound(bindName);
         }
     }
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.naming.service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.naming.ServiceBasedNamingStore;
+
+/**
+ * Sums the lookup cache statistics of all naming stores started by a {@link NamingStoreService}, i.e. of the stores
+ * installed by the naming subsystem and of the java:app, java:module and java:comp stores of the deployments.
+ * The counts of a store are kept once it is stopped, so the totals never decrease.
+ */
+public final class LookupCacheStatistics {
+
+    private static final Set<ServiceBasedNamingStore> STORES = ConcurrentHashMap.newKeySet();
+    private static final LongAdder STOPPED_HITS = new LongAdder();
+    private static final LongAdder STOPPED_MISSES = new LongAdder();
+
+    private LookupCacheStatistics() {
+    }
+
+    static void register(final ServiceBasedNamingStore store) {
+        STORES.add(store);
+    }
+
+    static void unregister(final ServiceBasedNamingStore store) {
+        if (STORES.remove(store)) {
+            STOPPED_HITS.add(store.getLookupCacheHits());
+            STOPPED_MISSES.add(store.getLookupCacheMisses());
+        }
+    }
+
+    /**
+     * Returns the number of lookups served by the lookup caches of the naming stores.
+     */
+    public static long getHits() {
+        long result = STOPPED_HITS.sum();
+        for (ServiceBasedNamingStore store : STORES) {
+            result += store.getLookupCacheHits();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of lookups of bound names that were not served by the lookup caches of the naming stores.
+     */
+    public static long getMisses() {
+        long result = STOPPED_MISSES.sum();
+        for (ServiceBasedNamingStore store : STORES) {
+            result += store.getLookupCacheMisses();
+        }
+        return result;
+    }
+}
@@ -28,6 +28,7 @@ import org.jboss.msc.service.StopContext;
 public class NamingStoreService implements Service<ServiceBasedNamingStore> {
 
     private final boolean readOnly;
+    private final boolean lookupCache;
     private volatile ServiceBasedNamingStore store;
 
     public NamingStoreService() {
@@ -35,7 +36,16 @@ public class NamingStoreService implements Service<ServiceBasedNamingStore> {
     }
 
     public NamingStoreService(boolean readOnly) {
+        this(readOnly, ServiceBasedNamingStore.DEFAULT_LOOKUP_CACHE);
+    }
+
+    /**
+     * @param readOnly whether the store is read only
+     * @param lookupCache whether the store caches the instances of its immutable bindings
+     */
+    public NamingStoreService(boolean readOnly, boolean lookupCache) {
         this.readOnly = readOnly;
+        this.lookupCache = lookupCache;
     }
 
     /**
@@ -49,7 +59,8 @@ public class NamingStoreService implements Service<ServiceBasedNamingStore> {
             final ServiceRegistry serviceRegistry = context.getController().getServiceContainer();
             final ServiceName serviceNameBase = context.getController().getName();
             final ServiceTarget serviceTarget = context.getChildTarget();
-            store = readOnly ? new ServiceBasedNamingStore(serviceRegistry, serviceNameBase) : new WritableServiceBasedNamingStore(serviceRegistry, serviceNameBase, serviceTarget);
+            store = readOnly ? new ServiceBasedNamingStore(serviceRegistry, serviceNameBase, lookupCache) : new WritableServiceBasedNamingStore(serviceRegistry, serviceNameBase, serviceTarget, lookupCache);
+            LookupCacheStatistics.register(store);
         }
     }
 
@@ -60,6 +71,7 @@ public class NamingStoreService implements Service<ServiceBasedNamingStore> {
      */
     public void stop(StopContext context) {
         if(store != null) {
+            LookupCacheStatistics.unregister(store);
             try {
                 store.close();
                 store = null;
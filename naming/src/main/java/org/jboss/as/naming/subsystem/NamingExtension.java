@@ -75,6 +75,8 @@ public class NamingExtension implements Extension {
 
         if (context.isRuntimeOnlyRegistrationValid()) {
             registration.registerOperationHandler(NamingSubsystemRootResourceDefinition.JNDI_VIEW, JndiViewOperation.INSTANCE, false);
+            registration.registerMetric(NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_HITS, NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_METRICS_HANDLER);
+            registration.registerMetric(NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_MISSES, NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_METRICS_HANDLER);
         }
 
         subsystem.registerXMLElementWriter(NamingSubsystemXMLPersister.INSTANCE);
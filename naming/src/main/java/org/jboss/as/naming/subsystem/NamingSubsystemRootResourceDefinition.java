@@ -7,16 +7,23 @@ package org.jboss.as.naming.subsystem;
 
 import java.util.EnumSet;
 
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.naming.NamingStore;
 import org.jboss.as.naming.management.JndiViewOperation;
+import org.jboss.as.naming.service.LookupCacheStatistics;
 import org.jboss.as.naming.service.NamingService;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
 /**
@@ -48,6 +55,28 @@ public class NamingSubsystemRootResourceDefinition extends SimpleResourceDefinit
             .setReplyValueType(ModelType.STRING)
             .build();
 
+    static final AttributeDefinition LOOKUP_CACHE_HITS = new SimpleAttributeDefinitionBuilder(NamingSubsystemModel.LOOKUP_CACHE_HITS, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final AttributeDefinition LOOKUP_CACHE_MISSES = new SimpleAttributeDefinitionBuilder(NamingSubsystemModel.LOOKUP_CACHE_MISSES, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    /**
+     * Reads the statistics of the lookup caches of the naming stores of the subsystem and of the deployments.
+     */
+    static final OperationStepHandler LOOKUP_CACHE_METRICS_HANDLER = new OperationStepHandler() {
+        @Override
+        public void execute(OperationContext context, ModelNode operation) {
+            final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+            final boolean hits = NamingSubsystemModel.LOOKUP_CACHE_HITS.equals(attributeName);
+            context.getResult().set(hits ? LookupCacheStatistics.getHits() : LookupCacheStatistics.getMisses());
+        }
+    };
+
     NamingSubsystemRootResourceDefinition() {
         super(PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, NamingExtension.SUBSYSTEM_NAME),
                 NamingExtension.getResourceDescriptionResolver(NamingExtension.SUBSYSTEM_NAME),
@@ -14,6 +14,7 @@ import javax.naming.CompositeName;
 import javax.naming.Context;
 import javax.naming.Name;
 import javax.naming.NameClassPair;
+import javax.naming.NameNotFoundException;
 import javax.naming.NameParser;
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
@@ -80,6 +81,43 @@ public class ServiceBasedNamingStoreTestCase {
         assertEquals(value, obj);
     }
 
+    @Test
+    public void testLookupBindingWithEmptyComponent() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
+        final Object value = new Object();
+        bindObject(bindingName, value);
+
+        assertEquals(value, store.lookup(new CompositeName("foo//bar")));
+    }
+
+    @Test
+    public void testLookupRemovedBinding() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
+        final ServiceName otherBindingName = ServiceName.JBOSS.append("foo", "baz", "qux");
+        final Object value = new Object();
+        bindObject(bindingName, value);
+        store.add(otherBindingName);
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+
+        store.remove(bindingName);
+        try {
+            store.lookup(new CompositeName("foo/bar"));
+            fail("Should have thrown a NameNotFoundException");
+        } catch (NameNotFoundException expected) {
+        }
+        assertTrue(store.lookup(new CompositeName("foo/baz")) instanceof Context);
+
+        store.remove(otherBindingName);
+        try {
+            store.lookup(new CompositeName("foo/baz"));
+            fail("Should have thrown a NameNotFoundException");
+        } catch (NameNotFoundException expected) {
+        }
+
+        store.add(bindingName);
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+    }
+
     @Test
     public void testLookupParentContext() throws Exception {
         final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
@@ -380,7 +418,50 @@ public class ServiceBasedNamingStoreTestCase {
         fail("Child [" + name + "] not found in [" + list + "]");
     }
 
+    @Test
+    public void testLookupCache() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
+        final Object value = new Object();
+        bindObject(bindingName, value);
+        store.setLookupCache(true);
+
+        final long hits = store.getLookupCacheHits();
+        final long misses = store.getLookupCacheMisses();
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+        assertEquals(hits + 1, store.getLookupCacheHits());
+        assertEquals(misses + 1, store.getLookupCacheMisses());
+
+        // unbinding invalidates the cached instance
+        store.remove(bindingName);
+        store.add(bindingName);
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+        assertEquals(hits + 1, store.getLookupCacheHits());
+        assertEquals(misses + 2, store.getLookupCacheMisses());
+    }
+
+    @Test
+    public void testLookupCacheIgnoresMutableBindings() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
+        bindFactory(bindingName, new ManagedReferenceFactory() {
+            @Override
+            public ManagedReference getReference() {
+                return new ValueManagedReference(new Object());
+            }
+        });
+        store.setLookupCache(true);
+
+        final Object first = store.lookup(new CompositeName("foo/bar"));
+        final Object second = store.lookup(new CompositeName("foo/bar"));
+        assertNotNull(first);
+        assertTrue(first != second);
+    }
+
     private void bindObject(final ServiceName serviceName, final Object value) throws Exception {
+        bindFactory(serviceName, new ValueManagedReferenceFactory(value));
+    }
+
+    private void bindFactory(final ServiceName serviceName, final ManagedReferenceFactory factory) throws Exception {
         final CountDownLatch latch = new CountDownLatch(1);
         container.addService(serviceName, new Service<ManagedReferenceFactory>() {
             public void start(StartContext context) throws StartException {
@@ -392,7 +473,7 @@ public class ServiceBasedNamingStoreTestCase {
             }
 
             public ManagedReferenceFactory getValue() throws IllegalStateException, IllegalArgumentException {
-                return new ValueManagedReferenceFactory(value);
+                return factory;
             }
         }).install();
         latch.await();
@@ -214,6 +214,55 @@ public class WritableServiceBasedNamingStoreTestCase {
         assertEquals(newValue, store.lookup(name));
     }
 
+    @Test
+    public void testLookupCacheRebind() throws Exception {
+        final Name name = new CompositeName("test");
+        final Object value = new Object();
+        final Object newValue = new Object();
+        store.setLookupCache(true);
+        WritableServiceBasedNamingStore.pushOwner(OWNER_FOO);
+        try {
+            store.bind(name, value);
+            assertEquals(value, store.lookup(name));
+            assertEquals(value, store.lookup(name));
+            assertEquals(1L, store.getLookupCacheHits());
+
+            // rebinding replaces the value of the existing binder service, and must drop the cached instance
+            store.rebind(name, newValue);
+            assertEquals(newValue, store.lookup(name));
+            assertEquals(newValue, store.lookup(name));
+            assertEquals(2L, store.getLookupCacheHits());
+        } finally {
+            WritableServiceBasedNamingStore.popOwner();
+        }
+    }
+
+    @Test
+    public void testLookupCacheUnbind() throws Exception {
+        final Name name = new CompositeName("test");
+        final Object value = new Object();
+        final Object newValue = new Object();
+        store.setLookupCache(true);
+        WritableServiceBasedNamingStore.pushOwner(OWNER_FOO);
+        try {
+            store.bind(name, value);
+            assertEquals(value, store.lookup(name));
+            assertEquals(value, store.lookup(name));
+
+            store.unbind(name);
+            try {
+                store.lookup(name);
+                fail("Should have thrown name not found");
+            } catch (NameNotFoundException expect) {
+            }
+
+            store.bind(name, newValue);
+            assertEquals(newValue, store.lookup(name));
+        } finally {
+            WritableServiceBasedNamingStore.popOwner();
+        }
+    }
+
     @Test
     public void testRebindNoOwner() throws Exception {
         try {
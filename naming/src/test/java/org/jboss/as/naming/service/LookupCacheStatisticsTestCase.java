@@ -0,0 +1,77 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.naming.service;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import javax.naming.CompositeName;
+
+import org.jboss.as.naming.ManagedReferenceFactory;
+import org.jboss.as.naming.ServiceBasedNamingStore;
+import org.jboss.as.naming.ValueManagedReferenceFactory;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LookupCacheStatisticsTestCase {
+
+    private static final ServiceName STORE_NAME = ServiceName.JBOSS.append("test-store");
+
+    private ServiceContainer container;
+
+    @Before
+    public void setupServiceContainer() {
+        container = ServiceContainer.Factory.create();
+    }
+
+    @After
+    public void shutdownServiceContainer() throws InterruptedException {
+        container.shutdown();
+        container.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testStatisticsOfStoppedStoresAreKept() throws Exception {
+        final long hits = LookupCacheStatistics.getHits();
+        final long misses = LookupCacheStatistics.getMisses();
+
+        final ServiceController<?> storeController = container.addService(STORE_NAME, new NamingStoreService(true, true)).install();
+        container.awaitStability();
+        final ServiceBasedNamingStore store = (ServiceBasedNamingStore) storeController.getValue();
+        final ServiceName bindingName = STORE_NAME.append("foo");
+        final ManagedReferenceFactory factory = new ValueManagedReferenceFactory("value");
+        container.addService(bindingName, new Service<ManagedReferenceFactory>() {
+            public void start(StartContext context) {
+                store.add(bindingName);
+            }
+
+            public void stop(StopContext context) {
+            }
+
+            public ManagedReferenceFactory getValue() {
+                return factory;
+            }
+        }).install();
+        container.awaitStability();
+
+        assertEquals("value", store.lookup(new CompositeName("foo")));
+        assertEquals("value", store.lookup(new CompositeName("foo")));
+        assertEquals(hits + 1, LookupCacheStatistics.getHits());
+        assertEquals(misses + 1, LookupCacheStatistics.getMisses());
+
+        storeController.setMode(ServiceController.Mode.REMOVE);
+        container.awaitStability();
+        assertEquals(hits + 1, LookupCacheStatistics.getHits());
+        assertEquals(misses + 1, LookupCacheStatistics.getMisses());
+    }
+}
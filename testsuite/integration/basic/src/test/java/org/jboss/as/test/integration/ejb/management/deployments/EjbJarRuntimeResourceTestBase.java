@@ -56,7 +56,7 @@ public class EjbJarRuntimeResourceTestBase {
     private static final String TIMER_ATTRIBUTE = "timers";
 
     private static final String[] POOL_ATTRIBUTES =
-            {"pool-available-count", "pool-create-count", "pool-current-size", POOL_NAME, "pool-max-size", "pool-remove-count"};
+            {"pool-available-count", "pool-create-count", "pool-current-size", "pool-evict-count", POOL_NAME, "pool-max-size", "pool-rejected-count", "pool-remove-count"};
 
     private static final String[] TIMER_ATTRIBUTES = {"time-remaining", "next-timeout", "calendar-timer"};
     private static final String[] SCHEDULE_ATTRIBUTES = {"day-of-month", "day-of-week", "hour", "minute", "year", "timezone", "start", "end"};
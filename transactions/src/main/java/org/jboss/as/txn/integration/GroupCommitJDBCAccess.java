@@ -0,0 +1,360 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.integration;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.arjuna.ats.arjuna.objectstore.jdbc.JDBCAccess;
+import com.arjuna.ats.internal.arjuna.objectstore.jdbc.accessors.DataSourceJDBCAccess;
+
+/**
+ * {@link JDBCAccess} of the JDBC action store that commits the log writes of concurrent transactions together.
+ * <p>
+ * All connections handed out to the store share a single physical connection, which is used by one of them at a time.
+ * A commit of a connection does not commit the physical connection right away but joins the current group of commits
+ * and waits until the group is committed, so that its writes are durable when the commit returns. The first commit of
+ * a group waits up to the group commit window for further commits, or until the group reaches its maximum size, and
+ * then commits the writes of the whole group with a single database commit.
+ * <p>
+ * A rollback rolls back the pending writes of the whole group, so the commits that joined the group fail as well.
+ * <p>
+ * The settings are appended to those of the {@link DataSourceJDBCAccess} in the JDBC access configuration, e.g.
+ * {@code datasourceName=java:jboss/datasources/TxDS;groupCommitWindow=5;groupCommitMaxSize=32}.
+ */
+public class GroupCommitJDBCAccess implements JDBCAccess {
+
+    /**
+     * The name of the setting holding the number of milliseconds the first commit of a group waits for further commits.
+     */
+    public static final String GROUP_COMMIT_WINDOW = "groupCommitWindow";
+    /**
+     * The name of the setting holding the number of commits after which a group is committed without further waiting.
+     */
+    public static final String GROUP_COMMIT_MAX_SIZE = "groupCommitMaxSize";
+
+    private static final LongAdder GROUP_COMMITS = new LongAdder();
+    private static final LongAdder GROUP_COMMITTED_WRITES = new LongAdder();
+
+    private final JDBCAccess delegate;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile long windowNanos = TimeUnit.MILLISECONDS.toNanos(5);
+    private volatile int maxSize = 32;
+    // guarded by lock
+    private Connection connection;
+    // guarded by lock
+    private Group group = new Group();
+
+    public GroupCommitJDBCAccess() {
+        this(new DataSourceJDBCAccess());
+    }
+
+    GroupCommitJDBCAccess(JDBCAccess delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns the number of database commits of the JDBC action store made for groups of commits.
+     */
+    public static long getGroupCommitCount() {
+        return GROUP_COMMITS.sum();
+    }
+
+    /**
+     * Returns the number of commits of the JDBC action store whose writes were committed as part of a group.
+     */
+    public static long getGroupCommittedWriteCount() {
+        return GROUP_COMMITTED_WRITES.sum();
+    }
+
+    @Override
+    public void initialise(StringTokenizer tokenizer) {
+        final StringBuilder remaining = new StringBuilder();
+        while (tokenizer.hasMoreTokens()) {
+            final String token = tokenizer.nextToken();
+            final int index = token.indexOf('=');
+            final String name = (index < 0) ? token : token.substring(0, index);
+            final String value = (index < 0) ? "" : token.substring(index + 1);
+            if (name.equalsIgnoreCase(GROUP_COMMIT_WINDOW)) {
+                this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(value));
+            } else if (name.equalsIgnoreCase(GROUP_COMMIT_MAX_SIZE)) {
+                this.maxSize = Integer.parseInt(value);
+            } else {
+                if (remaining.length() > 0) {
+                    remaining.append(';');
+                }
+                remaining.append(token);
+            }
+        }
+        this.delegate.initialise(new StringTokenizer(remaining.toString(), ";"));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        this.lock.lock();
+        try {
+            if (this.connection == null || this.connection.isClosed()) {
+                this.connection = this.delegate.getConnection();
+            }
+            final GroupConnection handler = new GroupConnection(this.connection);
+            return wrap(Connection.class, this.connection, handler);
+        } catch (SQLException | RuntimeException | Error e) {
+            this.lock.unlock();
+            throw e;
+        }
+    }
+
+    private static <T> T wrap(Class<T> type, Object target, GroupConnection connection) {
+        return type.cast(Proxy.newProxyInstance(GroupCommitJDBCAccess.class.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> connection.invoke(target, method, args)));
+    }
+
+    private void commit(GroupConnection connection) throws SQLException {
+        final boolean holding = connection.release(false);
+        if (!holding) {
+            this.lock.lock();
+        }
+        final Group group = this.group;
+        final boolean leader;
+        try {
+            leader = group.join();
+            // A nested connection cannot wait for others while its caller holds the physical connection
+            if (this.lock.getHoldCount() > 1 || group.size() >= this.maxSize) {
+                this.commit(group);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        if (leader && group.awaitFull(this.windowNanos, this.maxSize)) {
+            this.lock.lock();
+            try {
+                if (this.group == group) {
+                    this.commit(group);
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        group.await();
+    }
+
+    // must be called while holding the lock
+    private void commit(Group group) {
+        this.group = new Group();
+        try {
+            this.connection.commit();
+            GROUP_COMMITS.increment();
+            GROUP_COMMITTED_WRITES.add(group.size());
+            group.complete(null);
+        } catch (SQLException e) {
+            this.discardConnection();
+            group.complete(e);
+        }
+    }
+
+    private void rollback(GroupConnection connection) throws SQLException {
+        final boolean holding = connection.release(false);
+        if (!holding) {
+            this.lock.lock();
+        }
+        try {
+            final Group group = this.group;
+            this.group = new Group();
+            try {
+                this.connection.rollback();
+            } catch (SQLException e) {
+                this.discardConnection();
+                throw e;
+            } finally {
+                group.complete(new SQLException("Rolled back"));
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // must be called while holding the lock
+    private void discardConnection() {
+        final Connection connection = this.connection;
+        this.connection = null;
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // the connection is discarded anyway
+        }
+    }
+
+    /**
+     * The commits whose writes are committed together.
+     */
+    private static class Group {
+        private int size;
+        private boolean done;
+        private SQLException failure;
+
+        synchronized boolean join() {
+            this.size += 1;
+            this.notifyAll();
+            return this.size == 1;
+        }
+
+        synchronized int size() {
+            return this.size;
+        }
+
+        /**
+         * Waits until the group is full or the window has elapsed.
+         *
+         * @return {@code true} if the group still needs to be committed, {@code false} if it is done already
+         */
+        synchronized boolean awaitFull(long windowNanos, int maxSize) {
+            final long deadline = System.nanoTime() + windowNanos;
+            boolean interrupted = false;
+            try {
+                long remaining = windowNanos;
+                while (!this.done && (this.size < maxSize) && (remaining > 0)) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                    remaining = deadline - System.nanoTime();
+                }
+                return !this.done;
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        synchronized void complete(SQLException failure) {
+            this.done = true;
+            this.failure = failure;
+            this.notifyAll();
+        }
+
+        /**
+         * Waits until the writes of the group are committed, as the caller must not continue before they are durable.
+         */
+        synchronized void await() throws SQLException {
+            boolean interrupted = false;
+            try {
+                while (!this.done) {
+                    try {
+                        this.wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (this.failure != null) {
+                throw new SQLException(this.failure);
+            }
+        }
+    }
+
+    /**
+     * A connection handed out to the store, and the statements created with it. The connection holds the physical
+     * connection from its creation until it is committed, rolled back or closed; afterwards each call acquires the
+     * physical connection for its duration, e.g. to close a statement.
+     */
+    private class GroupConnection {
+        private final Connection physical;
+        private volatile boolean holding = true;
+        private volatile boolean closed = false;
+
+        GroupConnection(Connection physical) {
+            this.physical = physical;
+        }
+
+        Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            if (target == this.physical) {
+                switch (method.getName()) {
+                    case "commit":
+                        if (method.getParameterCount() == 0) {
+                            this.checkOpen();
+                            GroupCommitJDBCAccess.this.commit(this);
+                            return null;
+                        }
+                        break;
+                    case "rollback":
+                        if (method.getParameterCount() == 0) {
+                            this.checkOpen();
+                            GroupCommitJDBCAccess.this.rollback(this);
+                            return null;
+                        }
+                        break;
+                    case "close":
+                        if (!this.closed) {
+                            this.closed = true;
+                            this.release(true);
+                        }
+                        return null;
+                    case "isClosed":
+                        return this.closed || this.physical.isClosed();
+                    case "setAutoCommit":
+                        // the physical connection never commits on its own
+                        return null;
+                    case "getAutoCommit":
+                        return Boolean.FALSE;
+                    default:
+                        this.checkOpen();
+                }
+            }
+            final boolean acquire = !this.holding;
+            if (acquire) {
+                GroupCommitJDBCAccess.this.lock.lock();
+            }
+            try {
+                final Object result = method.invoke(target, args);
+                final Class<?> type = method.getReturnType();
+                if ((result != null) && type.isInterface() && type.getName().startsWith("java.sql.") && (type != Connection.class)) {
+                    return wrap(type, result, this);
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                if (acquire) {
+                    GroupCommitJDBCAccess.this.lock.unlock();
+                }
+            }
+        }
+
+        /**
+         * Stops holding the physical connection.
+         *
+         * @param unlock whether to release the lock on the physical connection, otherwise the caller takes it over
+         * @return whether this connection was holding the physical connection
+         */
+        boolean release(boolean unlock) {
+            final boolean holding = this.holding;
+            this.holding = false;
+            if (holding && unlock) {
+                GroupCommitJDBCAccess.this.lock.unlock();
+            }
+            return holding;
+        }
+
+        private void checkOpen() throws SQLException {
+            if (this.closed) {
+                throw new SQLException("Connection is closed");
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@ import com.arjuna.ats.internal.arjuna.objectstore.hornetq.HornetqJournalEnvironm
 import com.arjuna.common.internal.util.propertyservice.BeanPopulator;
 
 import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.txn.integration.GroupCommitJDBCAccess;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -85,7 +86,13 @@ public class ArjunaObjectStoreEnvironmentService implements Service {
             stateStoreObjectStoreEnvironmentBean.setObjectStoreType("com.arjuna.ats.internal.arjuna.objectstore.jdbc.JDBCStore");
             communicationStoreObjectStoreEnvironmentBean.setObjectStoreType("com.arjuna.ats.internal.arjuna.objectstore.jdbc.JDBCStore");
 
-            defaultActionStoreObjectStoreEnvironmentBean.setJdbcAccess("com.arjuna.ats.internal.arjuna.objectstore.jdbc.accessors.DataSourceJDBCAccess;datasourceName=" + dataSourceJndiName);
+            if (jdbcSoreConfig.getActionGroupCommitWindow() > 0) {
+                defaultActionStoreObjectStoreEnvironmentBean.setJdbcAccess(GroupCommitJDBCAccess.class.getName() + ";datasourceName=" + dataSourceJndiName
+                        + ";" + GroupCommitJDBCAccess.GROUP_COMMIT_WINDOW + "=" + jdbcSoreConfig.getActionGroupCommitWindow()
+                        + ";" + GroupCommitJDBCAccess.GROUP_COMMIT_MAX_SIZE + "=" + jdbcSoreConfig.getActionGroupCommitMaxSize());
+            } else {
+                defaultActionStoreObjectStoreEnvironmentBean.setJdbcAccess("com.arjuna.ats.internal.arjuna.objectstore.jdbc.accessors.DataSourceJDBCAccess;datasourceName=" + dataSourceJndiName);
+            }
             stateStoreObjectStoreEnvironmentBean.setJdbcAccess("com.arjuna.ats.internal.arjuna.objectstore.jdbc.accessors.DataSourceJDBCAccess;datasourceName=" + dataSourceJndiName);
             communicationStoreObjectStoreEnvironmentBean.setJdbcAccess("com.arjuna.ats.internal.arjuna.objectstore.jdbc.accessors.DataSourceJDBCAccess;datasourceName=" + dataSourceJndiName);
 
@@ -112,10 +119,14 @@ public class ArjunaObjectStoreEnvironmentService implements Service {
         private final boolean stateDropTable;
         private final String communicationTablePrefix;
         private final boolean communicationDropTable;
+        private final int actionGroupCommitWindow;
+        private final int actionGroupCommitMaxSize;
 
-        private JdbcStoreConfig(final String actionTablePrefix, final boolean actionDropTable, final String stateTablePrefix, final boolean stateDropTable, final String communicationTablePrefix, final boolean communicationDropTable) {
+        private JdbcStoreConfig(final String actionTablePrefix, final boolean actionDropTable, final String stateTablePrefix, final boolean stateDropTable, final String communicationTablePrefix, final boolean communicationDropTable, final int actionGroupCommitWindow, final int actionGroupCommitMaxSize) {
             this.actionTablePrefix = actionTablePrefix;
             this.actionDropTable = actionDropTable;
+            this.actionGroupCommitWindow = actionGroupCommitWindow;
+            this.actionGroupCommitMaxSize = actionGroupCommitMaxSize;
             this.stateTablePrefix = stateTablePrefix;
             this.stateDropTable = stateDropTable;
             this.communicationTablePrefix = communicationTablePrefix;
@@ -130,6 +141,18 @@ public class ArjunaObjectStoreEnvironmentService implements Service {
             return actionDropTable;
         }
 
+        /**
+         * Returns the number of milliseconds the action store waits for concurrent log writes to commit them together,
+         * or 0 if each log write is committed on its own.
+         */
+        public int getActionGroupCommitWindow() {
+            return actionGroupCommitWindow;
+        }
+
+        public int getActionGroupCommitMaxSize() {
+            return actionGroupCommitMaxSize;
+        }
+
         public String getStateTablePrefix() {
             return stateTablePrefix;
         }
@@ -154,6 +177,8 @@ public class ArjunaObjectStoreEnvironmentService implements Service {
             private boolean stateDropTable;
             private String communicationTablePrefix;
             private boolean communicationDropTable;
+            private int actionGroupCommitWindow;
+            private int actionGroupCommitMaxSize;
 
         public JdbcStoreConfigBulder setActionTablePrefix(String actionTablePrefix) {
             this.actionTablePrefix = actionTablePrefix;
@@ -165,6 +190,16 @@ public class ArjunaObjectStoreEnvironmentService implements Service {
             return this;
         }
 
+        public JdbcStoreConfigBulder setActionGroupCommitWindow(int actionGroupCommitWindow) {
+            this.actionGroupCommitWindow = actionGroupCommitWindow;
+            return this;
+        }
+
+        public JdbcStoreConfigBulder setActionGroupCommitMaxSize(int actionGroupCommitMaxSize) {
+            this.actionGroupCommitMaxSize = actionGroupCommitMaxSize;
+            return this;
+        }
+
         public JdbcStoreConfigBulder setStateTablePrefix(String stateTablePrefix) {
             this.stateTablePrefix = stateTablePrefix;
             return this;
@@ -186,7 +221,7 @@ public class ArjunaObjectStoreEnvironmentService implements Service {
         }
 
         public JdbcStoreConfig build() {
-            return new JdbcStoreConfig(actionTablePrefix, actionDropTable, stateTablePrefix, stateDropTable, communicationTablePrefix, communicationDropTable);
+            return new JdbcStoreConfig(actionTablePrefix, actionDropTable, stateTablePrefix, stateDropTable, communicationTablePrefix, communicationDropTable, actionGroupCommitWindow, actionGroupCommitMaxSize);
         }
     }
 }
@@ -50,14 +50,12 @@ public class TransactionSynchronizationRegistryWrapper implements TransactionSyn
             }
             JCAOrderedLastSynchronizationList jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
             if (jcaOrderedLastSynchronization == null) {
-                final ContextTransactionSynchronizationRegistry tsr = ContextTransactionSynchronizationRegistry.getInstance();
-                synchronized (key) {
-                    jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
-                    if (jcaOrderedLastSynchronization == null) {
-                        jcaOrderedLastSynchronization = new JCAOrderedLastSynchronizationList();
-                        tx.putResource(key, jcaOrderedLastSynchronization);
-                        tsr.registerInterposedSynchronization(jcaOrderedLastSynchronization);
-                    }
+                // the resources of the transaction are updated atomically, so only the thread that installs the list registers it
+                final JCAOrderedLastSynchronizationList newSynchronization = new JCAOrderedLastSynchronizationList();
+                jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.putResourceIfAbsent(key, newSynchronization);
+                if (jcaOrderedLastSynchronization == null) {
+                    jcaOrderedLastSynchronization = newSynchronization;
+                    ContextTransactionSynchronizationRegistry.getInstance().registerInterposedSynchronization(jcaOrderedLastSynchronization);
                 }
             }
             jcaOrderedLastSynchronization.registerInterposedSynchronization(sync);
@@ -31,6 +31,8 @@ enum Attribute {
     DATASOURCE_JNDI_NAME("datasource-jndi-name"),
     TABLE_PREFIX("table-prefix"),
     DROP_TABLE("drop-table"),
+    GROUP_COMMIT_WINDOW("group-commit-window"),
+    GROUP_COMMIT_MAX_SIZE("group-commit-max-size"),
     ENABLE_ASYNC_IO("enable-async-io"),
     JNDI_NAME(CommonAttributes.CM_JNDI_NAME),
     CM_TABLE_IMMEDIATE_CLEANUP(CommonAttributes.CM_IMMEDIATE_CLEANUP),
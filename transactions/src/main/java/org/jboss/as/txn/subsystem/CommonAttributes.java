@@ -37,6 +37,8 @@ interface CommonAttributes {
     String JDBC_STORE_DATASOURCE = "jdbc-store-datasource";
     String JDBC_ACTION_STORE_TABLE_PREFIX = "jdbc-action-store-table-prefix";
     String JDBC_ACTION_STORE_DROP_TABLE = "jdbc-action-store-drop-table";
+    String JDBC_ACTION_STORE_GROUP_COMMIT_WINDOW = "jdbc-action-store-group-commit-window";
+    String JDBC_ACTION_STORE_GROUP_COMMIT_MAX_SIZE = "jdbc-action-store-group-commit-max-size";
     String JDBC_COMMUNICATION_STORE_TABLE_PREFIX = "jdbc-communication-store-table-prefix";
     String JDBC_COMMUNICATION_STORE_DROP_TABLE = "jdbc-communication-store-drop-table";
     String JDBC_STATE_STORE_TABLE_PREFIX = "jdbc-state-store-table-prefix";
@@ -70,6 +72,8 @@ interface CommonAttributes {
     String NUMBER_OF_RESOURCE_ROLLBACKS = "number-of-resource-rollbacks";
     String NUMBER_OF_SYSTEM_ROLLBACKS = "number-of-system-rollbacks";
     String AVERAGE_COMMIT_TIME = "average-commit-time";
+    String NUMBER_OF_JDBC_STORE_GROUP_COMMITS = "number-of-jdbc-store-group-commits";
+    String NUMBER_OF_JDBC_STORE_GROUP_COMMITTED_WRITES = "number-of-jdbc-store-group-committed-writes";
 
 
     String PARTICIPANT = "participant";
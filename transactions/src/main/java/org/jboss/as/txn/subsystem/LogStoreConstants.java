@@ -27,6 +27,7 @@ class LogStoreConstants {
     static final String RECOVER = "recover";
     static final String DELETE = "delete";
     static final String REFRESH = "refresh";
+    static final String LIST_TRANSACTIONS = "list-transactions";
 
     public static final String LOG_STORE = "log-store";
     public static final String TRANSACTIONS = "transactions";
@@ -10,13 +10,21 @@ import org.jboss.as.controller.NoopOperationStepHandler;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationDefinition;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+import java.util.TreeSet;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
@@ -26,6 +34,18 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VAL
  */
 public class LogStoreDefinition extends SimpleResourceDefinition {
 
+    private static final SimpleAttributeDefinition START = SimpleAttributeDefinitionBuilder.create("start", ModelType.INT)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.ZERO)
+            .setValidator(new IntRangeValidator(0, true))
+            .build();
+
+    private static final SimpleAttributeDefinition COUNT = SimpleAttributeDefinitionBuilder.create("count", ModelType.INT)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
     private final boolean registerRuntimeOnly;
 
     public LogStoreDefinition(final LogStoreResource resource, final boolean registerRuntimeOnly) {
@@ -45,6 +65,15 @@ public class LogStoreDefinition extends SimpleResourceDefinition {
                                 .setReadOnly()
                                 .build();
         resourceRegistration.registerOperationHandler(probe, LogStoreProbeHandler.INSTANCE);
+        final OperationDefinition listTransactions = new SimpleOperationDefinitionBuilder(LogStoreConstants.LIST_TRANSACTIONS, getResourceDescriptionResolver())
+                                .withFlag(OperationEntry.Flag.HOST_CONTROLLER_ONLY)
+                                .setParameters(START, COUNT)
+                                .setReplyType(ModelType.LIST)
+                                .setReplyValueType(ModelType.OBJECT)
+                                .setRuntimeOnly()
+                                .setReadOnly()
+                                .build();
+        resourceRegistration.registerOperationHandler(listTransactions, new ListTransactionsHandler());
     }
 
 
@@ -58,6 +87,45 @@ public class LogStoreDefinition extends SimpleResourceDefinition {
         }
     }
 
+    /**
+     * Lists a page of the transactions of the current snapshot of the log store, ordered by id, so that tools do not
+     * need to read the whole snapshot with a recursive read-resource.
+     */
+    static class ListTransactionsHandler implements OperationStepHandler {
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final int start = START.resolveModelAttribute(context, operation).asInt();
+            final int count = COUNT.resolveModelAttribute(context, operation).asInt();
+            final Resource logStore = context.readResource(PathAddress.EMPTY_ADDRESS);
+            final ModelNode result = context.getResult().setEmptyList();
+
+            int index = 0;
+            int listed = 0;
+            for (String txnId : new TreeSet<>(logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS))) {
+                if (index++ < start) {
+                    continue;
+                }
+                if (listed >= count) {
+                    break;
+                }
+                final Resource transaction = logStore.getChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId));
+                if (transaction == null) {
+                    continue;
+                }
+                final ModelNode node = transaction.getModel().clone();
+                final ModelNode participants = node.get(LogStoreConstants.PARTICIPANTS).setEmptyObject();
+                for (String pAddress : new TreeSet<>(transaction.getChildrenNames(LogStoreConstants.PARTICIPANTS))) {
+                    final Resource participant = transaction.getChild(PathElement.pathElement(LogStoreConstants.PARTICIPANTS, pAddress));
+                    if (participant != null) {
+                        participants.get(pAddress).set(participant.getModel().clone());
+                    }
+                }
+                result.add(node);
+                listed++;
+            }
+        }
+    }
+
     static class ExposeAllLogsWriteAttributeHandler extends AbstractRuntimeOnlyHandler {
         @Override
         protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
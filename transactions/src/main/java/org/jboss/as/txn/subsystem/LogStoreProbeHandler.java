@@ -28,9 +28,18 @@ import javax.management.ObjectName;
 import javax.management.ReflectionException;
 
 import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Handler for exposing transaction logs
@@ -42,6 +51,7 @@ public class LogStoreProbeHandler implements OperationStepHandler {
 
     static final LogStoreProbeHandler INSTANCE = new LogStoreProbeHandler();
     static final String osMBeanName = "jboss.jta:type=ObjectStore";
+    private static final String AGE = "age-in-seconds";
     static final String JNDI_PROPNAME =
             LogStoreConstants.MODEL_TO_JMX_PARTICIPANT_NAMES.get(LogStoreConstants.JNDI_ATTRIBUTE);
 
@@ -79,60 +89,89 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         }
     }
 
-    private void addParticipants(final Resource parent, Set<ObjectInstance> participants, MBeanServer mbs)
-            throws IntrospectionException, InstanceNotFoundException, IOException, ReflectionException {
-        int i = 1;
-
-        for (ObjectInstance participant : participants) {
-            final Resource resource = new LogStoreResource.LogStoreRuntimeResource(participant.getObjectName());
-            final ModelNode model = resource.getModel();
-            Map<String, String> pAttributes = getMBeanValues(mbs,  participant.getObjectName(),
-                    LogStoreConstants.PARTICIPANT_JMX_NAMES);
-            String pAddress = pAttributes.get(JNDI_PROPNAME);
-
-            if (pAddress == null || pAddress.length() == 0) {
-                pAttributes.put(JNDI_PROPNAME, String.valueOf(i++));
-                pAddress = pAttributes.get(JNDI_PROPNAME);
+    /**
+     * Groups the object store records by transaction, from the result of a single query of the object store MBeans
+     * rather than a query for the participants of each transaction, which is quadratic in the number of records.
+     *
+     * @return the names of the participants of each transaction, by name of the transaction
+     */
+    static Map<ObjectName, Set<ObjectName>> groupRecords(Set<ObjectInstance> records) throws MalformedObjectNameException {
+        Map<ObjectName, Set<ObjectName>> transactions = new LinkedHashMap<>();
+        Map<ObjectName, Set<ObjectName>> participants = new HashMap<>();
+
+        for (ObjectInstance oi : records) {
+            ObjectName name = oi.getObjectName();
+
+            if (name.getKeyProperty("puid") != null) {
+                Hashtable<String, String> transactionProperties = new Hashtable<>(name.getKeyPropertyList());
+                transactionProperties.remove("puid");
+                ObjectName transactionName = ObjectName.getInstance(name.getDomain(), transactionProperties);
+                participants.computeIfAbsent(transactionName, key -> new LinkedHashSet<>()).add(name);
+            } else if (name.getKeyProperty("itype") != null) {
+                transactions.put(name, Collections.emptySet());
             }
-
-            addAttributes(model, LogStoreConstants.MODEL_TO_JMX_PARTICIPANT_NAMES, pAttributes);
-            // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(participant.getObjectName().getCanonicalName());
-
-            final PathElement element = PathElement.pathElement(LogStoreConstants.PARTICIPANTS, pAddress);
-            parent.registerChild(element, resource);
         }
+        for (Map.Entry<ObjectName, Set<ObjectName>> entry : transactions.entrySet()) {
+            entry.setValue(participants.getOrDefault(entry.getKey(), Collections.emptySet()));
+        }
+        return transactions;
     }
 
-    private void addTransactions(final Resource parent, Set<ObjectInstance> transactions, MBeanServer mbs)
-            throws IntrospectionException, InstanceNotFoundException, IOException,
-            ReflectionException, MalformedObjectNameException {
-
-        for (ObjectInstance oi : transactions) {
-            String transactionId = oi.getObjectName().getCanonicalName();
-
-            if (!transactionId.contains("puid") && transactionId.contains("itype")) {
-                final Resource transaction = new LogStoreResource.LogStoreRuntimeResource(oi.getObjectName());
-                final ModelNode model = transaction.getModel();
+    private static Runnable register(Resource parent, PathElement element, Resource child) {
+        return () -> {
+            // a concurrent probe may have added the record already
+            if (!parent.hasChild(element)) {
+                parent.registerChild(element, child);
+            }
+        };
+    }
 
-                Map<String, String> tAttributes = getMBeanValues(
-                        mbs,  oi.getObjectName(), LogStoreConstants.TXN_JMX_NAMES);
-                String txnId = tAttributes.get("Id");
+    private void createParticipant(ObjectName name, Set<String> addresses, MBeanServer mbs, List<Runnable> changes, Resource transaction)
+            throws IntrospectionException, InstanceNotFoundException, IOException, ReflectionException {
+        final Resource resource = new LogStoreResource.LogStoreRuntimeResource(name);
+        Map<String, String> pAttributes = getMBeanValues(mbs, name, LogStoreConstants.PARTICIPANT_JMX_NAMES);
+        String pAddress = pAttributes.get(JNDI_PROPNAME);
+
+        if (pAddress == null || pAddress.length() == 0) {
+            int i = 1;
+            while (addresses.contains(String.valueOf(i))) {
+                i++;
+            }
+            pAddress = String.valueOf(i);
+            pAttributes.put(JNDI_PROPNAME, pAddress);
+        }
+        addresses.add(pAddress);
 
-                addAttributes(model, LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, tAttributes);
-                // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(transactionId);
+        addAttributes(resource.getModel(), LogStoreConstants.MODEL_TO_JMX_PARTICIPANT_NAMES, pAttributes);
+        changes.add(register(transaction, PathElement.pathElement(LogStoreConstants.PARTICIPANTS, pAddress), resource));
+    }
 
-                String participantQuery =  transactionId + ",puid=*";
-                Set<ObjectInstance> participants = mbs.queryMBeans(new ObjectName(participantQuery), null);
+    private void addTransaction(ObjectName name, Set<ObjectName> participants, MBeanServer mbs, List<Runnable> changes, Resource parent)
+            throws IntrospectionException, InstanceNotFoundException, IOException, ReflectionException {
+        Map<String, String> tAttributes = getMBeanValues(mbs, name, LogStoreConstants.TXN_JMX_NAMES);
+        final TransactionResource transaction = new TransactionResource(name, tAttributes.get(LogStoreConstants.MODEL_TO_JMX_TXN_NAMES.get(AGE)));
 
-                addParticipants(transaction, participants, mbs);
+        addAttributes(transaction.getModel(), LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, tAttributes);
 
-                final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId);
-                parent.registerChild(element, transaction);
-            }
+        // the participants are registered before the transaction is visible in the model
+        List<Runnable> participantChanges = new ArrayList<>();
+        Set<String> addresses = new HashSet<>();
+        for (ObjectName participant : participants) {
+            createParticipant(participant, addresses, mbs, participantChanges, transaction);
+        }
+        for (Runnable change : participantChanges) {
+            change.run();
         }
+        changes.add(register(parent, PathElement.pathElement(LogStoreConstants.TRANSACTIONS, tAttributes.get("Id")), transaction));
     }
 
-    private Resource probeTransactions(MBeanServer mbs, boolean exposeAllLogs)
+    /**
+     * Compares the records of the object store with the previous snapshot of the log store, and reads the records that
+     * were added to the object store.
+     *
+     * @return the changes to apply to the snapshot
+     */
+    List<Runnable> probeTransactions(MBeanServer mbs, boolean exposeAllLogs, Resource logStore)
             throws OperationFailedException {
         try {
             ObjectName on = new ObjectName(osMBeanName);
@@ -140,11 +179,58 @@ public class LogStoreProbeHandler implements OperationStepHandler {
             mbs.setAttribute(on, new javax.management.Attribute("ExposeAllRecordsAsMBeans", Boolean.valueOf(exposeAllLogs)));
             mbs.invoke(on, "probe", null, null);
 
-            Set<ObjectInstance> transactions = mbs.queryMBeans(new ObjectName(osMBeanName +  ",*"), null);
+            Map<ObjectName, Set<ObjectName>> records = groupRecords(mbs.queryMBeans(new ObjectName(osMBeanName +  ",*"), null));
 
-            final Resource resource = Resource.Factory.create();
-            addTransactions(resource, transactions, mbs);
-            return resource;
+            // the transactions of the previous snapshot, by name of their record
+            Map<ObjectName, Map.Entry<PathElement, Resource>> snapshot = new HashMap<>();
+            for (String txnId : logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS)) {
+                PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId);
+                Resource transaction = logStore.getChild(element);
+                if (transaction != null) {
+                    snapshot.put(LogStoreResource.getObjectName(transaction), new AbstractMap.SimpleImmutableEntry<>(element, transaction));
+                }
+            }
+
+            List<Runnable> changes = new ArrayList<>();
+            for (Map.Entry<ObjectName, Map.Entry<PathElement, Resource>> entry : snapshot.entrySet()) {
+                if (!records.containsKey(entry.getKey())) {
+                    PathElement element = entry.getValue().getKey();
+                    changes.add(() -> logStore.removeChild(element));
+                }
+            }
+            for (Map.Entry<ObjectName, Set<ObjectName>> record : records.entrySet()) {
+                Map.Entry<PathElement, Resource> existing = snapshot.get(record.getKey());
+
+                if (existing == null) {
+                    addTransaction(record.getKey(), record.getValue(), mbs, changes, logStore);
+                } else {
+                    Resource transaction = existing.getValue();
+                    Set<String> addresses = new HashSet<>(transaction.getChildrenNames(LogStoreConstants.PARTICIPANTS));
+                    Set<ObjectName> known = new HashSet<>();
+
+                    for (String pAddress : transaction.getChildrenNames(LogStoreConstants.PARTICIPANTS)) {
+                        PathElement element = PathElement.pathElement(LogStoreConstants.PARTICIPANTS, pAddress);
+                        Resource participant = transaction.getChild(element);
+                        if (participant != null) {
+                            ObjectName name = LogStoreResource.getObjectName(participant);
+                            if (record.getValue().contains(name)) {
+                                known.add(name);
+                            } else {
+                                changes.add(() -> transaction.removeChild(element));
+                            }
+                        }
+                    }
+                    for (ObjectName participant : record.getValue()) {
+                        if (!known.contains(participant)) {
+                            createParticipant(participant, addresses, mbs, changes, transaction);
+                        }
+                    }
+                    if (transaction instanceof TransactionResource) {
+                        changes.add(((TransactionResource) transaction)::updateAge);
+                    }
+                }
+            }
+            return changes;
 
         } catch (JMException e) {
             throw TransactionLogger.ROOT_LOGGER.transactionDiscoveryError(e);
@@ -167,14 +253,42 @@ public class LogStoreProbeHandler implements OperationStepHandler {
             // Get the expose-all-logs parameter value
             final ModelNode subModel = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
             final boolean exposeAllLogs = LogStoreConstants.EXPOSE_ALL_LOGS.resolveModelAttribute(context, subModel).asBoolean();
-            final Resource storeModel = probeTransactions(mbs, exposeAllLogs);
-            // Replace the current model with an updated one
+            final List<Runnable> changes = probeTransactions(mbs, exposeAllLogs, logStore);
+            // Apply the changes to the current snapshot, so that the records which are still in the object store
+            // are not read again
             context.acquireControllerLock();
-            // WFLY-3020 -- don't drop the root model
-            storeModel.writeModel(logStore.getModel());
-            logStore.update(storeModel);
+            for (Runnable change : changes) {
+                change.run();
+            }
         }
         context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
     }
 
+    /**
+     * A transaction of the snapshot, which remembers when its age was read so that the age can be advanced while the
+     * transaction stays in the snapshot.
+     */
+    private static class TransactionResource extends LogStoreResource.LogStoreRuntimeResource {
+        private final long readTime = System.nanoTime();
+        private final long age;
+
+        TransactionResource(ObjectName objectName, String age) {
+            super(objectName);
+            long value;
+            try {
+                value = (age != null) ? Long.parseLong(age) : -1;
+            } catch (NumberFormatException e) {
+                value = -1;
+            }
+            this.age = value;
+        }
+
+        void updateAge() {
+            if (this.age >= 0) {
+                final ModelNode model = this.getModel().clone();
+                model.get(AGE).set(String.valueOf(this.age + TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - this.readTime)));
+                this.writeModel(model);
+            }
+        }
+    }
 }
@@ -24,11 +24,7 @@ import org.jboss.dmr.ModelNode;
  */
 class LogStoreResource implements Resource {
 
-    private volatile Resource delegate = Factory.create();
-
-    protected void update(final Resource updated) {
-        delegate = updated;
-    }
+    private final Resource delegate = Factory.create();
 
     @Override
     public ModelNode getModel() {
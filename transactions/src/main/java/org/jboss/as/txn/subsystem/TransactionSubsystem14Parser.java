@@ -238,7 +238,7 @@ class TransactionSubsystem14Parser implements XMLStreamConstants, XMLElementRead
             final Element element = Element.forName(reader.getLocalName());
             switch (element) {
                 case JDBC_ACTION_STORE: {
-                    parseJdbcStoreConfigElementAndEnrichOperation(reader, operation, TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_TABLE_PREFIX, TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_DROP_TABLE);
+                    parseJdbcActionStoreElementAndEnrichOperation(reader, operation);
                     break;
                 }
                 case JDBC_STATE_STORE: {
@@ -255,6 +255,10 @@ class TransactionSubsystem14Parser implements XMLStreamConstants, XMLElementRead
 
     }
 
+    protected void parseJdbcActionStoreElementAndEnrichOperation(final XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException {
+        parseJdbcStoreConfigElementAndEnrichOperation(reader, operation, TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_TABLE_PREFIX, TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_DROP_TABLE);
+    }
+
     protected void parseJdbcStoreConfigElementAndEnrichOperation(final XMLExtendedStreamReader reader, final ModelNode operation, final SimpleAttributeDefinition tablePrefix, final SimpleAttributeDefinition dropTable) throws XMLStreamException {
         final int count = reader.getAttributeCount();
         for (int i = 0; i < count; i++) {
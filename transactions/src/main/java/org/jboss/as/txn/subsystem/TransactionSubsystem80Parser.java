@@ -0,0 +1,56 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.txn.subsystem;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+
+import javax.xml.stream.XMLStreamException;
+
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoContent;
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoNamespaceAttribute;
+import static org.jboss.as.controller.parsing.ParseUtils.unexpectedAttribute;
+
+/**
+ * The {@link org.jboss.staxmapper.XMLElementReader} that handles the version 8.0 of Transaction subsystem xml.
+ */
+class TransactionSubsystem80Parser extends TransactionSubsystem70Parser {
+
+    TransactionSubsystem80Parser() {
+        super(Namespace.TRANSACTIONS_8_0);
+    }
+
+    TransactionSubsystem80Parser(Namespace namespace) {
+        super(namespace);
+    }
+
+    @Override
+    protected void parseJdbcActionStoreElementAndEnrichOperation(final XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException {
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+            switch (attribute) {
+                case TABLE_PREFIX:
+                    TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_TABLE_PREFIX.parseAndSetParameter(value, operation, reader);
+                    break;
+                case DROP_TABLE:
+                    TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_DROP_TABLE.parseAndSetParameter(value, operation, reader);
+                    break;
+                case GROUP_COMMIT_WINDOW:
+                    TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_GROUP_COMMIT_WINDOW.parseAndSetParameter(value, operation, reader);
+                    break;
+                case GROUP_COMMIT_MAX_SIZE:
+                    TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_GROUP_COMMIT_MAX_SIZE.parseAndSetParameter(value, operation, reader);
+                    break;
+                default:
+                    throw unexpectedAttribute(reader, i);
+            }
+        }
+        // Handle elements
+        requireNoContent(reader);
+    }
+}
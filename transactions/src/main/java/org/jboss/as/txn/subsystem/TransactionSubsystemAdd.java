@@ -138,6 +138,9 @@ class TransactionSubsystemAdd extends AbstractBoottimeAddStepHandler {
             ad.validateAndSet(operation, model);
         }
 
+        TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_GROUP_COMMIT_WINDOW.validateAndSet(operation, model);
+        TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_GROUP_COMMIT_MAX_SIZE.validateAndSet(operation, model);
+
         TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_ENABLE_ASYNC_IO.validateAndSet(operation, model);
 
         TransactionSubsystemRootResourceDefinition.STALE_TRANSACTION_TIME.validateAndSet(operation, model);
@@ -335,7 +338,9 @@ class TransactionSubsystemAdd extends AbstractBoottimeAddStepHandler {
         ArjunaObjectStoreEnvironmentService.JdbcStoreConfigBulder confiBuilder = new ArjunaObjectStoreEnvironmentService.JdbcStoreConfigBulder();
         confiBuilder.setActionDropTable(TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_DROP_TABLE.resolveModelAttribute(context, model).asBoolean())
                 .setStateDropTable(TransactionSubsystemRootResourceDefinition.JDBC_STATE_STORE_DROP_TABLE.resolveModelAttribute(context, model).asBoolean())
-                .setCommunicationDropTable(TransactionSubsystemRootResourceDefinition.JDBC_COMMUNICATION_STORE_DROP_TABLE.resolveModelAttribute(context, model).asBoolean());
+                .setCommunicationDropTable(TransactionSubsystemRootResourceDefinition.JDBC_COMMUNICATION_STORE_DROP_TABLE.resolveModelAttribute(context, model).asBoolean())
+                .setActionGroupCommitWindow(TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_GROUP_COMMIT_WINDOW.resolveModelAttribute(context, model).asInt())
+                .setActionGroupCommitMaxSize(TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_GROUP_COMMIT_MAX_SIZE.resolveModelAttribute(context, model).asInt());
 
         if (model.hasDefined(TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_TABLE_PREFIX.getName()))
             confiBuilder.setActionTablePrefix(TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_TABLE_PREFIX.resolveModelAttribute(context, model).asString());
@@ -250,6 +250,21 @@ public class TransactionSubsystemRootResourceDefinition extends SimpleResourceDe
             .setXmlName(Attribute.DROP_TABLE.getLocalName())
             .setAllowExpression(true)
             .setRequires(CommonAttributes.USE_JDBC_STORE).build();
+    public static final SimpleAttributeDefinition JDBC_ACTION_STORE_GROUP_COMMIT_WINDOW = new SimpleAttributeDefinitionBuilder(CommonAttributes.JDBC_ACTION_STORE_GROUP_COMMIT_WINDOW, ModelType.INT, true)
+            .setDefaultValue(ModelNode.ZERO)
+            .setValidator(new IntRangeValidator(0))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.RESTART_JVM)
+            .setXmlName(Attribute.GROUP_COMMIT_WINDOW.getLocalName())
+            .setAllowExpression(true)
+            .setRequires(CommonAttributes.USE_JDBC_STORE).build();
+    public static final SimpleAttributeDefinition JDBC_ACTION_STORE_GROUP_COMMIT_MAX_SIZE = new SimpleAttributeDefinitionBuilder(CommonAttributes.JDBC_ACTION_STORE_GROUP_COMMIT_MAX_SIZE, ModelType.INT, true)
+            .setDefaultValue(new ModelNode(32))
+            .setValidator(new IntRangeValidator(1))
+            .setFlags(AttributeAccess.Flag.RESTART_JVM)
+            .setXmlName(Attribute.GROUP_COMMIT_MAX_SIZE.getLocalName())
+            .setAllowExpression(true)
+            .setRequires(CommonAttributes.USE_JDBC_STORE).build();
     public static final SimpleAttributeDefinition JDBC_COMMUNICATION_STORE_TABLE_PREFIX = new SimpleAttributeDefinitionBuilder(CommonAttributes.JDBC_COMMUNICATION_STORE_TABLE_PREFIX, ModelType.STRING, true)
             .setFlags(AttributeAccess.Flag.RESTART_JVM)
             .setXmlName(Attribute.TABLE_PREFIX.getLocalName())
@@ -302,8 +317,8 @@ public class TransactionSubsystemRootResourceDefinition extends SimpleResourceDe
             BINDING, STATUS_BINDING, RECOVERY_LISTENER, TRANSACTIONS_RECOVERY_GRACEFUL_SHUTDOWN, NODE_IDENTIFIER, PROCESS_ID_UUID, PROCESS_ID_SOCKET_BINDING,
             PROCESS_ID_SOCKET_MAX_PORTS, STATISTICS_ENABLED, ENABLE_TSM_STATUS, DEFAULT_TIMEOUT, MAXIMUM_TIMEOUT,
             OBJECT_STORE_RELATIVE_TO, OBJECT_STORE_PATH, JTS, USE_HORNETQ_STORE_PARAM, USE_JOURNAL_STORE_PARAM, USE_JDBC_STORE, JDBC_STORE_DATASOURCE,
-            JDBC_ACTION_STORE_DROP_TABLE, JDBC_ACTION_STORE_TABLE_PREFIX, JDBC_COMMUNICATION_STORE_DROP_TABLE,
-            JDBC_COMMUNICATION_STORE_TABLE_PREFIX, JDBC_STATE_STORE_DROP_TABLE, JDBC_STATE_STORE_TABLE_PREFIX,
+            JDBC_ACTION_STORE_DROP_TABLE, JDBC_ACTION_STORE_TABLE_PREFIX, JDBC_ACTION_STORE_GROUP_COMMIT_WINDOW, JDBC_ACTION_STORE_GROUP_COMMIT_MAX_SIZE,
+            JDBC_COMMUNICATION_STORE_DROP_TABLE, JDBC_COMMUNICATION_STORE_TABLE_PREFIX, JDBC_STATE_STORE_DROP_TABLE, JDBC_STATE_STORE_TABLE_PREFIX,
             JOURNAL_STORE_ENABLE_ASYNC_IO, ENABLE_STATISTICS, HORNETQ_STORE_ENABLE_ASYNC_IO, STALE_TRANSACTION_TIME
     };
 
@@ -98,10 +98,14 @@ class TransactionSubsystemXMLPersister implements XMLElementWriter<SubsystemMars
             writer.writeStartElement(Element.JDBC_STORE.getLocalName());
             TransactionSubsystemRootResourceDefinition.JDBC_STORE_DATASOURCE.marshallAsAttribute(node, writer);
             if (TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_TABLE_PREFIX.isMarshallable(node)
-                    || TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_DROP_TABLE.isMarshallable(node)) {
+                    || TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_DROP_TABLE.isMarshallable(node)
+                    || TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_GROUP_COMMIT_WINDOW.isMarshallable(node)
+                    || TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_GROUP_COMMIT_MAX_SIZE.isMarshallable(node)) {
                 writer.writeEmptyElement(Element.JDBC_ACTION_STORE.getLocalName());
                 TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_TABLE_PREFIX.marshallAsAttribute(node, writer);
                 TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_DROP_TABLE.marshallAsAttribute(node, writer);
+                TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_GROUP_COMMIT_WINDOW.marshallAsAttribute(node, writer);
+                TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_GROUP_COMMIT_MAX_SIZE.marshallAsAttribute(node, writer);
             }
             if (TransactionSubsystemRootResourceDefinition.JDBC_COMMUNICATION_STORE_TABLE_PREFIX.isMarshallable(node)
                     || TransactionSubsystemRootResourceDefinition.JDBC_COMMUNICATION_STORE_DROP_TABLE.isMarshallable(node)) {
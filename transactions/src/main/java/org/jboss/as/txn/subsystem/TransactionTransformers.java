@@ -6,6 +6,8 @@
 package org.jboss.as.txn.subsystem;
 
 import static org.jboss.as.txn.subsystem.TransactionExtension.CURRENT_MODEL_VERSION;
+import static org.jboss.as.txn.subsystem.TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_GROUP_COMMIT_MAX_SIZE;
+import static org.jboss.as.txn.subsystem.TransactionSubsystemRootResourceDefinition.JDBC_ACTION_STORE_GROUP_COMMIT_WINDOW;
 import static org.jboss.as.txn.subsystem.TransactionSubsystemRootResourceDefinition.TRANSACTIONS_RECOVERY_GRACEFUL_SHUTDOWN;
 
 import org.jboss.as.controller.ModelVersion;
@@ -33,8 +35,8 @@ public class TransactionTransformers implements ExtensionTransformerRegistration
         // 7.0.0 --> 6.0.0
         ResourceTransformationDescriptionBuilder builder81 = chainedBuilder.createBuilder(CURRENT_MODEL_VERSION, MODEL_VERSION_EAP81);
         builder81.getAttributeBuilder()
-            .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, TRANSACTIONS_RECOVERY_GRACEFUL_SHUTDOWN)
-            .addRejectCheck(RejectAttributeChecker.DEFINED, TRANSACTIONS_RECOVERY_GRACEFUL_SHUTDOWN)
+            .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, TRANSACTIONS_RECOVERY_GRACEFUL_SHUTDOWN, JDBC_ACTION_STORE_GROUP_COMMIT_WINDOW, JDBC_ACTION_STORE_GROUP_COMMIT_MAX_SIZE)
+            .addRejectCheck(RejectAttributeChecker.DEFINED, TRANSACTIONS_RECOVERY_GRACEFUL_SHUTDOWN, JDBC_ACTION_STORE_GROUP_COMMIT_WINDOW, JDBC_ACTION_STORE_GROUP_COMMIT_MAX_SIZE)
             .end();
 
         chainedBuilder.buildAndRegister(subsystemRegistration, new ModelVersion[]{MODEL_VERSION_EAP81});
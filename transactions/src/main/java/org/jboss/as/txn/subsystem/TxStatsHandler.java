@@ -21,6 +21,7 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.txn.integration.GroupCommitJDBCAccess;
 import org.jboss.as.txn.logging.TransactionLogger;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -67,7 +68,13 @@ public class TxStatsHandler extends AbstractRuntimeOnlyHandler {
         AVERAGE_COMMIT_TIME(SimpleAttributeDefinitionBuilder.create(CommonAttributes.AVERAGE_COMMIT_TIME, ModelType.LONG, true)
                 .setAttributeGroup(CommonAttributes.STATISTICS)
                 .setMeasurementUnit(NANOSECONDS)
-                .build());
+                .build()),
+        NUMBER_OF_JDBC_STORE_GROUP_COMMITS(SimpleAttributeDefinitionBuilder.create(CommonAttributes.NUMBER_OF_JDBC_STORE_GROUP_COMMITS, ModelType.LONG, true)
+                .setAttributeGroup(CommonAttributes.STATISTICS)
+                .setFlags(COUNTER_METRIC).build()),
+        NUMBER_OF_JDBC_STORE_GROUP_COMMITTED_WRITES(SimpleAttributeDefinitionBuilder.create(CommonAttributes.NUMBER_OF_JDBC_STORE_GROUP_COMMITTED_WRITES, ModelType.LONG, true)
+                .setAttributeGroup(CommonAttributes.STATISTICS)
+                .setFlags(COUNTER_METRIC).build());
 
         private static final Map<String, TxStat> MAP = new HashMap<String, TxStat>();
         static {
@@ -140,6 +147,12 @@ public class TxStatsHandler extends AbstractRuntimeOnlyHandler {
                 case AVERAGE_COMMIT_TIME:
                     result.set(txStats.getAverageCommitTime());
                     break;
+                case NUMBER_OF_JDBC_STORE_GROUP_COMMITS:
+                    result.set(GroupCommitJDBCAccess.getGroupCommitCount());
+                    break;
+                case NUMBER_OF_JDBC_STORE_GROUP_COMMITTED_WRITES:
+                    result.set(GroupCommitJDBCAccess.getGroupCommittedWriteCount());
+                    break;
                 default:
                     throw new IllegalStateException(TransactionLogger.ROOT_LOGGER.unknownMetric(stat));
             }
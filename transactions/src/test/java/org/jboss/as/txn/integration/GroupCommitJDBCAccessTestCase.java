@@ -0,0 +1,158 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.integration;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.arjuna.ats.arjuna.objectstore.jdbc.JDBCAccess;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GroupCommitJDBCAccessTestCase {
+
+    private final AtomicInteger commits = new AtomicInteger();
+    private final AtomicInteger rollbacks = new AtomicInteger();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final List<String> settings = new ArrayList<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final JDBCAccess delegate = new JDBCAccess() {
+        @Override
+        public Connection getConnection() {
+            connections.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "commit":
+                        commits.incrementAndGet();
+                        return null;
+                    case "rollback":
+                        rollbacks.incrementAndGet();
+                        return null;
+                    case "isClosed":
+                        return false;
+                    default:
+                        return null;
+                }
+            });
+        }
+
+        @Override
+        public void initialise(StringTokenizer tokenizer) {
+            while (tokenizer.hasMoreTokens()) {
+                settings.add(tokenizer.nextToken());
+            }
+        }
+    };
+
+    @After
+    public void shutdownExecutor() {
+        this.executor.shutdownNow();
+    }
+
+    private GroupCommitJDBCAccess createAccess(long window, int maxSize) {
+        final GroupCommitJDBCAccess access = new GroupCommitJDBCAccess(this.delegate);
+        access.initialise(new StringTokenizer("datasourceName=java:jboss/datasources/TxDS;groupCommitWindow=" + window + ";groupCommitMaxSize=" + maxSize, ";"));
+        return access;
+    }
+
+    private Future<Void> commitAsync(GroupCommitJDBCAccess access) {
+        return this.executor.submit(() -> {
+            try (Connection connection = access.getConnection()) {
+                connection.commit();
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void testInitialise() {
+        this.createAccess(5, 32);
+        Assert.assertEquals(List.of("datasourceName=java:jboss/datasources/TxDS"), this.settings);
+    }
+
+    @Test
+    public void testConcurrentCommitsShareDatabaseCommit() throws Exception {
+        final GroupCommitJDBCAccess access = this.createAccess(TimeUnit.MINUTES.toMillis(1), 4);
+        final long groupCommits = GroupCommitJDBCAccess.getGroupCommitCount();
+        final long groupCommittedWrites = GroupCommitJDBCAccess.getGroupCommittedWriteCount();
+
+        final List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(this.commitAsync(access));
+        }
+        // the group is committed once it is full, rather than after the window
+        for (Future<Void> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+
+        Assert.assertEquals(1, this.commits.get());
+        Assert.assertEquals(1, this.connections.get());
+        Assert.assertEquals(groupCommits + 1, GroupCommitJDBCAccess.getGroupCommitCount());
+        Assert.assertEquals(groupCommittedWrites + 4, GroupCommitJDBCAccess.getGroupCommittedWriteCount());
+    }
+
+    @Test
+    public void testCommitAfterWindow() throws Exception {
+        final GroupCommitJDBCAccess access = this.createAccess(50, 32);
+        final long start = System.nanoTime();
+        try (Connection connection = access.getConnection()) {
+            connection.commit();
+        }
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertEquals(1, this.commits.get());
+    }
+
+    @Test
+    public void testRollbackFailsGroup() throws Exception {
+        final GroupCommitJDBCAccess access = this.createAccess(TimeUnit.MINUTES.toMillis(1), 32);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread committer = new Thread(() -> {
+            try (Connection connection = access.getConnection()) {
+                connection.commit();
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        committer.start();
+        // wait until the commit waits for further commits of its group
+        while (committer.getState() != Thread.State.TIMED_WAITING) {
+            Thread.yield();
+        }
+        try (Connection connection = access.getConnection()) {
+            connection.rollback();
+        }
+        committer.join(TimeUnit.SECONDS.toMillis(10));
+
+        Assert.assertTrue(failure.get() instanceof SQLException);
+        Assert.assertEquals(0, this.commits.get());
+        Assert.assertEquals(1, this.rollbacks.get());
+    }
+
+    @Test
+    public void testNestedCommit() throws Exception {
+        final GroupCommitJDBCAccess access = this.createAccess(TimeUnit.MINUTES.toMillis(1), 32);
+        try (Connection outer = access.getConnection()) {
+            try (Connection inner = access.getConnection()) {
+                // does not wait for the window while the outer connection holds the physical connection
+                inner.commit();
+            }
+            Assert.assertEquals(1, this.commits.get());
+        }
+        Assert.assertEquals(1, this.commits.get());
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.Resource;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LogStoreProbeHandlerTestCase {
+
+    private static final String TYPE = "StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction";
+
+    public interface ObjectStoreMBean {
+        boolean isExposeAllRecordsAsMBeans();
+
+        void setExposeAllRecordsAsMBeans(boolean exposeAllRecordsAsMBeans);
+
+        void probe();
+    }
+
+    public interface RecordMBean {
+        String getId();
+
+        long getAgeInSeconds();
+
+        String getType();
+
+        String getStatus();
+
+        String getJndiName();
+
+        String getEisProductName();
+
+        String getEisProductVersion();
+    }
+
+    static class ObjectStore implements ObjectStoreMBean {
+        private volatile boolean exposeAllRecordsAsMBeans;
+
+        @Override
+        public boolean isExposeAllRecordsAsMBeans() {
+            return this.exposeAllRecordsAsMBeans;
+        }
+
+        @Override
+        public void setExposeAllRecordsAsMBeans(boolean exposeAllRecordsAsMBeans) {
+            this.exposeAllRecordsAsMBeans = exposeAllRecordsAsMBeans;
+        }
+
+        @Override
+        public void probe() {
+        }
+    }
+
+    static class Record implements RecordMBean {
+        private final String id;
+        private final String jndiName;
+        final AtomicInteger reads = new AtomicInteger();
+
+        Record(String id, String jndiName) {
+            this.id = id;
+            this.jndiName = jndiName;
+        }
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public long getAgeInSeconds() {
+            return 10;
+        }
+
+        @Override
+        public String getType() {
+            this.reads.incrementAndGet();
+            return TYPE;
+        }
+
+        @Override
+        public String getStatus() {
+            return "PREPARED";
+        }
+
+        @Override
+        public String getJndiName() {
+            return this.jndiName;
+        }
+
+        @Override
+        public String getEisProductName() {
+            return "";
+        }
+
+        @Override
+        public String getEisProductVersion() {
+            return "";
+        }
+    }
+
+    private MBeanServer mbs;
+
+    @Before
+    public void createMBeanServer() throws Exception {
+        this.mbs = MBeanServerFactory.newMBeanServer();
+        this.mbs.registerMBean(new StandardMBean(new ObjectStore(), ObjectStoreMBean.class), new ObjectName(LogStoreProbeHandler.osMBeanName));
+    }
+
+    private static ObjectName transactionName(String uid) throws Exception {
+        return new ObjectName(LogStoreProbeHandler.osMBeanName + ",itype=" + TYPE + ",uid=" + uid);
+    }
+
+    private static ObjectName participantName(String uid, String puid) throws Exception {
+        return new ObjectName(LogStoreProbeHandler.osMBeanName + ",itype=" + TYPE + ",uid=" + uid + ",puid=" + puid);
+    }
+
+    private Record register(ObjectName name, String id, String jndiName) throws Exception {
+        final Record record = new Record(id, jndiName);
+        this.mbs.registerMBean(new StandardMBean(record, RecordMBean.class), name);
+        return record;
+    }
+
+    private void probe(LogStoreResource logStore) throws Exception {
+        for (Runnable change : LogStoreProbeHandler.INSTANCE.probeTransactions(this.mbs, false, logStore)) {
+            change.run();
+        }
+    }
+
+    private static Resource transaction(Resource logStore, String id) {
+        return logStore.getChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, id));
+    }
+
+    private static Resource participant(Resource transaction, String name) {
+        return transaction.getChild(PathElement.pathElement(LogStoreConstants.PARTICIPANTS, name));
+    }
+
+    @Test
+    public void testParticipantsStayWithTheirTransaction() throws Exception {
+        this.register(transactionName("a"), "a", "");
+        this.register(participantName("a", "a1"), "a1", "java:/A1");
+        this.register(participantName("a", "a2"), "a2", "");
+        this.register(transactionName("b"), "b", "");
+        this.register(participantName("b", "b1"), "b1", "java:/B1");
+        // a participant whose transaction record is not exposed
+        this.register(participantName("c", "c1"), "c1", "java:/C1");
+
+        final LogStoreResource logStore = new LogStoreResource();
+        this.probe(logStore);
+
+        Assert.assertEquals(Set.of("a", "b"), logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+        final Resource a = transaction(logStore, "a");
+        Assert.assertEquals(Set.of("java:/A1", "1"), a.getChildrenNames(LogStoreConstants.PARTICIPANTS));
+        Assert.assertEquals(participantName("a", "a1"), LogStoreResource.getObjectName(participant(a, "java:/A1")));
+        Assert.assertEquals(participantName("a", "a2"), LogStoreResource.getObjectName(participant(a, "1")));
+        final Resource b = transaction(logStore, "b");
+        Assert.assertEquals(Set.of("java:/B1"), b.getChildrenNames(LogStoreConstants.PARTICIPANTS));
+        Assert.assertEquals(participantName("b", "b1"), LogStoreResource.getObjectName(participant(b, "java:/B1")));
+        Assert.assertEquals("PREPARED", participant(b, "java:/B1").getModel().get("status").asString());
+    }
+
+    @Test
+    public void testProbeOnlyReadsChangedRecords() throws Exception {
+        final Record a = this.register(transactionName("a"), "a", "");
+        final Record a1 = this.register(participantName("a", "a1"), "a1", "");
+        this.register(transactionName("b"), "b", "");
+        this.register(participantName("b", "b1"), "b1", "java:/B1");
+
+        final LogStoreResource logStore = new LogStoreResource();
+        this.probe(logStore);
+        final Resource transaction = transaction(logStore, "a");
+        Assert.assertEquals(1, a.reads.get());
+        Assert.assertEquals(1, a1.reads.get());
+
+        this.mbs.unregisterMBean(participantName("b", "b1"));
+        this.mbs.unregisterMBean(transactionName("b"));
+        this.register(transactionName("c"), "c", "");
+        final Record a2 = this.register(participantName("a", "a2"), "a2", "");
+        this.probe(logStore);
+
+        Assert.assertEquals(Set.of("a", "c"), logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+        // the records that are still in the object store are not read again
+        Assert.assertSame(transaction, transaction(logStore, "a"));
+        Assert.assertEquals(1, a.reads.get());
+        Assert.assertEquals(1, a1.reads.get());
+        Assert.assertEquals(1, a2.reads.get());
+        Assert.assertEquals(Set.of("1", "2"), transaction.getChildrenNames(LogStoreConstants.PARTICIPANTS));
+        Assert.assertEquals(participantName("a", "a2"), LogStoreResource.getObjectName(participant(transaction, "2")));
+
+        this.mbs.unregisterMBean(participantName("a", "a1"));
+        this.probe(logStore);
+        Assert.assertEquals(Set.of("2"), transaction.getChildrenNames(LogStoreConstants.PARTICIPANTS));
+    }
+}
@@ -45,7 +45,7 @@ public class TransactionSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-txn_7_0.xsd";
+        return "schema/wildfly-txn_8_0.xsd";
     }
 
     @Override
@@ -71,6 +71,11 @@ public class TransactionSubsystemTestCase extends AbstractSubsystemBaseTest {
         standardSubsystemTest("jdbc-store.xml");
     }
 
+    @Test
+    public void testJdbcStoreGroupCommit() throws Exception {
+        standardSubsystemTest("jdbc-store-group-commit.xml");
+    }
+
     @Test
     public void testCmr() throws Exception {
         standardSubsystemTest("cmr.xml");
@@ -28,6 +28,7 @@ import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -57,22 +58,10 @@ public abstract class AbstractPersistentSessionManager implements SessionPersist
         try {
             final Marshaller marshaller = createMarshaller();
             try {
-                final Map<String, SessionEntry> serializedData = new HashMap<String, SessionEntry>();
-                for (Map.Entry<String, PersistentSession> sessionEntry : sessionData.entrySet()) {
-                    Map<String, byte[]> data = new HashMap<String, byte[]>();
-                    for (Map.Entry<String, Object> sessionAttribute : sessionEntry.getValue().getSessionData().entrySet()) {
-                        try {
-                            final ByteArrayOutputStream out = new ByteArrayOutputStream();
-                            marshaller.start(new OutputStreamByteOutput(out));
-                            marshaller.writeObject(sessionAttribute.getValue());
-                            marshaller.finish();
-                            data.put(sessionAttribute.getKey(), out.toByteArray());
-                        } catch (Exception e) {
-                            UndertowLogger.ROOT_LOGGER.failedToPersistSessionAttribute(sessionAttribute.getKey(), sessionAttribute.getValue(), sessionEntry.getKey(), e);
-                        }
-                    }
-                    serializedData.put(sessionEntry.getKey(), new SessionEntry(sessionEntry.getValue().getExpiration(), data));
-                }
+                //sessions are serialized one at a time as they are consumed, so that the serialized form of every session is not held in memory at once
+                final Iterator<Map.Entry<String, SessionEntry>> serializedData = sessionData.entrySet().stream()
+                        .map(sessionEntry -> Map.entry(sessionEntry.getKey(), serializeSession(marshaller, sessionEntry.getKey(), sessionEntry.getValue())))
+                        .iterator();
                 persistSerializedSessions(deploymentName, serializedData);
             } finally {
                 marshaller.close();
@@ -83,9 +72,38 @@ public abstract class AbstractPersistentSessionManager implements SessionPersist
 
     }
 
-    protected abstract void persistSerializedSessions(String deploymentName, Map<String, SessionEntry> serializedData) throws IOException;
+    private static SessionEntry serializeSession(Marshaller marshaller, String sessionId, PersistentSession session) {
+        Map<String, byte[]> data = new HashMap<String, byte[]>();
+        for (Map.Entry<String, Object> sessionAttribute : session.getSessionData().entrySet()) {
+            try {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                marshaller.start(new OutputStreamByteOutput(out));
+                marshaller.writeObject(sessionAttribute.getValue());
+                marshaller.finish();
+                data.put(sessionAttribute.getKey(), out.toByteArray());
+            } catch (Exception e) {
+                UndertowLogger.ROOT_LOGGER.failedToPersistSessionAttribute(sessionAttribute.getKey(), sessionAttribute.getValue(), sessionId, e);
+            }
+        }
+        return new SessionEntry(session.getExpiration(), data);
+    }
 
-    protected abstract Map<String, SessionEntry> loadSerializedSessions(final String deploymentName) throws IOException;
+    /**
+     * Persists the serialized sessions of a deployment.
+     *
+     * @param deploymentName the deployment name
+     * @param serializedData the serialized sessions, which are serialized as the iterator is consumed
+     */
+    protected abstract void persistSerializedSessions(String deploymentName, Iterator<Map.Entry<String, SessionEntry>> serializedData) throws IOException;
+
+    /**
+     * Loads the serialized sessions of a deployment, passing each of them to the consumer in turn.
+     *
+     * @param deploymentName the deployment name
+     * @param consumer the consumer of the serialized sessions
+     * @return false if no sessions were persisted for the deployment
+     */
+    protected abstract boolean loadSerializedSessions(String deploymentName, SessionEntryConsumer consumer) throws IOException, ClassNotFoundException;
 
     @Override
     public Map<String, PersistentSession> loadSessionAttributes(String deploymentName, final ClassLoader classLoader) {
@@ -93,20 +111,20 @@ public abstract class AbstractPersistentSessionManager implements SessionPersist
             Unmarshaller unmarshaller = createUnmarshaller();
             try {
                 long time = System.currentTimeMillis();
-                Map<String, SessionEntry> data = loadSerializedSessions(deploymentName);
-                if (data != null) {
-                    Map<String, PersistentSession> ret = new HashMap<String, PersistentSession>();
-                    for (Map.Entry<String, SessionEntry> sessionEntry : data.entrySet()) {
-                        if (sessionEntry.getValue().expiry.getTime() > time) {
-                            Map<String, Object> session = new HashMap<String, Object>();
-                            for (Map.Entry<String, byte[]> sessionAttribute : sessionEntry.getValue().data.entrySet()) {
-                                unmarshaller.start(new ByteBufferInput(ByteBuffer.wrap(sessionAttribute.getValue())));
-                                session.put(sessionAttribute.getKey(), unmarshaller.readObject());
-                                unmarshaller.finish();
-                            }
-                            ret.put(sessionEntry.getKey(), new PersistentSession(sessionEntry.getValue().expiry, session));
+                Map<String, PersistentSession> ret = new HashMap<String, PersistentSession>();
+                boolean loaded = loadSerializedSessions(deploymentName, (sessionId, sessionEntry) -> {
+                    //the attributes of expired sessions are never unmarshalled
+                    if (sessionEntry.expiry.getTime() > time) {
+                        Map<String, Object> session = new HashMap<String, Object>();
+                        for (Map.Entry<String, byte[]> sessionAttribute : sessionEntry.data.entrySet()) {
+                            unmarshaller.start(new ByteBufferInput(ByteBuffer.wrap(sessionAttribute.getValue())));
+                            session.put(sessionAttribute.getKey(), unmarshaller.readObject());
+                            unmarshaller.finish();
                         }
+                        ret.put(sessionId, new PersistentSession(sessionEntry.expiry, session));
                     }
+                });
+                if (loaded) {
                     return ret;
                 }
             } finally {
@@ -150,6 +168,10 @@ public abstract class AbstractPersistentSessionManager implements SessionPersist
         return this;
     }
 
+    protected interface SessionEntryConsumer {
+        void accept(String sessionId, SessionEntry sessionEntry) throws IOException, ClassNotFoundException;
+    }
+
     protected static final class SessionEntry implements Serializable {
         private final Date expiry;
         private final Map<String, byte[]> data;
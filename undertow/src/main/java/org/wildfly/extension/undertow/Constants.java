@@ -256,6 +256,7 @@ public interface Constants {
     String GET_SESSION_CREATION_TIME_MILLIS = "get-session-creation-time-millis";
     String DEFAULT_COOKIE_VERSION = "default-cookie-version";
     String PRESERVE_PATH_ON_FORWARD = "preserve-path-on-forward";
+    String PRE_COMPRESSED_RESOURCES = "pre-compressed-resources";
 
     String PROXY_PROTOCOL = "proxy-protocol";
     String MAX_POOL_SIZE = "max-pool-size";
@@ -21,6 +21,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -73,14 +74,21 @@ public class DiskBasedModularPersistentSessionManager extends AbstractPersistent
 
 
     @Override
-    protected void persistSerializedSessions(String deploymentName, Map<String, SessionEntry> serializedData) throws IOException {
+    protected void persistSerializedSessions(String deploymentName, Iterator<Map.Entry<String, SessionEntry>> serializedData) throws IOException {
         File file = new File(baseDir, deploymentName);
         FileOutputStream out = new FileOutputStream(file, false);
         try {
             Marshaller marshaller = createMarshaller();
             try {
                 marshaller.start(new OutputStreamByteOutput(out));
-                marshaller.writeObject(serializedData);
+                //each session is written as soon as it is serialized, and is not referenced by the marshaller once written
+                while (serializedData.hasNext()) {
+                    Map.Entry<String, SessionEntry> entry = serializedData.next();
+                    marshaller.writeObject(entry.getKey());
+                    marshaller.writeObject(entry.getValue());
+                    marshaller.clearInstanceCache();
+                }
+                marshaller.writeObject(null);
                 marshaller.finish();
             } finally {
                 marshaller.close();
@@ -91,10 +99,10 @@ public class DiskBasedModularPersistentSessionManager extends AbstractPersistent
     }
 
     @Override
-    protected Map<String, SessionEntry> loadSerializedSessions(String deploymentName) throws IOException {
+    protected boolean loadSerializedSessions(String deploymentName, SessionEntryConsumer consumer) throws IOException, ClassNotFoundException {
         File file = new File(baseDir, deploymentName);
         if (!file.exists()) {
-            return null;
+            return false;
         }
         FileInputStream in = new FileInputStream(file);
         try {
@@ -102,9 +110,19 @@ public class DiskBasedModularPersistentSessionManager extends AbstractPersistent
             try {
                 try {
                     unMarshaller.start(new InputStreamByteInput(in));
-                    return (Map<String, SessionEntry>) unMarshaller.readObject();
-                } catch (ClassNotFoundException e) {
-                    throw new RuntimeException(e);
+                    Object next = unMarshaller.readObject();
+                    if (next instanceof Map) {
+                        //sessions persisted by a previous release, as a single map
+                        for (Map.Entry<String, SessionEntry> entry : ((Map<String, SessionEntry>) next).entrySet()) {
+                            consumer.accept(entry.getKey(), entry.getValue());
+                        }
+                    } else {
+                        while (next != null) {
+                            consumer.accept((String) next, unMarshaller.readObject(SessionEntry.class));
+                            next = unMarshaller.readObject();
+                        }
+                    }
+                    return true;
                 } finally {
                     unMarshaller.finish();
                 }
@@ -114,6 +132,5 @@ public class DiskBasedModularPersistentSessionManager extends AbstractPersistent
         } finally {
             IoUtils.safeClose(in);
         }
-
     }
 }
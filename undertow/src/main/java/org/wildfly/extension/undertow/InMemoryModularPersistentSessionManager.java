@@ -7,8 +7,10 @@ package org.wildfly.extension.undertow;
 import io.undertow.servlet.api.SessionPersistenceManager;
 import org.jboss.modules.ModuleLoader;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -31,12 +33,21 @@ public class InMemoryModularPersistentSessionManager extends AbstractPersistentS
     private final Map<String, Map<String, SessionEntry>> sessionData = Collections.synchronizedMap(new HashMap<String, Map<String, SessionEntry>>());
 
     @Override
-    protected void persistSerializedSessions(String deploymentName, Map<String, SessionEntry> serializedData) {
-        sessionData.put(deploymentName, serializedData);
+    protected void persistSerializedSessions(String deploymentName, Iterator<Map.Entry<String, SessionEntry>> serializedData) {
+        Map<String, SessionEntry> sessions = new HashMap<String, SessionEntry>();
+        serializedData.forEachRemaining(entry -> sessions.put(entry.getKey(), entry.getValue()));
+        sessionData.put(deploymentName, sessions);
     }
 
     @Override
-    protected Map<String, SessionEntry> loadSerializedSessions(String deploymentName) {
-        return sessionData.remove(deploymentName);
+    protected boolean loadSerializedSessions(String deploymentName, SessionEntryConsumer consumer) throws IOException, ClassNotFoundException {
+        Map<String, SessionEntry> sessions = sessionData.remove(deploymentName);
+        if (sessions == null) {
+            return false;
+        }
+        for (Map.Entry<String, SessionEntry> entry : sessions.entrySet()) {
+            consumer.accept(entry.getKey(), entry.getValue());
+        }
+        return true;
     }
 }
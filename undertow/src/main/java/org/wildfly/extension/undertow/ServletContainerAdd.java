@@ -72,6 +72,7 @@ final class ServletContainerAdd extends AbstractBoottimeAddStepHandler {
         final int defaultCookieVersion = ServletContainerDefinition.DEFAULT_COOKIE_VERSION.resolveModelAttribute(resolver, model).asInt();
         final boolean preservePathOnForward = ServletContainerDefinition.PRESERVE_PATH_ON_FORWARD.resolveModelAttribute(resolver, model).asBoolean();
         boolean orphanSessionAllowed = ServletContainerDefinition.ORPHAN_SESSION_ALLOWED.resolveModelAttribute(resolver, model).asBoolean();
+        final boolean preCompressedResources = ServletContainerDefinition.PRE_COMPRESSED_RESOURCES.resolveModelAttribute(resolver, model).asBoolean();
 
         Boolean directoryListingEnabled = ServletContainerDefinition.DIRECTORY_LISTING.resolveModelAttribute(resolver, model).asBooleanOrNull();
         Integer maxSessions = ServletContainerDefinition.MAX_SESSIONS.resolveModelAttribute(resolver, model).asIntOrNull();
@@ -267,6 +268,11 @@ final class ServletContainerAdd extends AbstractBoottimeAddStepHandler {
             public boolean isOrphanSessionAllowed() {
                 return orphanSessionAllowed;
             }
+
+            @Override
+            public boolean isPreCompressedResources() {
+                return preCompressedResources;
+            }
         };
         builder.setInstance(Service.newInstance(builder.provides(ServletContainerDefinition.SERVLET_CONTAINER_CAPABILITY), service));
         builder.setInitialMode(ServiceController.Mode.ON_DEMAND);
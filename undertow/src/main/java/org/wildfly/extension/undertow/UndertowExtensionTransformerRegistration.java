@@ -43,6 +43,7 @@ public class UndertowExtensionTransformerRegistration implements ExtensionTransf
             ResourceTransformationDescriptionBuilder subsystem = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
 
             ResourceTransformationDescriptionBuilder server = subsystem.addChildResource(ServerDefinition.PATH_ELEMENT);
+            ResourceTransformationDescriptionBuilder servletContainer = subsystem.addChildResource(ServletContainerDefinition.PATH_ELEMENT);
             for (PathElement listenerPath : Set.of(HttpListenerResourceDefinition.PATH_ELEMENT, HttpsListenerResourceDefinition.PATH_ELEMENT)) {
                 if (UndertowSubsystemModel.VERSION_13_0_0.requiresTransformation(version)) {
                     server.addChildResource(listenerPath).getAttributeBuilder()
@@ -51,6 +52,13 @@ public class UndertowExtensionTransformerRegistration implements ExtensionTransf
                 }
             }
 
+            if (UndertowSubsystemModel.VERSION_16_0_0.requiresTransformation(version)) {
+                servletContainer.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ServletContainerDefinition.PRE_COMPRESSED_RESOURCES)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, ServletContainerDefinition.PRE_COMPRESSED_RESOURCES)
+                    .end();
+            }
+
             if (UndertowSubsystemModel.VERSION_15_0_0.requiresTransformation(version)) {
                 final ResourceTransformationDescriptionBuilder handlers = subsystem.addChildResource(HandlerDefinitions.PATH_ELEMENT);
                 final ResourceTransformationDescriptionBuilder reverseProxy = handlers.addChildResource(ReverseProxyHandlerDefinition.PATH_ELEMENT);
@@ -78,7 +86,6 @@ public class UndertowExtensionTransformerRegistration implements ExtensionTransf
                 ;
 
                 if (UndertowSubsystemModel.VERSION_13_0_0.requiresTransformation(version)) {
-                    final ResourceTransformationDescriptionBuilder servletContainer = subsystem.addChildResource(ServletContainerDefinition.PATH_ELEMENT);
                     servletContainer.getAttributeBuilder()
                         .setDiscard(DiscardAttributeChecker.UNDEFINED, ServletContainerDefinition.ORPHAN_SESSION_ALLOWED)
                         .addRejectCheck(RejectAttributeChecker.DEFINED, ServletContainerDefinition.ORPHAN_SESSION_ALLOWED)
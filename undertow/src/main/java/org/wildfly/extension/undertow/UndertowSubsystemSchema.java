@@ -65,10 +65,11 @@ public enum UndertowSubsystemSchema implements PersistentSubsystemSchema<Underto
     VERSION_14_0(14),   // WildFly 28-39
     VERSION_14_0_PREVIEW(14, 0, Stability.PREVIEW),   // WildFly 33-35
     VERSION_14_0_COMMUNITY(14, 0, Stability.COMMUNITY),   // WildFly 36-40
-    VERSION_15_0(15)    // WildFly 40-present
+    VERSION_15_0(15),   // WildFly 40
+    VERSION_16_0(16)    // WildFly 41-present
     ;
 
-    static final Set<UndertowSubsystemSchema> CURRENT = EnumSet.of(VERSION_15_0);
+    static final Set<UndertowSubsystemSchema> CURRENT = EnumSet.of(VERSION_16_0);
     private final VersionedNamespace<IntVersion, UndertowSubsystemSchema> namespace;
     private final PersistentResourceXMLDescription.Factory factory = PersistentResourceXMLDescription.factory(this);
 
@@ -253,6 +254,9 @@ public enum UndertowSubsystemSchema implements PersistentSubsystemSchema<Underto
         if (!this.since(UndertowSubsystemSchema.VERSION_10_0)) {
             attributes = attributes.filter(Predicate.isEqual(ServletContainerDefinition.PRESERVE_PATH_ON_FORWARD).negate());
         }
+        if (!this.since(UndertowSubsystemSchema.VERSION_16_0)) {
+            attributes = attributes.filter(Predicate.isEqual(ServletContainerDefinition.PRE_COMPRESSED_RESOURCES).negate());
+        }
         attributes.forEach(builder::addAttribute);
         return builder.build();
     }
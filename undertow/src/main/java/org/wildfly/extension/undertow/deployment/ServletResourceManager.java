@@ -9,7 +9,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jboss.vfs.VirtualFile;
 import io.undertow.server.handlers.resource.PathResourceManager;
@@ -28,6 +30,8 @@ public class ServletResourceManager implements ResourceManager {
     public static final int TRANSFER_MIN_SIZE = 1024 * 1024;
     private final PathResourceManager deploymentResourceManager;
     private final Collection<VirtualFile> overlays;
+    //index of the overlay that provides each path, null if the overlays are probed on each lookup
+    private final Map<String, VirtualFile> overlayIndex;
     private final ResourceManager[] externalOverlays;
     private final boolean explodedDeployment;
 
@@ -39,6 +43,8 @@ public class ServletResourceManager implements ResourceManager {
         deploymentResourceManager = new PathResourceManager(physicalFile, TRANSFER_MIN_SIZE, true,
                 followSymlink, !disableFileWatchService);
         this.overlays = overlays;
+        //the contents of the overlays of an exploded deployment may change, so they are not indexed
+        this.overlayIndex = (overlays != null && !explodedDeployment) ? createOverlayIndex(overlays) : null;
         if(externalOverlays == null) {
             this.externalOverlays = new ResourceManager[0];
         } else {
@@ -70,7 +76,13 @@ public class ServletResourceManager implements ResourceManager {
         if (p.startsWith("/")) {
             p = p.substring(1);
         }
-        if (overlays != null) {
+        if (overlayIndex != null) {
+            String canonical = CanonicalPathUtils.canonicalize(p);
+            VirtualFile overlay = overlayIndex.get(indexKey(canonical));
+            if (overlay != null) {
+                return new ServletResource(this, new VirtualFileResource(overlay.getPhysicalFile(), overlay.getChild(canonical), canonical));
+            }
+        } else if (overlays != null) {
             String canonical = CanonicalPathUtils.canonicalize(p); //we don't need to do this for other resources, as the underlying RM will handle it
             for (VirtualFile overlay : overlays) {
                 VirtualFile child = overlay.getChild(canonical);
@@ -97,6 +109,31 @@ public class ServletResourceManager implements ResourceManager {
         return null;
     }
 
+    private static Map<String, VirtualFile> createOverlayIndex(final Collection<VirtualFile> overlays) {
+        final Map<String, VirtualFile> index = new HashMap<>();
+        for (VirtualFile overlay : overlays) {
+            //the first overlay that provides a path wins, as when the overlays are probed in turn
+            index.putIfAbsent("", overlay);
+            for (VirtualFile child : overlay.getChildrenRecursively()) {
+                index.putIfAbsent(child.getPathNameRelativeTo(overlay), overlay);
+            }
+        }
+        return index;
+    }
+
+    private static String indexKey(final String canonical) {
+        //VirtualFile.getChild ignores leading and trailing separators
+        int start = 0;
+        int end = canonical.length();
+        while (start < end && canonical.charAt(start) == '/') {
+            ++start;
+        }
+        while (end > start && canonical.charAt(end - 1) == '/') {
+            --end;
+        }
+        return canonical.substring(start, end);
+    }
+
     @Override
     public boolean isResourceChangeListenerSupported() {
         return true;
@@ -544,6 +544,12 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
             }
             d.setOrphanSessionAllowed(servletContainer.isOrphanSessionAllowed());
 
+            if (servletContainer.isPreCompressedResources()) {
+                //the default servlet serves the .br or .gz sibling of a resource, according to the encodings accepted by the client
+                d.addPreCompressedResourceEncoding("br", ".br");
+                d.addPreCompressedResourceEncoding("gzip", ".gz");
+            }
+
             //for 2.2 apps we do not require a leading / in path mappings
             boolean is22OrOlder;
             if (d.getMajorVersion() == 1) {
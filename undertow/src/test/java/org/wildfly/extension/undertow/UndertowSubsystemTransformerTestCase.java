@@ -141,6 +141,10 @@ public class UndertowSubsystemTransformerTestCase extends AbstractSubsystemTest
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
         PathAddress subsystemAddress = PathAddress.pathAddress(UndertowRootDefinition.PATH_ELEMENT);
 
+        if (UndertowSubsystemModel.VERSION_16_0_0.requiresTransformation(this.modelVersion)) {
+            PathAddress servletContainerAddress = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "pre-compressed-container"));
+            config.addFailedAttribute(servletContainerAddress, new FailedOperationTransformationConfig.NewAttributesConfig(ServletContainerDefinition.PRE_COMPRESSED_RESOURCES));
+        }
         if (UndertowSubsystemModel.VERSION_15_0_0.requiresTransformation(this.modelVersion)) {
             PathAddress serverAddress = subsystemAddress.append(PathElement.pathElement(ServerDefinition.PATH_ELEMENT.getKey(), "default-server"));
 